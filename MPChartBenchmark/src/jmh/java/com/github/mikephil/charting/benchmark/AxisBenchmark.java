@@ -0,0 +1,55 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.renderer.XAxisRendererRadarChart;
+import com.github.mikephil.charting.renderer.YAxisRendererRadarChart;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Computation of the axis labels, done on every data change (y-axis) and on
+ * every frame (x-axis). The view port has no size, so the values are
+ * computed from the given range like on a chart that is not zoomed.
+ */
+@State(Scope.Thread)
+public class AxisBenchmark {
+
+    private YAxis mYAxis;
+    private XAxis mXAxis;
+
+    private YAxisRendererRadarChart mYAxisRenderer;
+    private XAxisRendererRadarChart mXAxisRenderer;
+
+    @Setup(Level.Trial)
+    public void setup(RadarState state) {
+
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+
+        mYAxis = new YAxis();
+        mYAxis.calculate(state.data.getYMin(), state.data.getYMax());
+
+        mXAxis = new XAxis();
+        mXAxis.calculate(0, state.spokeCount);
+
+        mYAxisRenderer = new YAxisRendererRadarChart(viewPortHandler, mYAxis, null);
+        mXAxisRenderer = new XAxisRendererRadarChart(viewPortHandler, mXAxis, null);
+    }
+
+    @Benchmark
+    public float[] yAxisComputeAxisValues() {
+        mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, false);
+        return mYAxis.mEntries;
+    }
+
+    @Benchmark
+    public float[] xAxisComputeAxisValues() {
+        mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+        return mXAxis.mEntries;
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Formatting of every value label, done on every frame that draws values.
+ */
+@State(Scope.Thread)
+public class FormatterBenchmark {
+
+    private DefaultValueFormatter mValueFormatter;
+    private DefaultAxisValueFormatter mAxisFormatter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mValueFormatter = new DefaultValueFormatter(1);
+        mAxisFormatter = new DefaultAxisValueFormatter(1);
+    }
+
+    @Benchmark
+    public void valueFormatterRadarLabel(RadarState state, Blackhole bh) {
+
+        RadarData data = state.data;
+
+        for (int i = 0; i < data.getDataSetCount(); i++) {
+
+            IRadarDataSet set = data.getDataSetByIndex(i);
+
+            for (int j = 0; j < set.getEntryCount(); j++) {
+                bh.consume(mValueFormatter.getRadarLabel(set.getEntryForIndex(j)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void axisFormatterAxisLabel(RadarState state, Blackhole bh) {
+
+        for (float value : state.values) {
+            bh.consume(mAxisFormatter.getAxisLabel(value));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.RadarDataImporter;
+import com.github.mikephil.charting.data.RadarMatrix;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Import of 1M values as CSV and as JSON, the number of profiles is the
+ * number of values divided by the spoke count.
+ */
+@State(Scope.Thread)
+public class ImporterBenchmark {
+
+    private static final int VALUE_COUNT = 1000000;
+
+    @Param({"6", "24", "120"})
+    public int spokeCount;
+
+    private char[] mCsv;
+    private char[] mJson;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        Random random = new Random(42L);
+
+        int rows = VALUE_COUNT / spokeCount;
+
+        StringBuilder csv = new StringBuilder();
+        StringBuilder json = new StringBuilder("[");
+
+        for (int i = 0; i < rows; i++) {
+
+            json.append(i == 0 ? "[" : ",[");
+
+            for (int j = 0; j < spokeCount; j++) {
+
+                String value = String.format(Locale.US, "%.3f", random.nextFloat() * 100f);
+
+                if (j > 0) {
+                    csv.append(',');
+                    json.append(',');
+                }
+
+                csv.append(value);
+                json.append(value);
+            }
+
+            csv.append('\n');
+            json.append(']');
+        }
+
+        json.append(']');
+
+        mCsv = csv.toString().toCharArray();
+        mJson = json.toString().toCharArray();
+    }
+
+    @Benchmark
+    public RadarMatrix readCsv() throws IOException {
+        return new RadarDataImporter().readCsv(new CharArrayReader(mCsv));
+    }
+
+    @Benchmark
+    public RadarMatrix readJson() throws IOException {
+        return new RadarDataImporter().readJson(new CharArrayReader(mJson));
+    }
+}
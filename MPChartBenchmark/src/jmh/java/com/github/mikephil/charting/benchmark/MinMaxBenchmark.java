@@ -0,0 +1,36 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.data.RadarData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Min / max calculation of the DataSets and of the data object, done on
+ * every data change.
+ */
+public class MinMaxBenchmark {
+
+    @Benchmark
+    public float dataSetCalcMinMax(RadarState state) {
+
+        RadarData data = state.data;
+
+        float max = 0f;
+
+        for (int i = 0; i < data.getDataSetCount(); i++) {
+
+            IRadarDataSet set = data.getDataSetByIndex(i);
+            set.calcMinMax();
+            max += set.getYMax();
+        }
+
+        return max;
+    }
+
+    @Benchmark
+    public float dataCalcMinMax(RadarState state) {
+        state.data.notifyDataChanged();
+        return state.data.getYMax();
+    }
+}
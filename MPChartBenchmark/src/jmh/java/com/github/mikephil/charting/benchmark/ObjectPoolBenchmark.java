@@ -0,0 +1,46 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.utils.MPPointF;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Obtaining and recycling pooled points, one per value like the renderers
+ * did per vertex.
+ */
+@State(Scope.Thread)
+public class ObjectPoolBenchmark {
+
+    private MPPointF[] mPoints;
+
+    @Setup(Level.Trial)
+    public void setup(RadarState state) {
+        mPoints = new MPPointF[state.spokeCount];
+    }
+
+    @Benchmark
+    public float getRecycle(RadarState state) {
+
+        float sum = 0f;
+
+        for (int i = 0; i < state.dataSetCount; i++) {
+
+            // get a point per spoke, then recycle them all like a draw pass
+            for (int j = 0; j < mPoints.length; j++) {
+                mPoints[j] = MPPointF.getInstance(j, i);
+            }
+
+            for (int j = 0; j < mPoints.length; j++) {
+                sum += mPoints[j].x;
+                MPPointF.recycleInstance(mPoints[j]);
+                mPoints[j] = null;
+            }
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.utils.RadarTransformer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Projection of all values into pixel positions, done for every DataSet on
+ * every frame. Compares the precomputed tables of the RadarTransformer with
+ * computing the range and the trigonometry per vertex.
+ */
+@State(Scope.Thread)
+public class ProjectionBenchmark {
+
+    private static final float RADIUS = 500f;
+    private static final float CENTER = 540f;
+
+    private final RadarTransformer mTransformer = new RadarTransformer();
+
+    private float[] mVertices;
+
+    private float mSliceAngle;
+    private float mYMin;
+    private float mYRange;
+
+    @Setup(Level.Trial)
+    public void setup(RadarState state) {
+
+        mVertices = new float[state.spokeCount * 2];
+
+        mSliceAngle = 360f / state.spokeCount;
+        mYMin = 0f;
+        mYRange = state.data.getYMax();
+
+        prepareTransformer(state);
+    }
+
+    @Benchmark
+    public RadarTransformer prepareTransformer(RadarState state) {
+
+        mTransformer.setSpokes(state.spokeCount, mSliceAngle, 270f);
+        mTransformer.setCenter(CENTER, CENTER);
+
+        for (int j = 0; j < state.spokeCount; j++) {
+            mTransformer.setRange(j, mYMin, mYRange, RADIUS);
+        }
+
+        return mTransformer;
+    }
+
+    @Benchmark
+    public float[] projectVertices(RadarState state) {
+
+        RadarData data = state.data;
+
+        float[] scale = mTransformer.getScale();
+        float[] offset = mTransformer.getOffset();
+        float[] cos = mTransformer.getCos();
+        float[] sin = mTransformer.getSin();
+        float cx = mTransformer.getCenterX();
+        float cy = mTransformer.getCenterY();
+
+        for (int i = 0; i < data.getDataSetCount(); i++) {
+
+            IRadarDataSet set = data.getDataSetByIndex(i);
+
+            for (int j = 0; j < set.getEntryCount(); j++) {
+
+                float r = set.getYForIndex(j) * scale[j] + offset[j];
+                mVertices[j * 2] = cx + r * cos[j];
+                mVertices[j * 2 + 1] = cy + r * sin[j];
+            }
+        }
+
+        return mVertices;
+    }
+
+    @Benchmark
+    public float[] projectVerticesTrig(RadarState state) {
+
+        RadarData data = state.data;
+
+        float factor = RADIUS / mYRange;
+
+        for (int i = 0; i < data.getDataSetCount(); i++) {
+
+            IRadarDataSet set = data.getDataSetByIndex(i);
+
+            for (int j = 0; j < set.getEntryCount(); j++) {
+
+                float r = (set.getYForIndex(j) - mYMin) * factor;
+                double angle = Math.toRadians(mSliceAngle * j + 270f);
+
+                mVertices[j * 2] = (float) (CENTER + r * Math.cos(angle));
+                mVertices[j * 2 + 1] = (float) (CENTER + r * Math.sin(angle));
+            }
+        }
+
+        return mVertices;
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarDataSet;
+import com.github.mikephil.charting.data.RadarEntry;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Chart data shared by the benchmarks: dataSetCount DataSets with spokeCount
+ * random values each. The values are seeded, every run uses the same data.
+ */
+@State(Scope.Benchmark)
+public class RadarState {
+
+    @Param({"6", "24", "120"})
+    public int spokeCount;
+
+    @Param({"1", "10", "100"})
+    public int dataSetCount;
+
+    public RadarData data;
+
+    /**
+     * all values, row by row
+     */
+    public float[] values;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        Random random = new Random(42L);
+
+        values = new float[spokeCount * dataSetCount];
+
+        List<IRadarDataSet> sets = new ArrayList<>();
+
+        for (int i = 0; i < dataSetCount; i++) {
+
+            List<RadarEntry> entries = new ArrayList<>();
+
+            for (int j = 0; j < spokeCount; j++) {
+
+                float value = random.nextFloat() * 80f + 20f;
+                values[i * spokeCount + j] = value;
+                entries.add(new RadarEntry(value));
+            }
+
+            sets.add(new RadarDataSet(entries, "Set " + i));
+        }
+
+        data = new RadarData(sets);
+    }
+}
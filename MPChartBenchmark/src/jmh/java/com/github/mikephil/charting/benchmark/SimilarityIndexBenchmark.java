@@ -0,0 +1,77 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.RadarMatrix;
+import com.github.mikephil.charting.data.RadarSimilarityIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * k-nearest queries of the RadarSimilarityIndex compared with scanning all
+ * profiles. Uses its own population sizes, the index only pays off for
+ * larger populations than a chart draws.
+ */
+@State(Scope.Thread)
+public class SimilarityIndexBenchmark {
+
+    private static final int K = 10;
+
+    @Param({"6", "24", "120"})
+    public int spokeCount;
+
+    @Param({"1000", "10000", "100000"})
+    public int dataSetCount;
+
+    private RadarSimilarityIndex mIndex;
+
+    private float[][] mQueries;
+    private int mQuery = 0;
+
+    private final int[] mIds = new int[K];
+    private final float[] mDistances = new float[K];
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        Random random = new Random(42L);
+
+        RadarMatrix matrix = new RadarMatrix(dataSetCount, spokeCount);
+
+        for (int i = 0; i < dataSetCount; i++) {
+            for (int j = 0; j < spokeCount; j++) {
+                matrix.set(i, j, random.nextFloat() * 100f);
+            }
+        }
+
+        mIndex = RadarSimilarityIndex.fromMatrix(matrix);
+
+        mQueries = new float[64][spokeCount];
+
+        for (float[] query : mQueries) {
+            for (int j = 0; j < spokeCount; j++) {
+                query[j] = random.nextFloat() * 100f;
+            }
+        }
+    }
+
+    @Benchmark
+    public int query() {
+        return mIndex.query(nextQuery(), K, mIds, mDistances);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        return mIndex.linearScan(nextQuery(), K, mIds, mDistances);
+    }
+
+    private float[] nextQuery() {
+        mQuery = (mQuery + 1) % mQueries.length;
+        return mQueries[mQuery];
+    }
+}
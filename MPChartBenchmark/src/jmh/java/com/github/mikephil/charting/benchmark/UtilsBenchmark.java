@@ -0,0 +1,40 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.utils.Utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * The numeric helpers used for the axis labels and the default formatter,
+ * applied to every value of the data.
+ */
+public class UtilsBenchmark {
+
+    @Benchmark
+    public float roundToNextSignificant(RadarState state) {
+
+        float[] values = state.values;
+
+        float sum = 0f;
+
+        for (float value : values) {
+            sum += Utils.roundToNextSignificant(value);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public int getDecimals(RadarState state) {
+
+        float[] values = state.values;
+
+        int sum = 0;
+
+        for (float value : values) {
+            sum += Utils.getDecimals(value);
+        }
+
+        return sum;
+    }
+}
@@ -7,6 +7,7 @@ import android.view.WindowManager;
 
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.github.mikephil.charting.animation.Easing;
 import com.github.mikephil.charting.charts.RadarChart;
 import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.XAxis;
@@ -45,10 +46,11 @@ public class RadarChartActivity extends AppCompatActivity {
         chart.setWebLineWidth(0.75f);
         chart.setWebColorInner(0x80000000);
         chart.setWebAlpha(100);
+        chart.setRotationEnabled(true);
 
         setData();
 
-//        chart.animateXY(1400, 1400, Easing.EaseInOutQuad);
+        chart.animateY(1400, Easing.EaseInOutQuad);
 
 
 
@@ -0,0 +1,415 @@
+package com.xxmassdeveloper.mpchartexample;
+
+import android.content.Intent;
+import android.graphics.Color;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Debug;
+import android.util.Log;
+import android.view.Choreographer;
+import android.widget.CheckBox;
+import android.widget.CompoundButton;
+import android.widget.SeekBar;
+import android.widget.TextView;
+
+import androidx.appcompat.app.AppCompatActivity;
+
+import com.github.mikephil.charting.charts.RadarChart;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarMatrix;
+import com.github.mikephil.charting.utils.RenderTimings;
+import com.github.mikephil.charting.utils.TimingHistogram;
+import com.xxmassdeveloper.mpchartexample.custom.FrameTimeView;
+
+import java.lang.ref.WeakReference;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Stress test for the radar chart: up to 1000 spokes and 10000 DataSets,
+ * periodic data updates and toggles for values, fill and legend, with a
+ * frame time graph and a status overlay (frame rate, frame time percentiles,
+ * draw time and garbage collections). The chart is redrawn on every frame.
+ * <p/>
+ * The scenario can be started with fixed settings for repeatable runs, e.g.
+ * <pre>
+ * adb shell am start -n com.xxmassdeveloper.mpchartexample/.RadarStressActivity \
+ *     --ei spokes 360 --ei datasets 1000 --ei rate 10 --ez values false \
+ *     --ez fill true --ez legend false --ez governor true \
+ *     --ez lod true --ez cull true --ez atlas true --ei duration 30
+ * </pre>
+ * With a duration (in seconds) the results are logged with the tag
+ * "RadarStress" when it has passed and the activity finishes.
+ */
+public class RadarStressActivity extends AppCompatActivity implements
+        SeekBar.OnSeekBarChangeListener, CompoundButton.OnCheckedChangeListener,
+        Choreographer.FrameCallback {
+
+    private static final String TAG = "RadarStress";
+
+    public static final String EXTRA_SPOKES = "spokes";
+    public static final String EXTRA_DATA_SETS = "datasets";
+    public static final String EXTRA_RATE = "rate";
+    public static final String EXTRA_VALUES = "values";
+    public static final String EXTRA_FILL = "fill";
+    public static final String EXTRA_LEGEND = "legend";
+    public static final String EXTRA_DURATION = "duration";
+    public static final String EXTRA_SEED = "seed";
+    public static final String EXTRA_GOVERNOR = "governor";
+    public static final String EXTRA_LOD = "lod";
+    public static final String EXTRA_CULL = "cull";
+    public static final String EXTRA_ATLAS = "atlas";
+
+    private static final int MIN_SPOKES = 3;
+    private static final int MAX_SPOKES = 1000;
+    private static final int MAX_DATA_SETS = 10000;
+
+    /**
+     * data updates per second
+     */
+    private static final int MAX_RATE = 60;
+
+    /**
+     * steps of the logarithmic DataSet seek bar
+     */
+    private static final int DATA_SET_STEPS = 100;
+
+    private static final long FRAME_NANOS = 1000000000L / 60L;
+
+    private static final long STATUS_INTERVAL_NANOS = 500000000L;
+
+    private RadarChart chart;
+    private SeekBar seekSpokes, seekDataSets, seekRate;
+    private CheckBox checkValues, checkFill, checkLegend;
+    private FrameTimeView frameGraph;
+    private TextView status;
+
+    private int spokes;
+    private int dataSets;
+    private int rate;
+    private long seed;
+
+    /**
+     * the values of all DataSets, one row per DataSet
+     */
+    private RadarMatrix matrix;
+    private RadarData data;
+    private Random random;
+
+    /**
+     * intervals between frames over the last 10 seconds
+     */
+    private final TimingHistogram frameTimes = new TimingHistogram(600);
+
+    private long firstFrameNanos;
+    private long lastFrameNanos;
+    private long lastUpdateNanos;
+    private long lastStatusNanos;
+    private long durationNanos;
+
+    private int frames;
+    private int jankyFrames;
+    private int updates;
+    private int gcCountAtStart;
+
+    /**
+     * cleared by the garbage collector, used to count collections below
+     * API level 23
+     */
+    private WeakReference<Object> gcSentinel = new WeakReference<>(new Object());
+    private int sentinelGcCount;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_radar_stress);
+
+        setTitle("RadarStressActivity");
+
+        Intent intent = getIntent();
+        spokes = clamp(intent.getIntExtra(EXTRA_SPOKES, 24), MIN_SPOKES, MAX_SPOKES);
+        dataSets = clamp(intent.getIntExtra(EXTRA_DATA_SETS, 10), 1, MAX_DATA_SETS);
+        rate = clamp(intent.getIntExtra(EXTRA_RATE, 0), 0, MAX_RATE);
+        seed = intent.getLongExtra(EXTRA_SEED, 42L);
+        durationNanos = intent.getIntExtra(EXTRA_DURATION, 0) * 1000000000L;
+
+        chart = findViewById(R.id.stress_chart);
+        chart.setBackgroundColor(Color.WHITE);
+        chart.setWebColor(0x40000000);
+        chart.setWebColorInner(0x40000000);
+        chart.setRenderTimingsEnabled(true);
+        chart.setQualityGovernorEnabled(intent.getBooleanExtra(EXTRA_GOVERNOR, false));
+        chart.setSpokeLodEnabled(intent.getBooleanExtra(EXTRA_LOD, false));
+        chart.setValueLabelCullingEnabled(intent.getBooleanExtra(EXTRA_CULL, false));
+        chart.setLabelAtlasEnabled(intent.getBooleanExtra(EXTRA_ATLAS, false));
+
+        frameGraph = findViewById(R.id.frame_graph);
+        status = findViewById(R.id.stress_status);
+
+        seekSpokes = findViewById(R.id.seek_spokes);
+        seekSpokes.setMax(MAX_SPOKES - MIN_SPOKES);
+        seekSpokes.setProgress(spokes - MIN_SPOKES);
+        seekSpokes.setOnSeekBarChangeListener(this);
+
+        seekDataSets = findViewById(R.id.seek_datasets);
+        seekDataSets.setMax(DATA_SET_STEPS);
+        seekDataSets.setProgress((int) Math.round(DATA_SET_STEPS * Math.log(dataSets) / Math.log(MAX_DATA_SETS)));
+        seekDataSets.setOnSeekBarChangeListener(this);
+
+        seekRate = findViewById(R.id.seek_rate);
+        seekRate.setMax(MAX_RATE);
+        seekRate.setProgress(rate);
+        seekRate.setOnSeekBarChangeListener(this);
+
+        checkValues = findViewById(R.id.check_values);
+        checkValues.setChecked(intent.getBooleanExtra(EXTRA_VALUES, false));
+        checkValues.setOnCheckedChangeListener(this);
+
+        checkFill = findViewById(R.id.check_fill);
+        checkFill.setChecked(intent.getBooleanExtra(EXTRA_FILL, true));
+        checkFill.setOnCheckedChangeListener(this);
+
+        checkLegend = findViewById(R.id.check_legend);
+        checkLegend.setChecked(intent.getBooleanExtra(EXTRA_LEGEND, true));
+        checkLegend.setOnCheckedChangeListener(this);
+
+        setData();
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        resetStats();
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        Choreographer.getInstance().removeFrameCallback(this);
+    }
+
+    /**
+     * Creates the DataSets for the current spoke and DataSet count. The values
+     * are stored in a RadarMatrix, so no Entry object is created per value.
+     */
+    private void setData() {
+
+        random = new Random(seed);
+        matrix = new RadarMatrix(dataSets, spokes);
+        randomizeValues();
+
+        data = matrix.toRadarData();
+
+        for (int i = 0; i < dataSets; i++) {
+
+            int color = Color.HSVToColor(new float[]{(i * 137.5f) % 360f, 0.8f, 0.8f});
+
+            RadarMatrix.Row set = matrix.getRow(i);
+            set.setColor(color);
+            set.setFillColor(color);
+            set.setFillAlpha(40);
+        }
+
+        applyToggles();
+
+        chart.setData(data);
+        chart.invalidate();
+
+        resetStats();
+    }
+
+    /**
+     * Applies the values, fill and legend toggles.
+     */
+    private void applyToggles() {
+
+        boolean values = checkValues.isChecked();
+        boolean fill = checkFill.isChecked();
+
+        for (int i = 0; i < matrix.getRowCount(); i++) {
+
+            RadarMatrix.Row set = matrix.getRow(i);
+            set.setDrawValues(values);
+            set.setDrawFilled(fill);
+        }
+
+        chart.getLegend().setEnabled(checkLegend.isChecked());
+    }
+
+    private void randomizeValues() {
+
+        float[] values = matrix.getValues();
+        int offset = matrix.getRowOffset(0);
+        int count = matrix.getRowCount() * matrix.getSpokeCount();
+
+        for (int i = 0; i < count; i++) {
+            values[offset + i] = 20f + random.nextFloat() * 80f;
+        }
+
+        matrix.notifyDataChanged();
+    }
+
+    /**
+     * Replaces all values, the way a live data source would.
+     */
+    private void updateData() {
+
+        randomizeValues();
+
+        data.notifyDataChanged();
+        chart.notifyDataSetChanged();
+
+        updates++;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+
+        if (lastFrameNanos == 0L) {
+            firstFrameNanos = frameTimeNanos;
+            lastStatusNanos = frameTimeNanos;
+        } else {
+
+            long interval = frameTimeNanos - lastFrameNanos;
+
+            frameTimes.record(interval);
+            frameGraph.addFrame(interval);
+            frames++;
+
+            // a missed vsync
+            if (interval > FRAME_NANOS * 3 / 2)
+                jankyFrames++;
+        }
+
+        lastFrameNanos = frameTimeNanos;
+
+        if (gcSentinel.get() == null) {
+            sentinelGcCount++;
+            gcSentinel = new WeakReference<>(new Object());
+        }
+
+        if (rate > 0 && frameTimeNanos - lastUpdateNanos >= 1000000000L / rate) {
+            lastUpdateNanos = frameTimeNanos;
+            updateData();
+        }
+
+        chart.invalidate();
+
+        if (frameTimeNanos - lastStatusNanos >= STATUS_INTERVAL_NANOS) {
+            lastStatusNanos = frameTimeNanos;
+            status.setText(getSummary("\n"));
+        }
+
+        if (durationNanos > 0L && frameTimeNanos - firstFrameNanos >= durationNanos) {
+            Log.i(TAG, getSummary(", "));
+            finish();
+            return;
+        }
+
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Starts measuring again, e.g. after the settings changed.
+     */
+    private void resetStats() {
+
+        frameTimes.reset();
+        frameGraph.clear();
+
+        lastFrameNanos = 0L;
+        frames = 0;
+        jankyFrames = 0;
+        updates = 0;
+        gcCountAtStart = getGcCount();
+
+        RenderTimings timings = chart.getRenderTimings();
+
+        if (timings != null)
+            timings.reset();
+    }
+
+    /**
+     * Returns the number of garbage collections since the start of the
+     * process.
+     *
+     * @return
+     */
+    private int getGcCount() {
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+
+            String count = Debug.getRuntimeStat("art.gc.gc-count");
+
+            if (count != null)
+                return Integer.parseInt(count);
+        }
+
+        return sentinelGcCount;
+    }
+
+    private String getSummary(String separator) {
+
+        float seconds = (lastFrameNanos - firstFrameNanos) / 1e9f;
+
+        TimingHistogram draw = chart.getRenderTimings().getHistogram(RenderTimings.Phase.FRAME);
+
+        return String.format(Locale.US, "spokes %d, datasets %d (%d values), updates %d/s"
+                        + ", values %b, fill %b, legend %b%s"
+                        + "frames %d in %.1f s, fps %.1f, janky %d%s"
+                        + "frame p50 %.1f ms, p90 %.1f ms, p99 %.1f ms%s"
+                        + "draw p50 %.1f ms, p99 %.1f ms, data updates %d%s"
+                        + "gc %d, quality %s, lod %b, cull %b, atlas %b",
+                matrix.getSpokeCount(), matrix.getRowCount(), matrix.getSpokeCount() * matrix.getRowCount(), rate,
+                checkValues.isChecked(), checkFill.isChecked(), checkLegend.isChecked(), separator,
+                frames, seconds, seconds > 0f ? frames / seconds : 0f, jankyFrames, separator,
+                frameTimes.getPercentile(0.5f) / 1e6f, frameTimes.getPercentile(0.9f) / 1e6f,
+                frameTimes.getPercentile(0.99f) / 1e6f, separator,
+                draw.getPercentile(0.5f) / 1e6f, draw.getPercentile(0.99f) / 1e6f, updates, separator,
+                getGcCount() - gcCountAtStart, chart.getQuality(), chart.isSpokeLodEnabled(),
+                chart.isValueLabelCullingEnabled(), chart.isLabelAtlasEnabled());
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    @Override
+    public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+
+        if (seekBar == seekSpokes) {
+            spokes = progress + MIN_SPOKES;
+        } else if (seekBar == seekDataSets) {
+            dataSets = Math.max(1, (int) Math.round(Math.pow(MAX_DATA_SETS, progress / (double) DATA_SET_STEPS)));
+        } else {
+            rate = progress;
+            resetStats();
+            return;
+        }
+
+        // the data is created once the seek bar is released
+        status.setText(String.format(Locale.US, "spokes %d, datasets %d", spokes, dataSets));
+    }
+
+    @Override
+    public void onStartTrackingTouch(SeekBar seekBar) {}
+
+    @Override
+    public void onStopTrackingTouch(SeekBar seekBar) {
+
+        if (seekBar != seekRate)
+            setData();
+    }
+
+    @Override
+    public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+
+        applyToggles();
+
+        chart.notifyDataSetChanged();
+        chart.invalidate();
+
+        resetStats();
+    }
+}
@@ -0,0 +1,101 @@
+package com.xxmassdeveloper.mpchartexample.custom;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.util.AttributeSet;
+import android.view.View;
+
+/**
+ * Bar graph of the most recent frame times, one bar per frame. Frames that
+ * missed a vsync of a 60 Hz display are drawn red, reference lines mark one
+ * and two frame budgets of 16.7 ms.
+ */
+public class FrameTimeView extends View {
+
+    private static final float FRAME_BUDGET_MS = 1000f / 60f;
+
+    /**
+     * frame time at the top of the graph
+     */
+    private static final float MAX_MS = FRAME_BUDGET_MS * 3f;
+
+    /**
+     * the frame times in milliseconds, oldest first starting at mIndex
+     */
+    private final float[] mFrameTimes = new float[240];
+
+    private int mIndex = 0;
+
+    private final Paint mBarPaint = new Paint();
+    private final Paint mLinePaint = new Paint();
+
+    public FrameTimeView(Context context) {
+        super(context);
+        init();
+    }
+
+    public FrameTimeView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        init();
+    }
+
+    private void init() {
+        mLinePaint.setColor(Color.WHITE);
+        mLinePaint.setStrokeWidth(2f);
+    }
+
+    /**
+     * Adds the time of a frame and redraws the graph.
+     *
+     * @param nanos
+     */
+    public void addFrame(long nanos) {
+
+        mFrameTimes[mIndex] = nanos / 1000000f;
+        mIndex = (mIndex + 1) % mFrameTimes.length;
+
+        invalidate();
+    }
+
+    /**
+     * Removes all frame times.
+     */
+    public void clear() {
+
+        for (int i = 0; i < mFrameTimes.length; i++) {
+            mFrameTimes[i] = 0f;
+        }
+
+        invalidate();
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+
+        float width = getWidth();
+        float height = getHeight();
+
+        canvas.drawColor(Color.argb(128, 0, 0, 0));
+
+        float barWidth = width / mFrameTimes.length;
+        float scale = height / MAX_MS;
+
+        for (int i = 0; i < mFrameTimes.length; i++) {
+
+            float ms = mFrameTimes[(mIndex + i) % mFrameTimes.length];
+
+            mBarPaint.setColor(ms > FRAME_BUDGET_MS * 1.5f ? Color.RED : Color.GREEN);
+
+            float left = i * barWidth;
+            canvas.drawRect(left, height - Math.min(ms, MAX_MS) * scale, left + barWidth, height, mBarPaint);
+        }
+
+        float budget = height - FRAME_BUDGET_MS * scale;
+        canvas.drawLine(0f, budget, width, budget, mLinePaint);
+
+        float twoBudgets = height - FRAME_BUDGET_MS * 2f * scale;
+        canvas.drawLine(0f, twoBudgets, width, twoBudgets, mLinePaint);
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.mikephil.charting.animation;
+
+/**
+ * Easing functions for animations. Every function maps the elapsed fraction
+ * of the animation (0 - 1) to the fraction of the change that is applied.
+ * None of the functions allocates, they can be called on every frame.
+ */
+public class Easing {
+
+    /**
+     * Maps the elapsed fraction of an animation to the progress of the
+     * animated value.
+     */
+    public interface EasingFunction {
+
+        /**
+         * @param input the elapsed fraction, between 0 and 1
+         * @return the progress, 0 at the start and 1 at the end
+         */
+        float getInterpolation(float input);
+    }
+
+    private static final float DOUBLE_PI = 2f * (float) Math.PI;
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction Linear = new EasingFunction() {
+        public float getInterpolation(float input) {
+            return input;
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseInQuad = new EasingFunction() {
+        public float getInterpolation(float input) {
+            return input * input;
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseOutQuad = new EasingFunction() {
+        public float getInterpolation(float input) {
+            return -input * (input - 2f);
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseInOutQuad = new EasingFunction() {
+        public float getInterpolation(float input) {
+
+            input *= 2f;
+
+            if (input < 1f)
+                return 0.5f * input * input;
+
+            return -0.5f * ((--input) * (input - 2f) - 1f);
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseInCubic = new EasingFunction() {
+        public float getInterpolation(float input) {
+            return input * input * input;
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseOutCubic = new EasingFunction() {
+        public float getInterpolation(float input) {
+            input--;
+            return input * input * input + 1f;
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseInOutCubic = new EasingFunction() {
+        public float getInterpolation(float input) {
+
+            input *= 2f;
+
+            if (input < 1f)
+                return 0.5f * input * input * input;
+
+            input -= 2f;
+            return 0.5f * (input * input * input + 2f);
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseInSine = new EasingFunction() {
+        public float getInterpolation(float input) {
+            return -(float) Math.cos(input * (Math.PI / 2f)) + 1f;
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseOutSine = new EasingFunction() {
+        public float getInterpolation(float input) {
+            return (float) Math.sin(input * (Math.PI / 2f));
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseInOutSine = new EasingFunction() {
+        public float getInterpolation(float input) {
+            return -0.5f * ((float) Math.cos(Math.PI * input) - 1f);
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseOutBack = new EasingFunction() {
+        public float getInterpolation(float input) {
+            final float s = 1.70158f;
+            input--;
+            return (input * input * ((s + 1f) * input + s) + 1f);
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseOutElastic = new EasingFunction() {
+        public float getInterpolation(float input) {
+
+            if (input == 0f || input == 1f)
+                return input;
+
+            float p = 0.3f;
+            float s = p / DOUBLE_PI * (float) Math.asin(1f);
+
+            return 1f + (float) Math.pow(2f, -10f * input)
+                    * (float) Math.sin((input - s) * DOUBLE_PI / p);
+        }
+    };
+
+    @SuppressWarnings("unused")
+    public static final EasingFunction EaseOutBounce = new EasingFunction() {
+        public float getInterpolation(float input) {
+
+            float s = 7.5625f;
+
+            if (input < (1f / 2.75f))
+                return s * input * input;
+
+            if (input < (2f / 2.75f))
+                return s * (input -= (1.5f / 2.75f)) * input + 0.75f;
+
+            if (input < (2.5f / 2.75f))
+                return s * (input -= (2.25f / 2.75f)) * input + 0.9375f;
+
+            return s * (input -= (2.625f / 2.75f)) * input + 0.984375f;
+        }
+    };
+}
@@ -0,0 +1,420 @@
+package com.github.mikephil.charting.animation;
+
+import com.github.mikephil.charting.animation.Easing.EasingFunction;
+import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.utils.FrameTicker;
+import com.github.mikephil.charting.utils.RadarTransformer;
+
+/**
+ * Morphs the polygons of a chart from one state to another. The start and the
+ * target positions of all vertices are projected once into preallocated
+ * buffers, every frame then only interpolates between them into the vertex
+ * buffers the renderer draws from. No entries are created and no min / max
+ * values are calculated while the animation runs, and the buffers are reused
+ * by the next animation as long as they are large enough, so a running
+ * animation does not allocate. The frames are driven by a FrameTicker.
+ * <p/>
+ * Vertices that have no start position (e.g. new DataSets or spokes) grow out
+ * of the center of the chart.
+ */
+public class RadarDataAnimator {
+
+    /**
+     * Called on every frame of the animation and once when it ends.
+     */
+    public interface AnimatorUpdateListener {
+
+        /**
+         * @param animator
+         */
+        void onAnimationUpdate(RadarDataAnimator animator);
+    }
+
+    private final AnimatorUpdateListener mListener;
+
+    /**
+     * start, target and current vertices per DataSet: x and y per spoke
+     */
+    private float[][] mFrom = new float[0][];
+    private float[][] mTo = new float[0][];
+    private float[][] mVertices = new float[0][];
+
+    /**
+     * the number of vertices with a start position per DataSet
+     */
+    private int[] mFromCounts = new int[0];
+
+    /**
+     * the number of target vertices per DataSet
+     */
+    private int[] mCounts = new int[0];
+
+    private int mFromSetCount = 0;
+    private int mSetCount = 0;
+
+    private long mDurationNanos;
+    private EasingFunction mEasing = Easing.Linear;
+
+    /**
+     * frame time of the first frame, -1 until the first frame is drawn
+     */
+    private long mStartNanos = -1L;
+
+    private float mPhase = 1f;
+
+    private boolean mRunning = false;
+
+    private final FrameTicker mTicker = new FrameTicker(new FrameTicker.Callback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            onFrame(frameTimeNanos);
+        }
+    });
+
+    /**
+     * @param listener called on every frame, e.g. to invalidate the chart
+     */
+    public RadarDataAnimator(AnimatorUpdateListener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Stores the vertices of the given data as the start of the next
+     * animation. If an animation is running, its current vertices are used
+     * instead, so that the next animation continues smoothly. Pass null to
+     * let all vertices grow out of the center.
+     *
+     * @param data
+     * @param trans the transformer the data is currently drawn with
+     */
+    public void captureFrom(RadarData data, RadarTransformer trans) {
+
+        if (mRunning) {
+
+            ensureFromCapacity(mSetCount, getStride());
+
+            for (int i = 0; i < mSetCount; i++) {
+                System.arraycopy(mVertices[i], 0, mFrom[i], 0, mCounts[i] * 2);
+                mFromCounts[i] = mCounts[i];
+            }
+
+            mFromSetCount = mSetCount;
+            return;
+        }
+
+        if (data == null || trans == null) {
+            mFromSetCount = 0;
+            return;
+        }
+
+        int setCount = data.getDataSetCount();
+
+        ensureFromCapacity(setCount, trans.getSpokeCount() * 2);
+
+        for (int i = 0; i < setCount; i++) {
+            mFromCounts[i] = project(data.getDataSetByIndex(i), trans, mFrom[i]);
+        }
+
+        mFromSetCount = setCount;
+    }
+
+    /**
+     * Starts animating from the captured start to the given data.
+     *
+     * @param data           the target data
+     * @param trans          the transformer the target data is drawn with
+     * @param durationMillis
+     * @param easing         the easing function, null for linear
+     */
+    public void start(RadarData data, RadarTransformer trans, long durationMillis,
+                      EasingFunction easing) {
+
+        mTicker.remove();
+
+        mDurationNanos = Math.max(1L, durationMillis) * 1000000L;
+        mEasing = easing != null ? easing : Easing.Linear;
+        mStartNanos = -1L;
+        mRunning = true;
+
+        updateTargets(data, trans);
+        setPhase(0f);
+
+        mTicker.post();
+    }
+
+    /**
+     * Projects the target vertices again, e.g. after the size or the ranges
+     * of the chart changed while the animation is running. Does nothing if
+     * no animation is running.
+     *
+     * @param data
+     * @param trans
+     */
+    public void updateTargets(RadarData data, RadarTransformer trans) {
+
+        if (!mRunning)
+            return;
+
+        int setCount = data.getDataSetCount();
+        int stride = trans.getSpokeCount() * 2;
+
+        ensureCapacity(setCount, stride);
+
+        float cx = trans.getCenterX();
+        float cy = trans.getCenterY();
+
+        for (int i = 0; i < setCount; i++) {
+
+            int count = project(data.getDataSetByIndex(i), trans, mTo[i]);
+            mCounts[i] = count;
+
+            float[] from = mFrom[i];
+            int fromCount = i < mFromSetCount ? mFromCounts[i] : 0;
+
+            // vertices without a start position grow out of the center
+            for (int j = 0; j < count; j++) {
+
+                if (j >= fromCount || Float.isNaN(from[j * 2])) {
+                    from[j * 2] = cx;
+                    from[j * 2 + 1] = cy;
+                }
+            }
+        }
+
+        mSetCount = setCount;
+
+        setPhase(mPhase);
+    }
+
+    /**
+     * Stops the animation and jumps to its end.
+     */
+    public void end() {
+
+        if (!mRunning)
+            return;
+
+        mTicker.remove();
+
+        setPhase(1f);
+        mRunning = false;
+
+        mListener.onAnimationUpdate(this);
+    }
+
+    /**
+     * Stops the animation where it is, without notifying the listener. Does
+     * nothing if no animation is running, so it can be called on any thread
+     * then, e.g. by setData(...) of a chart that is rendered offscreen.
+     */
+    public void cancel() {
+
+        if (!mRunning)
+            return;
+
+        mTicker.remove();
+        mRunning = false;
+    }
+
+    /**
+     * Returns true while an animation is running.
+     *
+     * @return
+     */
+    public boolean isRunning() {
+        return mRunning;
+    }
+
+    /**
+     * Returns the eased progress of the animation, between 0 and 1 (may
+     * overshoot for some easing functions).
+     *
+     * @return
+     */
+    public float getPhase() {
+        return mPhase;
+    }
+
+    /**
+     * Returns the current vertices of the DataSet with the given index (x and
+     * y per spoke), or null if the DataSet is not animated.
+     *
+     * @param dataSetIndex
+     * @return
+     */
+    public float[] getVertices(int dataSetIndex) {
+
+        if (dataSetIndex >= mSetCount)
+            return null;
+
+        return mVertices[dataSetIndex];
+    }
+
+    /**
+     * Returns the number of vertices of the DataSet with the given index.
+     *
+     * @param dataSetIndex
+     * @return
+     */
+    public int getVertexCount(int dataSetIndex) {
+
+        if (dataSetIndex >= mSetCount)
+            return 0;
+
+        return mCounts[dataSetIndex];
+    }
+
+    /**
+     * Advances the animation to the given frame time, called by the ticker
+     * and directly by tests.
+     *
+     * @param frameTimeNanos
+     */
+    void onFrame(long frameTimeNanos) {
+
+        if (!mRunning)
+            return;
+
+        if (mStartNanos < 0L)
+            mStartNanos = frameTimeNanos;
+
+        float fraction = (frameTimeNanos - mStartNanos) / (float) mDurationNanos;
+
+        if (fraction >= 1f) {
+
+            setPhase(1f);
+            mRunning = false;
+
+        } else {
+
+            setPhase(mEasing.getInterpolation(fraction));
+            mTicker.post();
+        }
+
+        mListener.onAnimationUpdate(this);
+    }
+
+    /**
+     * Interpolates the current vertices for the given phase.
+     *
+     * @param phase
+     */
+    private void setPhase(float phase) {
+
+        mPhase = phase;
+
+        for (int i = 0; i < mSetCount; i++) {
+
+            float[] from = mFrom[i];
+            float[] to = mTo[i];
+            float[] vertices = mVertices[i];
+
+            int n = mCounts[i] * 2;
+
+            for (int k = 0; k < n; k++) {
+                vertices[k] = from[k] + (to[k] - from[k]) * phase;
+            }
+        }
+    }
+
+    /**
+     * Projects the vertices of the given DataSet into the given buffer and
+     * returns their number.
+     */
+    private static int project(IRadarDataSet set, RadarTransformer trans, float[] out) {
+
+        float[] scale = trans.getScale();
+        float[] offset = trans.getOffset();
+        float[] cos = trans.getCos();
+        float[] sin = trans.getSin();
+        float cx = trans.getCenterX();
+        float cy = trans.getCenterY();
+
+        int count = Math.min(set.getEntryCount(), trans.getSpokeCount());
+
+        for (int j = 0; j < count; j++) {
+
+            float r = set.getYForIndex(j) * scale[j] + offset[j];
+            out[j * 2] = cx + r * cos[j];
+            out[j * 2 + 1] = cy + r * sin[j];
+        }
+
+        return count;
+    }
+
+    private int getStride() {
+
+        int stride = 0;
+
+        for (int i = 0; i < mSetCount; i++) {
+            stride = Math.max(stride, mCounts[i] * 2);
+        }
+
+        return stride;
+    }
+
+    /**
+     * Grows the start buffers, if needed, keeping their contents.
+     */
+    private void ensureFromCapacity(int setCount, int stride) {
+
+        if (mFrom.length < setCount) {
+            mFrom = grow(mFrom, setCount);
+            mFromCounts = new int[setCount];
+        }
+
+        for (int i = 0; i < setCount; i++) {
+            if (mFrom[i] == null || mFrom[i].length < stride)
+                mFrom[i] = new float[stride];
+        }
+    }
+
+    /**
+     * Grows all buffers, if needed. The start buffers keep their contents.
+     */
+    private void ensureCapacity(int setCount, int stride) {
+
+        if (mTo.length < setCount) {
+
+            mTo = grow(mTo, setCount);
+            mVertices = grow(mVertices, setCount);
+
+            int[] counts = new int[setCount];
+            System.arraycopy(mCounts, 0, counts, 0, mCounts.length);
+            mCounts = counts;
+        }
+
+        if (mFrom.length < setCount) {
+
+            mFrom = grow(mFrom, setCount);
+
+            int[] counts = new int[setCount];
+            System.arraycopy(mFromCounts, 0, counts, 0, mFromCounts.length);
+            mFromCounts = counts;
+        }
+
+        for (int i = 0; i < setCount; i++) {
+
+            if (mTo[i] == null || mTo[i].length < stride) {
+                mTo[i] = new float[stride];
+                mVertices[i] = new float[stride];
+            }
+
+            if (mFrom[i] == null) {
+                mFrom[i] = new float[stride];
+            } else if (mFrom[i].length < stride) {
+                float[] from = new float[stride];
+                System.arraycopy(mFrom[i], 0, from, 0, mFrom[i].length);
+                mFrom[i] = from;
+            }
+        }
+    }
+
+    private static float[][] grow(float[][] buffers, int size) {
+
+        float[][] grown = new float[size][];
+        System.arraycopy(buffers, 0, grown, 0, buffers.length);
+        return grown;
+    }
+}
@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.charts;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -9,24 +10,49 @@ import android.graphics.RectF;
 import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.view.MotionEvent;
+import android.view.View;
 import android.view.ViewGroup;
 
+import com.github.mikephil.charting.animation.Easing.EasingFunction;
+import com.github.mikephil.charting.animation.RadarDataAnimator;
+import com.github.mikephil.charting.components.ComponentBase;
 import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.LegendEntry;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarEnvelope;
 import com.github.mikephil.charting.formatter.DefaultValueFormatter;
 import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.highlight.RadarHighlighter;
+import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
+import com.github.mikephil.charting.listener.OnDrawTimingListener;
+import com.github.mikephil.charting.listener.OnQualityChangeListener;
+import com.github.mikephil.charting.listener.RadarChartTouchListener;
+import com.github.mikephil.charting.renderer.DrawStatsRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
 import com.github.mikephil.charting.renderer.RadarChartRenderer;
 import com.github.mikephil.charting.renderer.XAxisRendererRadarChart;
 import com.github.mikephil.charting.renderer.YAxisRendererRadarChart;
+import com.github.mikephil.charting.utils.DrawStatsCanvas;
+import com.github.mikephil.charting.utils.LabelAtlas;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.QualityFrameTracker;
+import com.github.mikephil.charting.utils.QualityGovernor;
+import com.github.mikephil.charting.utils.QualityGovernor.Quality;
+import com.github.mikephil.charting.utils.RadarRenderCache;
+import com.github.mikephil.charting.utils.RadarTransformer;
+import com.github.mikephil.charting.utils.RenderTimings;
+import com.github.mikephil.charting.utils.SpokeLod;
+import com.github.mikephil.charting.utils.RenderTimings.Phase;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Implementation of the RadarChart, a "spidernet"-like chart. It works best
@@ -34,9 +60,30 @@ import java.util.ArrayList;
  *
  * @author Philipp Jahoda
  */
-public class RadarChart extends ViewGroup {
+public class RadarChart extends ViewGroup implements RadarDataProvider {
     private static final String LOG_TAG = "MPAndroidChart";
 
+    /**
+     * the maximum number of web lines drawn while the quality governor thins
+     * the web
+     */
+    public static final int MAX_THIN_WEB_LINES = 64;
+
+    /**
+     * the minimum distance between two web lines at the outer web with the
+     * spoke level of detail enabled
+     */
+    private static final float MIN_WEB_LINE_SPACING_DP = 4f;
+
+    /**
+     * layout of the label atlas, 256 slots that fit numeric labels of the
+     * default text sizes
+     */
+    private static final int LABEL_ATLAS_COLUMNS = 8;
+    private static final int LABEL_ATLAS_ROWS = 32;
+    private static final float LABEL_ATLAS_SLOT_WIDTH_DP = 48f;
+    private static final float LABEL_ATLAS_SLOT_HEIGHT_DP = 16f;
+
     /**
      * flag that indicates if logging is enabled or not
      */
@@ -48,6 +95,11 @@ public class RadarChart extends ViewGroup {
      */
     private RadarData mData = null;
 
+    /**
+     * statistical envelope that is drawn instead of the individual DataSets, null if disabled
+     */
+    private RadarEnvelope mEnvelope = null;
+
     /**
      * default value-formatter, number of digits depends on provided chart-data
      */
@@ -105,6 +157,21 @@ public class RadarChart extends ViewGroup {
      */
     private int mWebAlpha = 150;
 
+    /**
+     * the number of web lines that are skipped in between two drawn ones
+     */
+    private int mSkipWebLineCount = 0;
+
+    /**
+     * if true, spokes are decimated to what fits into the pixels of the chart
+     */
+    private boolean mSpokeLodEnabled = false;
+
+    /**
+     * the atlas the value and y-axis labels are drawn from, null if disabled
+     */
+    private LabelAtlas mLabelAtlas;
+
     /**
      * the object reprsenting the y-axis labels
      */
@@ -113,6 +180,154 @@ public class RadarChart extends ViewGroup {
     private YAxisRendererRadarChart mYAxisRenderer;
     private XAxisRendererRadarChart mXAxisRenderer;
 
+    /**
+     * transforms values into pixels, holds the scale and direction per spoke
+     */
+    private final RadarTransformer mTransformer = new RadarTransformer();
+
+    /**
+     * custom value range per spoke, NaN if the range of the y-axis is used
+     */
+    private float[] mSpokeRangeMin = new float[0];
+    private float[] mSpokeRangeMax = new float[0];
+
+    /**
+     * if true, every spoke without a custom range is scaled to its own data range
+     */
+    private boolean mAutoScaleSpokes = false;
+
+    /**
+     * min / max of the data per spoke, only calculated if auto scaling is enabled
+     */
+    private float[] mSpokeDataMin = new float[0];
+    private float[] mSpokeDataMax = new float[0];
+
+    /**
+     * if true, rendered charts are stored in and drawn from the shared render cache
+     */
+    private boolean mRenderCacheEnabled = false;
+
+    /**
+     * render cache id of the data (and envelope), recalculated on every data
+     * change
+     */
+    private long mDataId;
+
+    /**
+     * version of the envelope the layout was calculated for, see
+     * RadarEnvelope.getVersion()
+     */
+    private int mEnvelopeVersion;
+
+    /**
+     * reused to look up the chart in the render cache
+     */
+    private final RadarRenderCache.Key mRenderKey = new RadarRenderCache.Key();
+
+    /**
+     * bitmap rendered ahead of time (see RadarChartPrefetcher), drawn instead
+     * of the chart as long as it is valid
+     */
+    private Bitmap mOffscreenBitmap;
+
+    /**
+     * false as soon as the data changes after the offscreen bitmap was set
+     */
+    private boolean mOffscreenBitmapValid = false;
+
+    /**
+     * resolves touches to highlighted values
+     */
+    private RadarHighlighter mHighlighter;
+
+    /**
+     * array of Highlight objects that reference the highlighted values
+     */
+    private Highlight[] mIndicesToHighlight;
+
+    /**
+     * if true, values can be highlighted by tapping
+     */
+    private boolean mHighlightPerTapEnabled = true;
+
+    /**
+     * if true, values can be highlighted by dragging over the chart
+     */
+    private boolean mHighlightPerDragEnabled = true;
+
+    /**
+     * listener that is called when a value is selected
+     */
+    private OnChartValueSelectedListener mSelectionListener;
+
+    /**
+     * overlay the highlights are drawn on, so that highlighting does not
+     * redraw the chart
+     */
+    private HighlightView mHighlightView;
+
+    /**
+     * turns taps and drags into highlights or rotations
+     */
+    private RadarChartTouchListener mTouchListener;
+
+    /**
+     * the rotation angle of the chart in degrees, not normalized
+     */
+    private float mRawRotationAngle = 270f;
+
+    /**
+     * the normalized rotation angle, between 0 and 360
+     */
+    private float mRotationAngle = 270f;
+
+    /**
+     * if true, the chart can be rotated by dragging
+     */
+    private boolean mRotateEnabled = false;
+
+    /**
+     * true while the chart is drawn from the rotation layer
+     */
+    private boolean mRotating = false;
+
+    /**
+     * web and data, rendered once when a rotation starts and drawn rotated
+     * while it lasts
+     */
+    private Bitmap mRotationLayer;
+
+    /**
+     * the raw rotation angle the rotation layer was rendered with
+     */
+    private float mLayerRotationAngle;
+
+    /**
+     * morphs the drawn polygons on data changes, see animateTo(...)
+     */
+    private RadarDataAnimator mAnimator;
+
+    /**
+     * timings of the draw and layout phases, null if disabled
+     */
+    private RenderTimings mRenderTimings;
+
+    /**
+     * listener that is called after every frame while timings are enabled
+     */
+    private OnDrawTimingListener mDrawTimingListener;
+
+    /**
+     * counts the operations of every frame for the debug overlay, null if
+     * disabled
+     */
+    private DrawStatsRenderer mDrawStatsRenderer;
+
+    /**
+     * passes the frame times to the quality governor, null if disabled
+     */
+    private QualityFrameTracker mQualityTracker;
+
     public RadarChart(Context context) {
         super(context);
         init();
@@ -135,8 +350,13 @@ public class RadarChart extends ViewGroup {
 
     public void setData(RadarData data) {
 
+        stopDeceleration();
+        mAnimator.cancel();
+
         mData = data;
         mOffsetsCalculated = false;
+        mOffscreenBitmapValid = false;
+        mIndicesToHighlight = null;
 
         if (data == null) {
             return;
@@ -157,8 +377,67 @@ public class RadarChart extends ViewGroup {
             Log.i(LOG_TAG, "Data is set.");
     }
 
+    /**
+     * Sets new data and morphs the drawn polygons from the current data into
+     * the new one. If the chart has no data yet, the polygons grow out of the
+     * center.
+     *
+     * @param data
+     * @param durationMillis the duration of the animation in milliseconds
+     * @param easing         the easing function, e.g. Easing.EaseInOutQuad
+     */
+    public void animateTo(RadarData data, int durationMillis, EasingFunction easing) {
+
+        if (mData != null && mOffsetsCalculated && mEnvelope == null)
+            mAnimator.captureFrom(mData, mTransformer);
+        else
+            mAnimator.captureFrom(null, null);
+
+        setData(data);
+
+        if (data != null && mEnvelope == null)
+            mAnimator.start(data, mTransformer, durationMillis, easing);
+
+        invalidate();
+    }
+
+    /**
+     * Animates the current data, the polygons grow out of the center.
+     *
+     * @param durationMillis the duration of the animation in milliseconds
+     * @param easing         the easing function, e.g. Easing.EaseInOutQuad
+     */
+    public void animateY(int durationMillis, EasingFunction easing) {
+
+        if (mData == null || mEnvelope != null)
+            return;
+
+        stopDeceleration();
+
+        mIndicesToHighlight = null;
+        mHighlightView.invalidate();
+
+        mAnimator.cancel();
+        mAnimator.captureFrom(null, null);
+        mAnimator.start(mData, mTransformer, durationMillis, easing);
+
+        invalidate();
+    }
+
+    /**
+     * Returns true while the data is animated.
+     *
+     * @return
+     */
+    public boolean isAnimating() {
+        return mAnimator.isRunning();
+    }
+
     private void calculateOffsets() {
 
+        // the space the x-axis labels need on each side
+        mXAxisRenderer.computeLabelExtents(mRotateEnabled);
+
         float legendLeft = 0f, legendRight = 0f, legendBottom = 0f, legendTop = 0f;
 
         if (mLegend != null && mLegend.isEnabled() && !mLegend.isDrawInsideEnabled()) {
@@ -264,20 +543,28 @@ public class RadarChart extends ViewGroup {
                     break;
             }
 
-            legendLeft += getRequiredBaseOffset();
-            legendRight += getRequiredBaseOffset();
-            legendTop += getRequiredBaseOffset();
-            legendBottom += getRequiredBaseOffset();
+            legendLeft += getRequiredBaseOffset(mXAxisRenderer.getLabelExtentLeft());
+            legendRight += getRequiredBaseOffset(mXAxisRenderer.getLabelExtentRight());
+            legendTop += getRequiredBaseOffset(mXAxisRenderer.getLabelExtentTop());
+            legendBottom += getRequiredBaseOffset(mXAxisRenderer.getLabelExtentBottom());
         }
 
         float mMinOffset = 0.f;
         float minOffset = Utils.convertDpToPixel(mMinOffset);
 
+        float minLeft = minOffset;
+        float minTop = minOffset;
+        float minRight = minOffset;
+        float minBottom = minOffset;
+
         if (this instanceof RadarChart) {
             XAxis x = this.getXAxis();
 
             if (x.isEnabled() && x.isDrawLabelsEnabled()) {
-                minOffset = Math.max(minOffset, x.mLabelRotatedWidth);
+                minLeft = Math.max(minOffset, mXAxisRenderer.getLabelExtentLeft());
+                minTop = Math.max(minOffset, mXAxisRenderer.getLabelExtentTop());
+                minRight = Math.max(minOffset, mXAxisRenderer.getLabelExtentRight());
+                minBottom = Math.max(minOffset, mXAxisRenderer.getLabelExtentBottom());
             }
         }
 
@@ -286,10 +573,11 @@ public class RadarChart extends ViewGroup {
         legendBottom += getExtraBottomOffset();
         legendLeft += getExtraLeftOffset();
 
-        float offsetLeft = Math.max(minOffset, legendLeft);
-        float offsetTop = Math.max(minOffset, legendTop);
-        float offsetRight = Math.max(minOffset, legendRight);
-        float offsetBottom = Math.max(minOffset, Math.max(getRequiredBaseOffset(), legendBottom));
+        float offsetLeft = Math.max(minLeft, legendLeft);
+        float offsetTop = Math.max(minTop, legendTop);
+        float offsetRight = Math.max(minRight, legendRight);
+        float offsetBottom = Math.max(minBottom,
+                Math.max(getRequiredBaseOffset(mXAxisRenderer.getLabelExtentBottom()), legendBottom));
 
         mViewPortHandler.restrainViewPort(offsetLeft, offsetTop, offsetRight, offsetBottom);
 
@@ -486,6 +774,31 @@ public class RadarChart extends ViewGroup {
         return mData;
     }
 
+    /**
+     * Sets an envelope that is drawn instead of the individual DataSets of the
+     * chart data, e.g. for populations too large to draw one by one. The
+     * envelope should be computed from the DataSets of the chart data. Set
+     * null to draw the DataSets again. Call invalidate() after the envelope was
+     * modified, the chart notices the modification by the version of the
+     * envelope and recalculates its layout on the next draw.
+     *
+     * @param envelope
+     */
+    public void setEnvelope(RadarEnvelope envelope) {
+        mEnvelope = envelope;
+        mOffscreenBitmapValid = false;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the envelope that is drawn instead of the DataSets, null if none is set.
+     *
+     * @return
+     */
+    public RadarEnvelope getEnvelope() {
+        return mEnvelope;
+    }
+
     /**
      * tasks to be done after the view is setup
      */
@@ -499,7 +812,116 @@ public class RadarChart extends ViewGroup {
      * @return
      */
     public float getRotationAngle() {
-        return 270f;
+        return mRotationAngle;
+    }
+
+    /**
+     * gets the raw version of the current rotation angle of the chart, the
+     * returned value could be any value, negative or positive, outside of the
+     * 360 degrees.
+     *
+     * @return
+     */
+    public float getRawRotationAngle() {
+        return mRawRotationAngle;
+    }
+
+    /**
+     * Sets the angle of the first spoke in degrees, 270 (NORTH) is the
+     * default. Stops a running fling.
+     *
+     * @param angle
+     */
+    public void setRotationAngle(float angle) {
+
+        stopDeceleration();
+
+        mRawRotationAngle = angle;
+        mRotationAngle = normalizeAngle(angle);
+        mOffscreenBitmapValid = false;
+
+        if (mData != null) {
+
+            // the space of the x-axis labels depends on the angle if the chart
+            // cannot be rotated by the user
+            if (!mRotateEnabled)
+                calculateOffsets();
+
+            prepareTransformer();
+            invalidate();
+        }
+    }
+
+    private static float normalizeAngle(float angle) {
+
+        angle %= 360f;
+
+        if (angle < 0f)
+            angle += 360f;
+
+        return angle;
+    }
+
+    /**
+     * Set this to true to allow the user to rotate the chart by dragging. Taps
+     * still highlight values, dragging does not highlight while rotation is
+     * enabled. Once a rotation starts, the parent is not allowed to intercept
+     * the gesture anymore, so a chart inside a scrolling container should only
+     * be rotatable if the drags it consumes are acceptable. Default: false
+     *
+     * @param enabled
+     */
+    public void setRotationEnabled(boolean enabled) {
+        mRotateEnabled = enabled;
+
+        // the x-axis labels need space for every angle if the chart can be
+        // rotated
+        if (mData != null) {
+            calculateOffsets();
+            prepareTransformer();
+            invalidate();
+        }
+    }
+
+    public boolean isRotationEnabled() {
+        return mRotateEnabled;
+    }
+
+    /**
+     * If set to true, the chart continues to rotate after a fling with
+     * decreasing speed. Default: true
+     *
+     * @param enabled
+     */
+    public void setDragDecelerationEnabled(boolean enabled) {
+        mTouchListener.setDragDecelerationEnabled(enabled);
+    }
+
+    public boolean isDragDecelerationEnabled() {
+        return mTouchListener.isDragDecelerationEnabled();
+    }
+
+    /**
+     * Deceleration friction coefficient in [0 ; 1] interval, higher values
+     * indicate that speed will decrease slowly, for example if it set to 0, it
+     * will stop immediately. 1 is an invalid value, and will be converted to
+     * 0.999f automatically. Default: 0.9f
+     *
+     * @param newValue
+     */
+    public void setDragDecelerationFrictionCoef(float newValue) {
+
+        if (newValue < 0.f)
+            newValue = 0.f;
+
+        if (newValue >= 1f)
+            newValue = 0.999f;
+
+        mTouchListener.setDragDecelerationFrictionCoef(newValue);
+    }
+
+    public float getDragDecelerationFrictionCoef() {
+        return mTouchListener.getDragDecelerationFrictionCoef();
     }
 
     private void init() {
@@ -531,7 +953,19 @@ public class RadarChart extends ViewGroup {
         mWebLineWidth = Utils.convertDpToPixel(1.5f);
         mInnerWebLineWidth = Utils.convertDpToPixel(0.75f);
 
-        mRenderer = new RadarChartRenderer(this, mViewPortHandler);
+        mAnimator = new RadarDataAnimator(new RadarDataAnimator.AnimatorUpdateListener() {
+            @Override
+            public void onAnimationUpdate(RadarDataAnimator animator) {
+                invalidate();
+            }
+        });
+
+        mRenderer = new RadarChartRenderer(this, mAnimator, mViewPortHandler);
+        mHighlighter = new RadarHighlighter(this);
+        mTouchListener = new RadarChartTouchListener(this);
+
+        mHighlightView = new HighlightView(getContext());
+        addView(mHighlightView);
         mYAxisRenderer = new YAxisRendererRadarChart(mViewPortHandler, mYAxis, this);
         mXAxisRenderer = new XAxisRendererRadarChart(mViewPortHandler, mXAxis, this);
 
@@ -540,82 +974,744 @@ public class RadarChart extends ViewGroup {
     private void calcMinMax() {
         mYAxis.calculate(mData.getYMin(AxisDependency.LEFT), mData.getYMax(AxisDependency.LEFT));
         mXAxis.calculate(0, mData.getMaxEntryCountSet().getEntryCount());
-    }
 
-    private void notifyDataSetChanged() {
-        if (mData == null)
-            return;
-
-        calcMinMax();
+        if (mAutoScaleSpokes)
+            calcSpokeMinMax();
+    }
 
-        mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
-        mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+    /**
+     * Calculates min / max per spoke over all DataSets.
+     */
+    private void calcSpokeMinMax() {
 
-        if (mLegend != null && mLegend.isLegendCustom())
-            mLegendRenderer.computeLegend(mData);
+        int spokeCount = getSpokeCount();
 
-        calculateOffsets();
-    }
+        if (mSpokeDataMin.length != spokeCount) {
+            mSpokeDataMin = new float[spokeCount];
+            mSpokeDataMax = new float[spokeCount];
+        }
 
-    @Override
-    protected void onDraw(Canvas canvas) {
-        preDraw(canvas);
+        Arrays.fill(mSpokeDataMin, Float.MAX_VALUE);
+        Arrays.fill(mSpokeDataMax, -Float.MAX_VALUE);
 
-        if (mData == null)
-            return;
+        for (IRadarDataSet set : mData.getDataSets()) {
 
-//        if (mYAxis.isEnabled())
-//            mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
+            int count = Math.min(set.getEntryCount(), spokeCount);
 
-        if (mXAxis.isEnabled())
-            mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+            for (int j = 0; j < count; j++) {
 
-        mXAxisRenderer.renderAxisLabels(canvas);
+                float y = set.getYForIndex(j);
 
-        mRenderer.drawExtras(canvas);
+                if (y < mSpokeDataMin[j])
+                    mSpokeDataMin[j] = y;
+                if (y > mSpokeDataMax[j])
+                    mSpokeDataMax[j] = y;
+            }
+        }
+    }
 
-        mRenderer.drawData(canvas);
+    /**
+     * Recalculates the scale and direction of every spoke. Called whenever the
+     * data, the ranges or the size of the chart change.
+     */
+    private void prepareTransformer() {
 
-        mYAxisRenderer.renderAxisLabels(canvas);
+        int spokeCount = getSpokeCount();
+        float radius = getRadius();
 
-        mRenderer.drawValues(canvas);
+        mTransformer.setSpokes(spokeCount, getSliceAngle(), getRotationAngle());
 
-        mLegendRenderer.renderLegend(canvas);
+        MPPointF c = getCenterOffsets();
+        mTransformer.setCenter(c.x, c.y);
+        MPPointF.recycleInstance(c);
 
-    }
+        for (int j = 0; j < spokeCount; j++) {
 
-    private void preDraw(Canvas canvas) {
-        if (mData == null) {
+            float min = mYAxis.mAxisMinimum;
+            float range = mYAxis.mAxisRange;
 
-            String mNoDataText = "No chart data available.";
-            boolean hasText = !TextUtils.isEmpty(mNoDataText);
+            if (j < mSpokeRangeMin.length && !Float.isNaN(mSpokeRangeMin[j])) {
 
-            if (hasText) {
-                MPPointF pt = getCenter();
+                min = mSpokeRangeMin[j];
+                range = mSpokeRangeMax[j] - min;
 
-                switch (mInfoPaint.getTextAlign()) {
-                    case LEFT:
-                        pt.x = 0;
-                        canvas.drawText(mNoDataText, pt.x, pt.y, mInfoPaint);
-                        break;
+            } else if (mAutoScaleSpokes && j < mSpokeDataMin.length
+                    && mSpokeDataMin[j] <= mSpokeDataMax[j]) {
 
-                    case RIGHT:
-                        pt.x *= 2.0;
-                        canvas.drawText(mNoDataText, pt.x, pt.y, mInfoPaint);
-                        break;
+                float dataMin = mSpokeDataMin[j];
+                float dataMax = mSpokeDataMax[j];
 
-                    default:
-                        canvas.drawText(mNoDataText, pt.x, pt.y, mInfoPaint);
-                        break;
+                // in case all values are equal
+                if (dataMin == dataMax) {
+                    dataMax = dataMax + 1f;
+                    dataMin = dataMin - 1f;
                 }
+
+                // apply the same spacing as the y-axis
+                float dataRange = dataMax - dataMin;
+                min = dataMin - dataRange / 100f * mYAxis.getSpaceBottom();
+                range = dataMax + dataRange / 100f * mYAxis.getSpaceTop() - min;
             }
 
-            return;
+            mTransformer.setRange(j, min, range, radius);
         }
 
-        if (!mOffsetsCalculated) {
+        // the projected vertices and the drawn highlights are outdated
+        mHighlighter.invalidate();
+        mHighlightView.invalidate();
 
+        // keeps a running animation on target if the size or the ranges changed
+        mAnimator.updateTargets(mData, mTransformer);
+    }
+
+    /**
+     * Returns the number of spokes the chart draws.
+     *
+     * @return
+     */
+    private int getSpokeCount() {
+
+        int count = mData.getMaxEntryCountSet().getEntryCount();
+
+        if (mEnvelope != null)
+            count = Math.max(count, mEnvelope.getSpokeCount());
+
+        return count;
+    }
+
+    /**
+     * Lets the chart know its data has changed, e.g. after values were
+     * modified or components were enabled / disabled. Recalculates min / max,
+     * the axes, the legend and the offsets and drops the bitmap set via
+     * setOffscreenBitmap(...). Call invalidate() afterwards.
+     */
+    public void notifyDataSetChanged() {
+        mOffscreenBitmapValid = false;
+        updateLayout();
+    }
+
+    /**
+     * Recalculates min / max, the axes, the legend and the offsets.
+     */
+    private void updateLayout() {
+        if (mData == null)
+            return;
+
+        beginPhase(Phase.CALC_MIN_MAX);
+        calcMinMax();
+        endPhase(Phase.CALC_MIN_MAX);
+
+        // the values or the digits of the default formatter may have changed
+        mRenderer.clearLabelCaches();
+        mXAxisRenderer.clearLabelCache();
+
+        beginPhase(Phase.COMPUTE_AXIS);
+        mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
+        mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+        endPhase(Phase.COMPUTE_AXIS);
+
+        if (mLegend != null && mLegend.isLegendCustom()) {
+
+            beginPhase(Phase.COMPUTE_LEGEND);
+
+            if (mEnvelope != null)
+                mLegendRenderer.computeLegend(mEnvelope);
+            else
+                mLegendRenderer.computeLegend(mData);
+
+            endPhase(Phase.COMPUTE_LEGEND);
+        }
+
+        beginPhase(Phase.CALCULATE_OFFSETS);
+        calculateOffsets();
+        endPhase(Phase.CALCULATE_OFFSETS);
+
+        prepareTransformer();
+
+        if (mEnvelope != null)
+            mEnvelopeVersion = mEnvelope.getVersion();
+
+        if (mRenderCacheEnabled)
+            updateDataKey();
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+
+        DrawStatsRenderer stats = mDrawStatsRenderer;
+
+        Canvas target = stats != null ? stats.beginFrame(canvas) : canvas;
+
+        if (mQualityTracker != null)
+            mQualityTracker.onDraw();
+
+        drawTimedFrame(target);
+
+        if (stats != null)
+            stats.endFrame(canvas);
+    }
+
+    /**
+     * Draws the frame and records its duration if timings are enabled.
+     *
+     * @param canvas
+     */
+    private void drawTimedFrame(Canvas canvas) {
+
+        RenderTimings timings = mRenderTimings;
+
+        if (timings == null) {
+            drawFrame(canvas);
+            return;
+        }
+
+        timings.begin(Phase.FRAME);
+        drawFrame(canvas);
+        timings.end(Phase.FRAME);
+
+        if (mDrawTimingListener != null)
+            mDrawTimingListener.onDrawFinished(timings);
+    }
+
+    /**
+     * Draws the chart in the fastest way possible: from the rotation layer,
+     * the offscreen bitmap or the render cache, or directly.
+     *
+     * @param canvas
+     */
+    private void drawFrame(Canvas canvas) {
+        preDraw(canvas);
+
+        if (mData == null)
+            return;
+
+        // the envelope was modified since the layout was calculated
+        if (mEnvelope != null && mEnvelope.getVersion() != mEnvelopeVersion)
+            notifyDataSetChanged();
+
+        if (mLabelAtlas != null)
+            mLabelAtlas.nextFrame();
+
+        if (mRotating && mRotationLayer != null) {
+            drawRotating(canvas);
+            return;
+        }
+
+        // the bitmaps show the final state, animation frames are drawn directly
+        if (mAnimator.isRunning()) {
+            drawChart(canvas);
+            return;
+        }
+
+        if (mOffscreenBitmapValid
+                && mOffscreenBitmap.getWidth() == getWidth()
+                && mOffscreenBitmap.getHeight() == getHeight()) {
+            canvas.drawBitmap(mOffscreenBitmap, 0f, 0f, null);
+            return;
+        }
+
+        if (mRenderCacheEnabled && drawCached(canvas))
+            return;
+
+        drawChart(canvas);
+    }
+
+    /**
+     * Runs the render pipeline on the given canvas.
+     *
+     * @param canvas
+     */
+    private void drawChart(Canvas canvas) {
+
+//        if (mYAxis.isEnabled())
+//            mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
+
+        if (mXAxis.isEnabled()) {
+            beginPhase(Phase.COMPUTE_AXIS);
+            mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+            endPhase(Phase.COMPUTE_AXIS);
+        }
+
+        beginPhase(Phase.X_AXIS_LABELS);
+        mXAxisRenderer.renderAxisLabels(canvas);
+        endPhase(Phase.X_AXIS_LABELS);
+
+        beginPhase(Phase.WEB);
+        mRenderer.drawExtras(canvas);
+        endPhase(Phase.WEB);
+
+        beginPhase(Phase.DATA);
+        mRenderer.drawData(canvas);
+        endPhase(Phase.DATA);
+
+        beginPhase(Phase.Y_AXIS_LABELS);
+        mYAxisRenderer.renderAxisLabels(canvas);
+        endPhase(Phase.Y_AXIS_LABELS);
+
+        if (getQuality().compareTo(Quality.NO_VALUES) < 0) {
+            beginPhase(Phase.VALUES);
+            mRenderer.drawValues(canvas);
+            endPhase(Phase.VALUES);
+        }
+
+        beginPhase(Phase.LEGEND);
+        mLegendRenderer.renderLegend(canvas);
+        endPhase(Phase.LEGEND);
+    }
+
+    private void beginPhase(Phase phase) {
+        if (mRenderTimings != null)
+            mRenderTimings.begin(phase);
+    }
+
+    private void endPhase(Phase phase) {
+        if (mRenderTimings != null)
+            mRenderTimings.end(phase);
+    }
+
+    /**
+     * Enables recording the durations of the draw and layout phases of the
+     * chart, see getRenderTimings(). Adds a little overhead to every frame,
+     * disabled by default.
+     *
+     * @param enabled
+     */
+    public void setRenderTimingsEnabled(boolean enabled) {
+
+        if (!enabled)
+            mRenderTimings = null;
+        else if (mRenderTimings == null)
+            mRenderTimings = new RenderTimings(120);
+    }
+
+    public boolean isRenderTimingsEnabled() {
+        return mRenderTimings != null;
+    }
+
+    /**
+     * Returns the recorded timings of the draw and layout phases, null if
+     * timings are not enabled.
+     *
+     * @return
+     */
+    public RenderTimings getRenderTimings() {
+        return mRenderTimings;
+    }
+
+    /**
+     * Sets a listener that is called after every frame with the recorded
+     * timings. Enables the timings if a listener is set.
+     *
+     * @param l
+     */
+    public void setOnDrawTimingListener(OnDrawTimingListener l) {
+
+        mDrawTimingListener = l;
+
+        if (l != null)
+            setRenderTimingsEnabled(true);
+    }
+
+    /**
+     * Enables the quality governor: while the frames the chart is drawn in
+     * take longer than the frame budget, the rendering quality is stepped down
+     * (no anti-aliasing, no value labels, fewer web lines, fills without clip
+     * path), and stepped up again once frames are fast or the chart is idle.
+     * The frame times are measured between frames (Choreographer frames on
+     * API level 16 and above), so they include all work of the frame, not
+     * only drawing the chart. Use
+     * getQualityGovernor() to configure the thresholds and to listen for
+     * quality changes. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setQualityGovernorEnabled(boolean enabled) {
+
+        if (enabled == (mQualityTracker != null))
+            return;
+
+        if (enabled) {
+            mQualityTracker = new QualityFrameTracker(this, new QualityGovernor(),
+                    new OnQualityChangeListener() {
+                        @Override
+                        public void onQualityChanged(Quality previous, Quality quality, long frameNanos) {
+                            applyQuality();
+                            invalidate();
+                        }
+                    });
+        } else {
+            mQualityTracker.stop();
+            mQualityTracker = null;
+        }
+
+        applyQuality();
+        invalidate();
+    }
+
+    public boolean isQualityGovernorEnabled() {
+        return mQualityTracker != null;
+    }
+
+    /**
+     * Returns the quality governor, null if it is not enabled.
+     *
+     * @return
+     */
+    public QualityGovernor getQualityGovernor() {
+        return mQualityTracker != null ? mQualityTracker.getGovernor() : null;
+    }
+
+    /**
+     * Returns the quality the chart is currently drawn with.
+     *
+     * @return
+     */
+    public Quality getQuality() {
+        return mQualityTracker != null ? mQualityTracker.getGovernor().getQuality() : Quality.FULL;
+    }
+
+    /**
+     * Configures the renderer for the current quality, the value labels and
+     * the web lines are checked while drawing.
+     */
+    private void applyQuality() {
+
+        Quality quality = getQuality();
+
+        mRenderer.setAntiAliasEnabled(quality.compareTo(Quality.NO_ANTI_ALIAS) < 0);
+        mRenderer.setClipFillEnabled(quality.compareTo(Quality.DIRECT_FILL) < 0);
+    }
+
+    /**
+     * Enables a debug overlay that shows the number of draw operations of
+     * every frame by type, the paint changes and the estimated overdraw, see
+     * DrawStatsCanvas. Frames drawn from a cached bitmap only count the
+     * bitmap. Disabled by default, not meant for production.
+     *
+     * @param enabled
+     */
+    public void setDrawStatsEnabled(boolean enabled) {
+
+        if (!enabled)
+            mDrawStatsRenderer = null;
+        else if (mDrawStatsRenderer == null)
+            mDrawStatsRenderer = new DrawStatsRenderer(mViewPortHandler);
+
+        invalidate();
+    }
+
+    public boolean isDrawStatsEnabled() {
+        return mDrawStatsRenderer != null;
+    }
+
+    /**
+     * Returns the statistics of the last frame, null if the debug overlay is
+     * not enabled.
+     *
+     * @return
+     */
+    public DrawStatsCanvas getDrawStats() {
+        return mDrawStatsRenderer == null ? null : mDrawStatsRenderer.getDrawStats();
+    }
+
+    /**
+     * Draws the chart while it is rotated: the web and the data are drawn from
+     * the rotation layer with a single canvas rotation, only the labels and
+     * values, which stay upright, are projected again.
+     *
+     * @param canvas
+     */
+    private void drawRotating(Canvas canvas) {
+
+        MPPointF c = getCenterOffsets();
+
+        int save = canvas.save();
+        canvas.rotate(mRawRotationAngle - mLayerRotationAngle, c.x, c.y);
+        canvas.drawBitmap(mRotationLayer, 0f, 0f, null);
+        canvas.restoreToCount(save);
+
+        MPPointF.recycleInstance(c);
+
+        mXAxisRenderer.renderAxisLabels(canvas);
+
+        mYAxisRenderer.renderAxisLabels(canvas);
+
+        mRenderer.drawValues(canvas);
+
+        mLegendRenderer.renderLegend(canvas);
+    }
+
+    /**
+     * Draws the chart from the shared render cache, rendering it into the
+     * cache first if it is not there yet. Returns false if the chart is too
+     * large to be cached and needs to be drawn directly.
+     *
+     * @param canvas
+     * @return
+     */
+    private boolean drawCached(Canvas canvas) {
+
+        int width = getWidth();
+        int height = getHeight();
+
+        RadarRenderCache cache = RadarRenderCache.getInstance();
+
+        if (width <= 0 || height <= 0 || !cache.fits(width, height))
+            return false;
+
+        updateRenderKey(width, height);
+        Bitmap bitmap = cache.get(mRenderKey);
+
+        if (bitmap == null) {
+
+            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            drawChart(new Canvas(bitmap));
+            cache.put(mRenderKey, bitmap);
+        }
+
+        canvas.drawBitmap(bitmap, 0f, 0f, null);
+        return true;
+    }
+
+    /**
+     * Maps the data (and the envelope) to its render cache id. Called when the
+     * data changes, not on every frame.
+     */
+    private void updateDataKey() {
+
+        // the render key is refilled before every lookup, it serves as
+        // scratch key here
+        mRenderKey.reset();
+
+        RadarRenderCache.addData(mRenderKey, mData);
+
+        mRenderKey.add(mEnvelope != null);
+
+        if (mEnvelope != null)
+            RadarRenderCache.addEnvelope(mRenderKey, mEnvelope);
+
+        mDataId = RadarRenderCache.getInstance().getDataId(mRenderKey);
+    }
+
+    /**
+     * Fills the render key with the data id, the size and everything else
+     * that influences how the chart looks.
+     *
+     * @param width
+     * @param height
+     */
+    private void updateRenderKey(int width, int height) {
+
+        RadarRenderCache.Key key = mRenderKey;
+
+        key.reset();
+        key.add(mDataId);
+
+        key.add(width);
+        key.add(height);
+
+        key.add(mWebLineWidth);
+        key.add(mInnerWebLineWidth);
+        key.add(mWebColor);
+        key.add(mWebColorInner);
+        key.add(mWebAlpha);
+        key.add(mSkipWebLineCount);
+        key.add(mSpokeLodEnabled);
+        key.add(mRenderer.isValueLabelCullingEnabled());
+        key.add(mLabelAtlas != null);
+        key.add(getQuality().ordinal());
+        key.add(mRotationAngle);
+        key.add(mRotateEnabled);
+        key.add(mAutoScaleSpokes);
+
+        key.add(mSpokeRangeMin.length);
+
+        for (int j = 0; j < mSpokeRangeMin.length; j++) {
+            key.add(mSpokeRangeMin[j]);
+            key.add(mSpokeRangeMax[j]);
+        }
+
+        addComponent(key, mXAxis);
+        key.addRef(mXAxis.getValueFormatter());
+        key.add(mXAxis.isDrawLabelsEnabled());
+        key.add(mXAxis.getLabelRotationAngle());
+
+        addComponent(key, mYAxis);
+        key.addRef(mYAxis.getValueFormatter());
+        key.add(mYAxis.isDrawLabelsEnabled());
+        key.add(mYAxis.getLabelCount());
+        key.add(mYAxis.isForceLabelsEnabled());
+        key.add(mYAxis.getGranularity());
+        key.add(mYAxis.isGranularityEnabled());
+        key.add(mYAxis.isCenterAxisLabelsEnabled());
+        key.add(mYAxis.isDrawTopYLabelEntryEnabled());
+        key.add(mYAxis.isDrawBottomYLabelEntryEnabled());
+        key.add(mYAxis.getLabelXOffset());
+        key.add(mYAxis.isInverted());
+        key.add(mYAxis.mAxisMinimum);
+        key.add(mYAxis.mAxisMaximum);
+
+        addComponent(key, mLegend);
+        key.add(mLegend.getHorizontalAlignment().ordinal());
+        key.add(mLegend.getVerticalAlignment().ordinal());
+        key.add(mLegend.getOrientation().ordinal());
+        key.add(mLegend.isDrawInsideEnabled());
+        key.add(mLegend.getXEntrySpace());
+        key.add(mLegend.getYEntrySpace());
+
+        // the entries are computed from the data, unless set by the user
+        LegendEntry[] entries = mLegend.getEntries();
+
+        key.add(entries.length);
+
+        for (LegendEntry entry : entries) {
+            key.addValue(entry.label);
+            key.add(entry.form == null ? -1 : entry.form.ordinal());
+            key.add(entry.formSize);
+            key.add(entry.formLineWidth);
+            key.addRef(entry.formLineDashEffect);
+            key.add(entry.formColor);
+            key.add(entry.fillColor);
+            key.add(entry.fillAlpha);
+        }
+    }
+
+    private static void addComponent(RadarRenderCache.Key key, ComponentBase component) {
+
+        key.add(component.isEnabled());
+        key.add(component.getTextSize());
+        key.add(component.getTextColor());
+        key.add(component.getXOffset());
+        key.add(component.getYOffset());
+        key.addRef(component.getTypeface());
+    }
+
+    /**
+     * If enabled, the rendered chart is stored in a cache shared by all charts
+     * and redrawn from there as long as data, size and style do not change.
+     * Rebinding a chart to content that has been drawn before then only costs
+     * a single bitmap draw. Call setData(...) (or notifyDataSetChanged()) after
+     * modifying the data, otherwise the cached rendering is shown, the data is
+     * only compared when it changes. Modifications of the envelope are noticed
+     * by its version, invalidate() is enough for them. Formatters,
+     * typefaces and drawables are compared by identity, they must not be
+     * modified while the cache is enabled, set new instances instead.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setRenderCacheEnabled(boolean enabled) {
+
+        mRenderCacheEnabled = enabled;
+
+        if (enabled) {
+            RadarRenderCache.getInstance().register(getContext());
+
+            if (mData != null)
+                updateDataKey();
+        }
+    }
+
+    public boolean isRenderCacheEnabled() {
+        return mRenderCacheEnabled;
+    }
+
+    /**
+     * Renders the chart into the given bitmap, using the bitmap's size as the
+     * size of the chart. This runs the same pipeline as drawing the view, but
+     * does not need the view to be attached or laid out, so it can be called
+     * on a background thread. The chart must not be drawn or modified by
+     * another thread at the same time: use a separate chart instance that is
+     * only used for offscreen rendering.
+     *
+     * @param bitmap a mutable bitmap
+     */
+    public void renderOffscreen(Bitmap bitmap) {
+
+        int width = bitmap.getWidth();
+        int height = bitmap.getHeight();
+
+        if (width != (int) mViewPortHandler.getChartWidth()
+                || height != (int) mViewPortHandler.getChartHeight()
+                || (mEnvelope != null && mEnvelope.getVersion() != mEnvelopeVersion)) {
+
+            mViewPortHandler.setChartDimens(width, height);
+            updateLayout();
+        }
+
+        Canvas canvas = new Canvas(bitmap);
+
+        preDraw(canvas);
+
+        if (mData != null)
+            drawChart(canvas);
+    }
+
+    /**
+     * Sets a bitmap that was rendered ahead of time for the current data. It is
+     * drawn instead of the chart as long as its size matches the size of the
+     * view and the data is not replaced. Otherwise the chart is drawn as
+     * usual. Returns the previous bitmap, so that it can be reused.
+     *
+     * @param bitmap the bitmap, null to draw the chart
+     * @return the previous bitmap or null
+     */
+    public Bitmap setOffscreenBitmap(Bitmap bitmap) {
+
+        Bitmap previous = mOffscreenBitmap;
+
+        mOffscreenBitmap = bitmap;
+        mOffscreenBitmapValid = bitmap != null;
+
+        invalidate();
+        return previous;
+    }
+
+    /**
+     * Returns the bitmap set via setOffscreenBitmap(...), or null.
+     *
+     * @return
+     */
+    public Bitmap getOffscreenBitmap() {
+        return mOffscreenBitmap;
+    }
+
+    private void preDraw(Canvas canvas) {
+        if (mData == null) {
+
+            String mNoDataText = "No chart data available.";
+            boolean hasText = !TextUtils.isEmpty(mNoDataText);
+
+            if (hasText) {
+                MPPointF pt = getCenter();
+
+                switch (mInfoPaint.getTextAlign()) {
+                    case LEFT:
+                        pt.x = 0;
+                        canvas.drawText(mNoDataText, pt.x, pt.y, mInfoPaint);
+                        break;
+
+                    case RIGHT:
+                        pt.x *= 2.0;
+                        canvas.drawText(mNoDataText, pt.x, pt.y, mInfoPaint);
+                        break;
+
+                    default:
+                        canvas.drawText(mNoDataText, pt.x, pt.y, mInfoPaint);
+                        break;
+                }
+            }
+
+            return;
+        }
+
+        if (!mOffsetsCalculated) {
+
+            beginPhase(Phase.CALCULATE_OFFSETS);
             calculateOffsets();
+            endPhase(Phase.CALCULATE_OFFSETS);
+
+            prepareTransformer();
             mOffsetsCalculated = true;
         }
     }
@@ -630,6 +1726,73 @@ public class RadarChart extends ViewGroup {
         return Math.min(content.width() / 2f, content.height() / 2f) / mYAxis.mAxisRange;
     }
 
+    /**
+     * Returns the transformer that maps values onto the spokes of the chart.
+     *
+     * @return
+     */
+    public RadarTransformer getTransformer() {
+        return mTransformer;
+    }
+
+    /**
+     * Sets a value range for the spoke at the given index, independent of the
+     * range of the y-axis. Use this if the spokes represent different units.
+     * Values equal to min are drawn at the center, values equal to max on the
+     * outer web. The labels of the y-axis always describe the y-axis range.
+     *
+     * @param spoke
+     * @param min
+     * @param max
+     */
+    public void setSpokeRange(int spoke, float min, float max) {
+
+        if (spoke >= mSpokeRangeMin.length) {
+
+            int length = mSpokeRangeMin.length;
+
+            mSpokeRangeMin = Arrays.copyOf(mSpokeRangeMin, spoke + 1);
+            mSpokeRangeMax = Arrays.copyOf(mSpokeRangeMax, spoke + 1);
+
+            Arrays.fill(mSpokeRangeMin, length, spoke + 1, Float.NaN);
+            Arrays.fill(mSpokeRangeMax, length, spoke + 1, Float.NaN);
+        }
+
+        mSpokeRangeMin[spoke] = min;
+        mSpokeRangeMax[spoke] = max;
+
+        if (mData != null)
+            prepareTransformer();
+    }
+
+    /**
+     * Removes all ranges set via setSpokeRange(...), all spokes use the range
+     * of the y-axis (or their data range if auto scaling is enabled) again.
+     */
+    public void resetSpokeRanges() {
+
+        mSpokeRangeMin = new float[0];
+        mSpokeRangeMax = new float[0];
+
+        if (mData != null)
+            prepareTransformer();
+    }
+
+    /**
+     * If set to true, every spoke without a custom range is scaled to the range
+     * of its own values instead of the range of the y-axis, default: false
+     *
+     * @param enabled
+     */
+    public void setAutoScaleSpokesEnabled(boolean enabled) {
+        mAutoScaleSpokes = enabled;
+        notifyDataSetChanged();
+    }
+
+    public boolean isAutoScaleSpokesEnabled() {
+        return mAutoScaleSpokes;
+    }
+
     /**
      * Returns the angle that each slice in the radar chart occupies.
      *
@@ -725,21 +1888,118 @@ public class RadarChart extends ViewGroup {
     }
 
     /**
-     * Returns the modulus that is used for skipping web-lines.
+     * Sets the number of web-lines that should be skipped on chart web before
+     * the next one is drawn. This targets the lines that come from the center
+     * of the RadarChart. Default: 0
+     *
+     * @param count if count = 1 -> 1 line is skipped in between
+     */
+    public void setSkipWebLineCount(int count) {
+        mSkipWebLineCount = Math.max(0, count);
+    }
+
+    /**
+     * Returns the modulus that is used for skipping web-lines. While the
+     * quality governor thins the web, at most MAX_THIN_WEB_LINES lines are
+     * drawn and at least every other line is skipped.
      *
      * @return
      */
     public int getSkipWebLineCount() {
-        return 0;
+
+        if (mData == null)
+            return mSkipWebLineCount;
+
+        int skip = mSkipWebLineCount;
+
+        if (mSpokeLodEnabled) {
+            int step = SpokeLod.getStep(getSpokeCount(), getRadius(), Utils.convertDpToPixel(MIN_WEB_LINE_SPACING_DP));
+            skip = Math.max(skip, step - 1);
+        }
+
+        if (getQuality().compareTo(Quality.THIN_WEB) >= 0)
+            skip = Math.max(skip, Math.max(1, getSpokeCount() / MAX_THIN_WEB_LINES));
+
+        return skip;
+    }
+
+    /**
+     * Enables the level of detail for very high spoke counts: every DataSet
+     * is drawn with at most two vertices (the innermost and the outermost)
+     * per couple of pixels along the web, so peaks stay visible, and web
+     * lines and spoke labels are thinned to what fits at their radius. The
+     * drawing work then depends on the size of the chart instead of the
+     * number of spokes. Has no effect while all spokes fit. Default: false
+     *
+     * @param enabled
+     */
+    public void setSpokeLodEnabled(boolean enabled) {
+        mSpokeLodEnabled = enabled;
+        invalidate();
+    }
+
+    public boolean isSpokeLodEnabled() {
+        return mSpokeLodEnabled;
+    }
+
+    /**
+     * If enabled, value labels that would overlap the label of an earlier
+     * DataSet or of an earlier spoke are not drawn, which keeps the values of
+     * charts with many DataSets readable. The placement is only recomputed
+     * when the data, the size or the rotation change. Default: false
+     *
+     * @param enabled
+     */
+    public void setValueLabelCullingEnabled(boolean enabled) {
+        mRenderer.setValueLabelCullingEnabled(enabled);
+        invalidate();
+    }
+
+    public boolean isValueLabelCullingEnabled() {
+        return mRenderer.isValueLabelCullingEnabled();
+    }
+
+    /**
+     * If enabled, the value labels and the y-axis labels are rasterized once
+     * into a shared bitmap atlas and then drawn as bitmaps, instead of shaping
+     * and rasterizing their text on every frame. Helps on devices where text
+     * is the dominant cost of a frame, e.g. dashboards that redraw the same
+     * numbers continuously. Texts that are too large for the atlas are drawn
+     * as text. Default: false
+     *
+     * @param enabled
+     */
+    public void setLabelAtlasEnabled(boolean enabled) {
+
+        if (enabled && mLabelAtlas == null) {
+
+            mLabelAtlas = new LabelAtlas(LABEL_ATLAS_COLUMNS, LABEL_ATLAS_ROWS,
+                    (int) Math.ceil(Utils.convertDpToPixel(LABEL_ATLAS_SLOT_WIDTH_DP)),
+                    (int) Math.ceil(Utils.convertDpToPixel(LABEL_ATLAS_SLOT_HEIGHT_DP)));
+
+        } else if (!enabled && mLabelAtlas != null) {
+
+            mLabelAtlas.clear();
+            mLabelAtlas = null;
+        }
+
+        mRenderer.setLabelAtlas(mLabelAtlas);
+        mYAxisRenderer.setLabelAtlas(mLabelAtlas);
+
+        invalidate();
+    }
+
+    public boolean isLabelAtlasEnabled() {
+        return mLabelAtlas != null;
     }
 
     private float getRequiredLegendOffset() {
         return mLegendRenderer.getLabelPaint().getTextSize() * 4.f;
     }
 
-    private float getRequiredBaseOffset() {
+    private float getRequiredBaseOffset(float labelExtent) {
         return mXAxis.isEnabled() && mXAxis.isDrawLabelsEnabled() ?
-                mXAxis.mLabelRotatedWidth :
+                labelExtent :
                 Utils.convertDpToPixel(10f);
     }
 
@@ -780,7 +2040,7 @@ public class RadarChart extends ViewGroup {
 
         // This may cause the chart view to mutate properties affecting the view port --
         //   lets do this before we try to run any pending jobs on the view port itself
-        notifyDataSetChanged();
+        updateLayout();
 
         for (Runnable r : mJobs) {
             post(r);
@@ -794,8 +2054,9 @@ public class RadarChart extends ViewGroup {
     @Override
     protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
 
+        // children are positioned relative to the chart and cover all of it
         for (int i = 0; i < getChildCount(); i++) {
-            getChildAt(i).layout(left, top, right, bottom);
+            getChildAt(i).layout(0, 0, right - left, bottom - top);
         }
     }
 
@@ -810,5 +2071,292 @@ public class RadarChart extends ViewGroup {
                 Math.max(getSuggestedMinimumHeight(),
                         resolveSize(size,
                                 heightMeasureSpec)));
+
+        int childWidthSpec = MeasureSpec.makeMeasureSpec(getMeasuredWidth(), MeasureSpec.EXACTLY);
+        int childHeightSpec = MeasureSpec.makeMeasureSpec(getMeasuredHeight(), MeasureSpec.EXACTLY);
+
+        for (int i = 0; i < getChildCount(); i++) {
+            getChildAt(i).measure(childWidthSpec, childHeightSpec);
+        }
+    }
+
+    /**
+     * ###### ###### HIGHLIGHTING ###### ######
+     */
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+
+        if (mData == null
+                || (!mRotateEnabled && !mHighlightPerTapEnabled && !mHighlightPerDragEnabled))
+            return super.onTouchEvent(event);
+
+        return mTouchListener.onTouch(this, event);
+    }
+
+    /**
+     * Starts a rotation by the user, called by the touch listener. Renders the
+     * web and the data into the rotation layer, which is drawn rotated until
+     * endRotation() is called.
+     */
+    public void beginRotation() {
+
+        int width = getWidth();
+        int height = getHeight();
+
+        if (width <= 0 || height <= 0)
+            return;
+
+        // the layer can't follow the animation, jump to its end
+        mAnimator.end();
+
+        if (mRotationLayer == null || mRotationLayer.getWidth() != width
+                || mRotationLayer.getHeight() != height) {
+
+            if (mRotationLayer != null)
+                mRotationLayer.recycle();
+
+            mRotationLayer = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+
+        } else {
+            mRotationLayer.eraseColor(Color.TRANSPARENT);
+        }
+
+        Canvas c = new Canvas(mRotationLayer);
+
+        mRenderer.drawExtras(c);
+        mRenderer.drawData(c);
+
+        mLayerRotationAngle = mRawRotationAngle;
+        mRotating = true;
+    }
+
+    /**
+     * Rotates the chart during a rotation by the user, called by the touch
+     * listener. Only the trig table of the transformer is rotated, the
+     * geometry is rebuilt when the rotation ends.
+     *
+     * @param angle the new raw rotation angle
+     */
+    public void rotateTo(float angle) {
+
+        float delta = angle - mRawRotationAngle;
+
+        mRawRotationAngle = angle;
+        mRotationAngle = normalizeAngle(angle);
+
+        mTransformer.rotate(delta);
+
+        invalidate();
+        mHighlightView.invalidate();
+    }
+
+    /**
+     * Ends a rotation by the user and rebuilds the geometry for the final
+     * angle, called by the touch listener.
+     */
+    public void endRotation() {
+
+        mRotating = false;
+        mOffscreenBitmapValid = false;
+
+        if (mData != null)
+            prepareTransformer();
+
+        invalidate();
+    }
+
+    /**
+     * Stops a running fling or rotation gesture.
+     */
+    public void stopDeceleration() {
+        mTouchListener.stopDeceleration();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        stopDeceleration();
+        mAnimator.end();
+
+        if (mQualityTracker != null)
+            mQualityTracker.stop();
+
+        if (mRotationLayer != null) {
+            mRotationLayer.recycle();
+            mRotationLayer = null;
+        }
+
+        // the atlas is filled again when the chart is drawn the next time
+        if (mLabelAtlas != null)
+            mLabelAtlas.clear();
+    }
+
+    /**
+     * Returns the Highlight object (contains the spoke and DataSet index) of
+     * the value closest to the given touch point inside the chart, or null.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public Highlight getHighlightByTouchPoint(float x, float y) {
+
+        if (mData == null) {
+            Log.e(LOG_TAG, "Can't select by touch. No data set.");
+            return null;
+        }
+
+        return mHighlighter.getHighlight(x, y);
+    }
+
+    /**
+     * Highlights the value of the given DataSet on the given spoke and calls
+     * the selection listener. Provide -1 as spoke to undo all highlighting.
+     *
+     * @param spoke
+     * @param dataSetIndex
+     */
+    public void highlightValue(int spoke, int dataSetIndex) {
+
+        if (mData == null || spoke < 0 || dataSetIndex < 0
+                || dataSetIndex >= mData.getDataSetCount()
+                || spoke >= mData.getDataSetByIndex(dataSetIndex).getEntryCount()) {
+            highlightValue(null, true);
+            return;
+        }
+
+        MPPointF p = MPPointF.getInstance(0, 0);
+        float value = mData.getDataSetByIndex(dataSetIndex).getYForIndex(spoke);
+
+        if (spoke < mTransformer.getSpokeCount())
+            mTransformer.getPosition(spoke, value, p);
+
+        highlightValue(new Highlight(spoke, dataSetIndex, value, p.x, p.y), true);
+        MPPointF.recycleInstance(p);
+    }
+
+    /**
+     * Highlights the given value, null to undo all highlighting. Only the
+     * highlight overlay is redrawn, the chart itself is not.
+     *
+     * @param high
+     * @param callListener if true, the selection listener is called
+     */
+    public void highlightValue(Highlight high, boolean callListener) {
+
+        Highlight previous = getHighlighted();
+
+        if (high == null ? previous == null : high.equalTo(previous))
+            return;
+
+        mIndicesToHighlight = high == null ? null : new Highlight[]{high};
+
+        mHighlightView.invalidate();
+
+        if (callListener && mSelectionListener != null) {
+
+            if (high == null)
+                mSelectionListener.onNothingSelected();
+            else
+                mSelectionListener.onValueSelected(mData.getDataSetByIndex(high.getDataSetIndex())
+                        .getEntryForIndex(high.getSpoke()), high);
+        }
+    }
+
+    /**
+     * Highlights the given values without calling the selection listener,
+     * null to undo all highlighting.
+     *
+     * @param highs
+     */
+    public void highlightValues(Highlight[] highs) {
+
+        mIndicesToHighlight = highs == null || highs.length == 0 ? null : highs;
+        mHighlightView.invalidate();
+    }
+
+    /**
+     * Returns the first highlighted value, or null if nothing is highlighted.
+     *
+     * @return
+     */
+    public Highlight getHighlighted() {
+        return valuesToHighlight() ? mIndicesToHighlight[0] : null;
+    }
+
+    /**
+     * Returns true if there are values to highlight.
+     *
+     * @return
+     */
+    public boolean valuesToHighlight() {
+        return mIndicesToHighlight != null && mIndicesToHighlight.length > 0;
+    }
+
+    /**
+     * Returns the highlighter that resolves touches to values.
+     *
+     * @return
+     */
+    public RadarHighlighter getHighlighter() {
+        return mHighlighter;
+    }
+
+    /**
+     * Set this to false to prevent values from being highlighted by tap
+     * gesture. Tapping is only used if highlighting per drag is disabled.
+     * Default: true
+     *
+     * @param enabled
+     */
+    public void setHighlightPerTapEnabled(boolean enabled) {
+        mHighlightPerTapEnabled = enabled;
+    }
+
+    public boolean isHighlightPerTapEnabled() {
+        return mHighlightPerTapEnabled;
+    }
+
+    /**
+     * Set this to false to prevent values from being highlighted by dragging
+     * over the chart. Default: true
+     *
+     * @param enabled
+     */
+    public void setHighlightPerDragEnabled(boolean enabled) {
+        mHighlightPerDragEnabled = enabled;
+    }
+
+    public boolean isHighlightPerDragEnabled() {
+        return mHighlightPerDragEnabled;
+    }
+
+    /**
+     * Sets a listener that is called when a value is selected or the
+     * selection is removed.
+     *
+     * @param l
+     */
+    public void setOnChartValueSelectedListener(OnChartValueSelectedListener l) {
+        mSelectionListener = l;
+    }
+
+    /**
+     * Overlay on top of the chart that draws the highlighted values.
+     */
+    private class HighlightView extends View {
+
+        HighlightView(Context context) {
+            super(context);
+        }
+
+        @Override
+        protected void onDraw(Canvas canvas) {
+
+            if (mData != null && valuesToHighlight())
+                mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+        }
     }
 }
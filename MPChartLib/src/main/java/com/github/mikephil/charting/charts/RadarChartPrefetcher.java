@@ -0,0 +1,339 @@
+package com.github.mikephil.charting.charts;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.github.mikephil.charting.utils.BitmapPool;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Renders charts into bitmaps on a background thread ahead of time, e.g. for
+ * the items of a RecyclerView that are about to scroll into view. Every item
+ * is identified by a stable key. The chart of an item is configured by a
+ * Binder on a dedicated offscreen RadarChart and rendered with the same
+ * pipeline the view uses in onDraw(...). Finished bitmaps are handed to the
+ * visible chart via attach(...), if the bitmap is not ready yet the chart
+ * draws itself as usual and switches to the bitmap as soon as it is done.
+ * Bitmaps are recycled through a BitmapPool. If binding or rendering an item
+ * fails, its bitmap is returned to the pool and the chart of the item keeps
+ * drawing itself.
+ * <p/>
+ * All methods must be called on the main thread.
+ *
+ * @param <T> the type of the items
+ */
+public class RadarChartPrefetcher<T> {
+
+    private static final String LOG_TAG = "MPAndroidChart";
+
+    /**
+     * Configures a chart for an item. Called on the background thread for the
+     * offscreen chart, so it must not touch any views. Use the same code to
+     * configure the visible chart, so that both look the same.
+     *
+     * @param <T>
+     */
+    public interface Binder<T> {
+
+        /**
+         * Sets the data and the style of the item on the given chart.
+         *
+         * @param chart
+         * @param item
+         */
+        void onBind(RadarChart chart, T item);
+    }
+
+    /**
+     * chart only used for offscreen rendering on the worker thread
+     */
+    private final RadarChart mOffscreenChart;
+
+    private final Binder<T> mBinder;
+
+    private final BitmapPool mPool;
+
+    private final ExecutorService mExecutor;
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * requested renderings per key, pending or finished
+     */
+    private final Map<Long, Task> mTasks = new HashMap<>();
+
+    /**
+     * the key every attached chart is bound to
+     */
+    private final Map<RadarChart, Long> mAttached = new HashMap<>();
+
+    /**
+     * @param context
+     * @param binder      configures the offscreen chart for an item
+     * @param maxBitmaps  the maximum number of unused bitmaps kept for reuse
+     */
+    public RadarChartPrefetcher(Context context, Binder<T> binder, int maxBitmaps) {
+
+        mOffscreenChart = new RadarChart(context);
+        mBinder = binder;
+        mPool = new BitmapPool(maxBitmaps);
+
+        mExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "RadarChartPrefetcher");
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Requests the chart of the given item to be rendered with the given size
+     * in the background. Does nothing if the item has already been requested
+     * with the same size.
+     *
+     * @param key    stable key of the item
+     * @param item
+     * @param width  the width of the chart view in pixels
+     * @param height the height of the chart view in pixels
+     */
+    public void prefetch(long key, T item, int width, int height) {
+
+        if (width <= 0 || height <= 0)
+            return;
+
+        Task task = mTasks.get(key);
+
+        if (task != null) {
+
+            if (task.mWidth == width && task.mHeight == height)
+                return;
+
+            cancel(key);
+        }
+
+        task = new Task(key, item, width, height);
+        mTasks.put(key, task);
+        task.mFuture = mExecutor.submit(task);
+    }
+
+    /**
+     * Binds the given chart to the item with the given key. If the item has
+     * been rendered, the bitmap is set on the chart right away and true is
+     * returned. Otherwise the chart draws itself and receives the bitmap
+     * later if a rendering is pending. The chart must already be configured
+     * for the item, any bitmap it held before is returned to the pool.
+     *
+     * @param chart
+     * @param key
+     * @return true if the rendered bitmap was set on the chart
+     */
+    public boolean attach(RadarChart chart, long key) {
+
+        detach(chart);
+
+        Task task = mTasks.get(key);
+
+        if (task == null)
+            return false;
+
+        if (task.mBitmap == null) {
+            mAttached.put(chart, key);
+            return false;
+        }
+
+        mTasks.remove(key);
+        chart.setOffscreenBitmap(task.mBitmap);
+        return true;
+    }
+
+    /**
+     * Releases the bitmap of the given chart, e.g. when its view is recycled.
+     *
+     * @param chart
+     */
+    public void detach(RadarChart chart) {
+
+        mAttached.remove(chart);
+        mPool.release(chart.setOffscreenBitmap(null));
+    }
+
+    /**
+     * Cancels the rendering of the item with the given key, e.g. when it will
+     * not be shown anymore. A finished bitmap that has not been attached is
+     * returned to the pool.
+     *
+     * @param key
+     */
+    public void cancel(long key) {
+
+        Task task = mTasks.remove(key);
+
+        if (task == null)
+            return;
+
+        task.mCancelled = true;
+        task.mFuture.cancel(false);
+
+        mPool.release(task.mBitmap);
+        task.mBitmap = null;
+
+        removeWaiting(key);
+    }
+
+    /**
+     * Cancels all renderings and releases all bitmaps that are not attached.
+     */
+    public void cancelAll() {
+
+        for (Long key : mTasks.keySet().toArray(new Long[mTasks.size()])) {
+            cancel(key);
+        }
+    }
+
+    /**
+     * Stops the background thread and releases all bitmaps, including the
+     * ones held by attached charts. The prefetcher can't be used afterwards.
+     */
+    public void shutdown() {
+
+        cancelAll();
+
+        for (RadarChart chart : mAttached.keySet().toArray(new RadarChart[mAttached.size()])) {
+            detach(chart);
+        }
+
+        mExecutor.shutdownNow();
+        mPool.clear();
+    }
+
+    /**
+     * Returns the pool the bitmaps are recycled through.
+     *
+     * @return
+     */
+    public BitmapPool getBitmapPool() {
+        return mPool;
+    }
+
+    private void removeWaiting(long key) {
+
+        Iterator<Map.Entry<RadarChart, Long>> it = mAttached.entrySet().iterator();
+
+        while (it.hasNext()) {
+            if (it.next().getValue() == key)
+                it.remove();
+        }
+    }
+
+    /**
+     * Called on the main thread when a rendering is done.
+     */
+    private void onRendered(Task task, Bitmap bitmap) {
+
+        if (task.mCancelled || mTasks.get(task.mKey) != task) {
+            mPool.release(bitmap);
+            return;
+        }
+
+        task.mBitmap = bitmap;
+
+        for (Map.Entry<RadarChart, Long> e : mAttached.entrySet()) {
+
+            if (e.getValue() == task.mKey) {
+
+                RadarChart chart = e.getKey();
+
+                mAttached.remove(chart);
+                mTasks.remove(task.mKey);
+                mPool.release(chart.setOffscreenBitmap(bitmap));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Called on the main thread when a rendering failed. Charts waiting for
+     * the item keep drawing themselves, the item can be requested again.
+     */
+    private void onFailed(Task task, Bitmap bitmap) {
+
+        mPool.release(bitmap);
+
+        if (mTasks.get(task.mKey) != task)
+            return;
+
+        mTasks.remove(task.mKey);
+        removeWaiting(task.mKey);
+    }
+
+    /**
+     * A single rendering, runs on the worker thread.
+     */
+    private class Task implements Runnable {
+
+        private final long mKey;
+        private final T mItem;
+        private final int mWidth;
+        private final int mHeight;
+
+        private Future<?> mFuture;
+
+        private volatile boolean mCancelled = false;
+
+        /**
+         * the rendered bitmap, only accessed on the main thread
+         */
+        private Bitmap mBitmap;
+
+        private Task(long key, T item, int width, int height) {
+            mKey = key;
+            mItem = item;
+            mWidth = width;
+            mHeight = height;
+        }
+
+        @Override
+        public void run() {
+
+            if (mCancelled)
+                return;
+
+            final Bitmap bitmap = mPool.obtain(mWidth, mHeight);
+
+            try {
+                mBinder.onBind(mOffscreenChart, mItem);
+                mOffscreenChart.renderOffscreen(bitmap);
+            } catch (RuntimeException e) {
+
+                Log.e(LOG_TAG, "Can't render item " + mKey + " offscreen.", e);
+
+                mHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onFailed(Task.this, bitmap);
+                    }
+                });
+                return;
+            }
+
+            mHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    onRendered(Task.this, bitmap);
+                }
+            });
+        }
+    }
+}
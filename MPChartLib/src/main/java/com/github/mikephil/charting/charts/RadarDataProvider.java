@@ -0,0 +1,76 @@
+package com.github.mikephil.charting.charts;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarEnvelope;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RadarTransformer;
+
+/**
+ * Everything the radar renderers need to know about the chart they draw: the
+ * data, the geometry and the style of the web. Implemented by RadarChart and
+ * by RadarGridView for its cells, so that both are drawn by the same
+ * renderers.
+ */
+public interface RadarDataProvider {
+
+    RadarData getData();
+
+    /**
+     * Returns the envelope that is drawn instead of the DataSets, or null.
+     *
+     * @return
+     */
+    RadarEnvelope getEnvelope();
+
+    /**
+     * Returns the transformer that maps values onto the spokes.
+     *
+     * @return
+     */
+    RadarTransformer getTransformer();
+
+    /**
+     * Returns a recyclable MPPointF instance holding the center of the web.
+     *
+     * @return
+     */
+    MPPointF getCenterOffsets();
+
+    /**
+     * Returns the factor that is needed to transform values into pixels.
+     *
+     * @return
+     */
+    float getFactor();
+
+    float getRotationAngle();
+
+    float getSliceAngle();
+
+    YAxis getYAxis();
+
+    float getYChartMin();
+
+    float getYRange();
+
+    float getWebLineWidth();
+
+    float getWebLineWidthInner();
+
+    int getWebColor();
+
+    int getWebColorInner();
+
+    int getWebAlpha();
+
+    int getSkipWebLineCount();
+
+    /**
+     * Returns true if spokes are decimated to what fits into the pixels of
+     * the chart, see SpokeLod.
+     *
+     * @return
+     */
+    boolean isSpokeLodEnabled();
+}
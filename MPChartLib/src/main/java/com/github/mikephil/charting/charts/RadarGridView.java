@@ -0,0 +1,803 @@
+package com.github.mikephil.charting.charts;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.util.AttributeSet;
+import android.view.View;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.components.YAxis.AxisDependency;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarEnvelope;
+import com.github.mikephil.charting.renderer.RadarChartRenderer;
+import com.github.mikephil.charting.renderer.YAxisRendererRadarChart;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RadarTransformer;
+import com.github.mikephil.charting.utils.TextMeasureCache;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single view that draws a grid of small radar charts ("small multiples"),
+ * e.g. for comparing many profiles side by side. All cells share one
+ * renderer with its paints, one transformer (all cells have the same size,
+ * so the spoke directions and scales are the same), one y-axis and one
+ * rendering of the web. Every cell is rendered into its own bitmap that is
+ * only redrawn when the data of that cell changes, drawing the grid then
+ * costs one bitmap per cell. A title can be drawn below every cell.
+ * <p/>
+ * All cells use the same value range so that they can be compared. Use
+ * getYAxis() to set a fixed range, otherwise the range of all cells is used.
+ */
+public class RadarGridView extends View {
+
+    /**
+     * a single cell of the grid
+     */
+    private static class Cell {
+
+        private RadarData mData;
+        private String mTitle;
+
+        /**
+         * the rendered data, null if caching is disabled
+         */
+        private Bitmap mBitmap;
+
+        /**
+         * true if the data needs to be rendered again
+         */
+        private boolean mDirty = true;
+
+        private Cell(RadarData data, String title) {
+            mData = data;
+            mTitle = title;
+        }
+
+        private boolean hasData() {
+            return mData != null && mData.getDataSetCount() > 0
+                    && mData.getMaxEntryCountSet() != null;
+        }
+    }
+
+    private final List<Cell> mCells = new ArrayList<>();
+
+    private int mColumnCount = 4;
+
+    /**
+     * space between the cells in pixels
+     */
+    private float mCellSpacing;
+
+    /**
+     * space between the web and the border of a cell in pixels
+     */
+    private float mCellPadding;
+
+    /**
+     * the size of a cell in pixels, including its title
+     */
+    private int mCellWidth = 0;
+    private int mCellHeight = 0;
+
+    /**
+     * the number of spokes, the maximum over all cells
+     */
+    private int mSpokeCount = 0;
+
+    /**
+     * the cell with the most spokes, used for drawing the web
+     */
+    private Cell mWebCell;
+
+    /**
+     * if true, the size, the axis or the style changed and all cells as well
+     * as the web need to be drawn again
+     */
+    private boolean mLayoutDirty = true;
+
+    /**
+     * if true, every cell is rendered into its own bitmap
+     */
+    private boolean mCellCacheEnabled = true;
+
+    /**
+     * the web, rendered once for all cells
+     */
+    private Bitmap mWebBitmap;
+
+    private final ViewPortHandler mViewPortHandler = new ViewPortHandler();
+
+    private final RadarTransformer mTransformer = new RadarTransformer();
+
+    private final CellProvider mProvider = new CellProvider();
+
+    private YAxis mYAxis;
+
+    private RadarChartRenderer mRenderer;
+
+    private YAxisRendererRadarChart mYAxisRenderer;
+
+    private Paint mTitlePaint;
+
+    /**
+     * widths of the titles, measured once
+     */
+    private TextMeasureCache mTitleMeasureCache;
+
+    private boolean mDrawTitles = true;
+
+    private float mWebLineWidth;
+    private float mInnerWebLineWidth;
+    private int mWebColor = Color.rgb(122, 122, 122);
+    private int mWebColorInner = Color.rgb(122, 122, 122);
+    private int mWebAlpha = 150;
+
+    public RadarGridView(Context context) {
+        super(context);
+        init();
+    }
+
+    public RadarGridView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        init();
+    }
+
+    public RadarGridView(Context context, AttributeSet attrs, int defStyle) {
+        super(context, attrs, defStyle);
+        init();
+    }
+
+    private void init() {
+
+        Utils.init(getContext());
+
+        mYAxis = new YAxis();
+        mYAxis.setLabelCount(4, false);
+
+        mCellSpacing = Utils.convertDpToPixel(8f);
+        mCellPadding = Utils.convertDpToPixel(4f);
+
+        mWebLineWidth = Utils.convertDpToPixel(0.75f);
+        mInnerWebLineWidth = Utils.convertDpToPixel(0.5f);
+
+        mTitlePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        mTitlePaint.setColor(Color.DKGRAY);
+        mTitlePaint.setTextSize(Utils.convertDpToPixel(10f));
+
+        mTitleMeasureCache = new TextMeasureCache(mTitlePaint, 256);
+
+        mRenderer = new RadarChartRenderer(mProvider, null, mViewPortHandler);
+        mYAxisRenderer = new YAxisRendererRadarChart(mViewPortHandler, mYAxis, mProvider);
+    }
+
+    /**
+     * ###### ###### CELLS ###### ######
+     */
+
+    /**
+     * Adds a cell to the grid.
+     *
+     * @param data  the data of the cell
+     * @param title the title drawn below the cell, may be null
+     * @return the index of the cell
+     */
+    public int addCell(RadarData data, String title) {
+
+        mCells.add(new Cell(data, title));
+        notifyDataSetChanged();
+
+        return mCells.size() - 1;
+    }
+
+    /**
+     * Replaces the data of the cell at the given index. Only this cell is
+     * drawn again, unless the range or the spoke count of the grid change.
+     *
+     * @param index
+     * @param data
+     */
+    public void setCellData(int index, RadarData data) {
+        mCells.get(index).mData = data;
+        notifyCellChanged(index);
+    }
+
+    public RadarData getCellData(int index) {
+        return mCells.get(index).mData;
+    }
+
+    public void setCellTitle(int index, String title) {
+        mCells.get(index).mTitle = title;
+        invalidateCell(index);
+    }
+
+    public String getCellTitle(int index) {
+        return mCells.get(index).mTitle;
+    }
+
+    public int getCellCount() {
+        return mCells.size();
+    }
+
+    /**
+     * Removes all cells.
+     */
+    public void removeAllCells() {
+
+        for (Cell cell : mCells) {
+            recycleBitmap(cell);
+        }
+
+        mCells.clear();
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Call this after the data of the cell at the given index was modified.
+     * Only this cell is drawn again, unless the range or the spoke count of
+     * the grid change.
+     *
+     * @param index
+     */
+    public void notifyCellChanged(int index) {
+
+        Cell cell = mCells.get(index);
+
+        if (cell.mData != null)
+            cell.mData.notifyDataChanged();
+
+        cell.mDirty = true;
+
+        if (calcMinMax()) {
+            mLayoutDirty = true;
+            invalidate();
+        } else {
+            invalidateCell(index);
+        }
+    }
+
+    /**
+     * Call this after the data of several cells or the y-axis were modified,
+     * all cells are drawn again.
+     */
+    public void notifyDataSetChanged() {
+
+        calcMinMax();
+
+        mLayoutDirty = true;
+        requestLayout();
+        invalidate();
+    }
+
+    /**
+     * Calculates the range of the y-axis and the spoke count over all cells.
+     * Returns true if they changed.
+     *
+     * @return
+     */
+    private boolean calcMinMax() {
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        int spokeCount = 0;
+        mWebCell = null;
+
+        for (Cell cell : mCells) {
+
+            if (!cell.hasData())
+                continue;
+
+            min = Math.min(min, cell.mData.getYMin(AxisDependency.LEFT));
+            max = Math.max(max, cell.mData.getYMax(AxisDependency.LEFT));
+
+            int count = cell.mData.getMaxEntryCountSet().getEntryCount();
+
+            if (count > spokeCount) {
+                spokeCount = count;
+                mWebCell = cell;
+            }
+        }
+
+        if (mWebCell == null) {
+            min = 0f;
+            max = 0f;
+        }
+
+        float axisMin = mYAxis.mAxisMinimum;
+        float axisMax = mYAxis.mAxisMaximum;
+
+        mYAxis.calculate(min, max);
+        mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
+
+        boolean changed = spokeCount != mSpokeCount
+                || axisMin != mYAxis.mAxisMinimum || axisMax != mYAxis.mAxisMaximum;
+
+        mSpokeCount = spokeCount;
+
+        return changed;
+    }
+
+    /**
+     * ###### ###### LAYOUT ###### ######
+     */
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+
+        int width = resolveSize(getSuggestedMinimumWidth(), widthMeasureSpec);
+
+        int cellWidth = getCellWidth(width);
+        int rows = getRowCount();
+
+        int height = (int) (getPaddingTop() + getPaddingBottom()
+                + rows * getCellHeight(cellWidth) + Math.max(0, rows - 1) * mCellSpacing);
+
+        setMeasuredDimension(width,
+                Math.max(getSuggestedMinimumHeight(), resolveSize(height, heightMeasureSpec)));
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        mLayoutDirty = true;
+    }
+
+    public int getRowCount() {
+        return (mCells.size() + mColumnCount - 1) / mColumnCount;
+    }
+
+    private int getCellWidth(int width) {
+
+        float available = width - getPaddingLeft() - getPaddingRight()
+                - (mColumnCount - 1) * mCellSpacing;
+
+        return Math.max(0, (int) (available / mColumnCount));
+    }
+
+    private int getCellHeight(int cellWidth) {
+        return mDrawTitles ? cellWidth + (int) Math.ceil(mTitleMeasureCache.getLineHeight()) : cellWidth;
+    }
+
+    private float getCellLeft(int index) {
+        return getPaddingLeft() + (index % mColumnCount) * (mCellWidth + mCellSpacing);
+    }
+
+    private float getCellTop(int index) {
+        return getPaddingTop() + (index / mColumnCount) * (mCellHeight + mCellSpacing);
+    }
+
+    /**
+     * Recalculates the size of the cells, the transformer that is shared by
+     * all cells and the web.
+     */
+    private void prepareLayout() {
+
+        mCellWidth = getCellWidth(getWidth());
+        mCellHeight = getCellHeight(mCellWidth);
+
+        // the web is square and sits on top of the title
+        mViewPortHandler.setChartDimens(mCellWidth, mCellWidth);
+        mViewPortHandler.restrainViewPort(mCellPadding, mCellPadding, mCellPadding, mCellPadding);
+
+        mTransformer.setSpokes(mSpokeCount, mProvider.getSliceAngle(), mProvider.getRotationAngle());
+
+        MPPointF c = mViewPortHandler.getContentCenter();
+        mTransformer.setCenter(c.x, c.y);
+        MPPointF.recycleInstance(c);
+
+        float radius = getRadius();
+
+        for (int j = 0; j < mSpokeCount; j++) {
+            mTransformer.setRange(j, mYAxis.mAxisMinimum, mYAxis.mAxisRange, radius);
+        }
+
+        for (Cell cell : mCells) {
+            cell.mDirty = true;
+        }
+
+        prepareWeb();
+
+        mLayoutDirty = false;
+    }
+
+    private float getRadius() {
+        RectF content = mViewPortHandler.getContentRect();
+        return Math.min(content.width() / 2f, content.height() / 2f);
+    }
+
+    /**
+     * Renders the web once for all cells.
+     */
+    private void prepareWeb() {
+
+        if (mWebBitmap != null
+                && (mWebBitmap.getWidth() != mCellWidth || mWebBitmap.getHeight() != mCellWidth)) {
+            mWebBitmap.recycle();
+            mWebBitmap = null;
+        }
+
+        if (mWebCell == null || mCellWidth <= 0)
+            return;
+
+        if (mWebBitmap == null)
+            mWebBitmap = Bitmap.createBitmap(mCellWidth, mCellWidth, Bitmap.Config.ARGB_8888);
+        else
+            mWebBitmap.eraseColor(Color.TRANSPARENT);
+
+        mProvider.mCell = mWebCell;
+        mRenderer.drawExtras(new Canvas(mWebBitmap));
+        mProvider.mCell = null;
+    }
+
+    /**
+     * ###### ###### DRAWING ###### ######
+     */
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+
+        if (mCells.isEmpty())
+            return;
+
+        if (mLayoutDirty)
+            prepareLayout();
+
+        if (mCellWidth <= 0)
+            return;
+
+        for (int i = 0; i < mCells.size(); i++) {
+
+            Cell cell = mCells.get(i);
+
+            float left = getCellLeft(i);
+            float top = getCellTop(i);
+
+            if (mDrawTitles && cell.mTitle != null) {
+
+                float x = left + (mCellWidth - mTitleMeasureCache.getWidth(cell.mTitle)) / 2f;
+                float y = top + mCellWidth + mTitleMeasureCache.getLineHeight()
+                        - mTitlePaint.descent();
+
+                canvas.drawText(cell.mTitle, x, y, mTitlePaint);
+            }
+
+            if (!cell.hasData())
+                continue;
+
+            if (mWebBitmap != null)
+                canvas.drawBitmap(mWebBitmap, left, top, null);
+
+            if (mCellCacheEnabled) {
+
+                if (cell.mDirty || cell.mBitmap == null)
+                    renderCell(cell);
+
+                canvas.drawBitmap(cell.mBitmap, left, top, null);
+
+            } else {
+
+                int save = canvas.save();
+                canvas.translate(left, top);
+                drawCell(canvas, cell);
+                canvas.restoreToCount(save);
+            }
+        }
+    }
+
+    /**
+     * Renders the data of the given cell into its bitmap.
+     *
+     * @param cell
+     */
+    private void renderCell(Cell cell) {
+
+        if (cell.mBitmap == null || cell.mBitmap.getWidth() != mCellWidth
+                || cell.mBitmap.getHeight() != mCellWidth) {
+
+            recycleBitmap(cell);
+            cell.mBitmap = Bitmap.createBitmap(mCellWidth, mCellWidth, Bitmap.Config.ARGB_8888);
+
+        } else {
+            cell.mBitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        drawCell(new Canvas(cell.mBitmap), cell);
+    }
+
+    /**
+     * Draws the data of the given cell with the shared renderer.
+     *
+     * @param c
+     * @param cell
+     */
+    private void drawCell(Canvas c, Cell cell) {
+
+        mProvider.mCell = cell;
+
+        mRenderer.drawData(c);
+        mRenderer.drawValues(c);
+
+        mProvider.mCell = null;
+        cell.mDirty = false;
+    }
+
+    private void invalidateCell(int index) {
+
+        int left = (int) getCellLeft(index);
+        int top = (int) getCellTop(index);
+
+        invalidate(left, top, left + mCellWidth, top + mCellHeight);
+    }
+
+    private static void recycleBitmap(Cell cell) {
+
+        if (cell.mBitmap != null) {
+            cell.mBitmap.recycle();
+            cell.mBitmap = null;
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        // the bitmaps are rendered again when the view is attached again
+        for (Cell cell : mCells) {
+            recycleBitmap(cell);
+        }
+
+        if (mWebBitmap != null) {
+            mWebBitmap.recycle();
+            mWebBitmap = null;
+        }
+
+        mLayoutDirty = true;
+    }
+
+    /**
+     * ###### ###### STYLE ###### ######
+     */
+
+    /**
+     * Sets the number of cells per row. Default: 4
+     *
+     * @param count
+     */
+    public void setColumnCount(int count) {
+        mColumnCount = Math.max(1, count);
+        mLayoutDirty = true;
+        requestLayout();
+        invalidate();
+    }
+
+    public int getColumnCount() {
+        return mColumnCount;
+    }
+
+    /**
+     * Sets the space between the cells in dp. Default: 8dp
+     *
+     * @param spacing
+     */
+    public void setCellSpacing(float spacing) {
+        mCellSpacing = Utils.convertDpToPixel(spacing);
+        mLayoutDirty = true;
+        requestLayout();
+        invalidate();
+    }
+
+    /**
+     * Sets the space between the web and the border of a cell in dp.
+     * Default: 4dp
+     *
+     * @param padding
+     */
+    public void setCellPadding(float padding) {
+        mCellPadding = Utils.convertDpToPixel(padding);
+        mLayoutDirty = true;
+        invalidate();
+    }
+
+    /**
+     * If enabled, every cell is rendered into its own bitmap and only drawn
+     * again if its data changes. Disable this to save memory if the cells are
+     * redrawn on every frame anyway. Default: true
+     *
+     * @param enabled
+     */
+    public void setCellCacheEnabled(boolean enabled) {
+
+        mCellCacheEnabled = enabled;
+
+        if (!enabled) {
+            for (Cell cell : mCells) {
+                recycleBitmap(cell);
+            }
+        }
+
+        invalidate();
+    }
+
+    public boolean isCellCacheEnabled() {
+        return mCellCacheEnabled;
+    }
+
+    /**
+     * Set this to false to not draw the titles below the cells. Default: true
+     *
+     * @param enabled
+     */
+    public void setDrawTitlesEnabled(boolean enabled) {
+        mDrawTitles = enabled;
+        mLayoutDirty = true;
+        requestLayout();
+        invalidate();
+    }
+
+    /**
+     * Returns the paint the titles are drawn with. Call requestLayout() after
+     * changing the text size.
+     *
+     * @return
+     */
+    public Paint getTitlePaint() {
+        return mTitlePaint;
+    }
+
+    /**
+     * Returns the y-axis all cells share. Call notifyDataSetChanged() after
+     * modifying it.
+     *
+     * @return
+     */
+    public YAxis getYAxis() {
+        return mYAxis;
+    }
+
+    /**
+     * Sets the width of the web lines that come from the center in dp.
+     *
+     * @param width
+     */
+    public void setWebLineWidth(float width) {
+        mWebLineWidth = Utils.convertDpToPixel(width);
+        mLayoutDirty = true;
+        invalidate();
+    }
+
+    /**
+     * Sets the width of the web lines that are in between the lines coming
+     * from the center in dp.
+     *
+     * @param width
+     */
+    public void setWebLineWidthInner(float width) {
+        mInnerWebLineWidth = Utils.convertDpToPixel(width);
+        mLayoutDirty = true;
+        invalidate();
+    }
+
+    /**
+     * Sets the transparency (alpha) value for all web lines, 0 - 255.
+     *
+     * @param alpha
+     */
+    public void setWebAlpha(int alpha) {
+        mWebAlpha = alpha;
+        mLayoutDirty = true;
+        invalidate();
+    }
+
+    public void setWebColor(int color) {
+        mWebColor = color;
+        mLayoutDirty = true;
+        invalidate();
+    }
+
+    public void setWebColorInner(int color) {
+        mWebColorInner = color;
+        mLayoutDirty = true;
+        invalidate();
+    }
+
+    /**
+     * Provides the cell that is currently drawn to the shared renderers.
+     */
+    private class CellProvider implements RadarDataProvider {
+
+        private Cell mCell;
+
+        @Override
+        public RadarData getData() {
+            return mCell == null ? null : mCell.mData;
+        }
+
+        @Override
+        public RadarEnvelope getEnvelope() {
+            return null;
+        }
+
+        @Override
+        public RadarTransformer getTransformer() {
+            return mTransformer;
+        }
+
+        @Override
+        public MPPointF getCenterOffsets() {
+            return mViewPortHandler.getContentCenter();
+        }
+
+        @Override
+        public float getFactor() {
+            return getRadius() / mYAxis.mAxisRange;
+        }
+
+        @Override
+        public float getRotationAngle() {
+            return 270f;
+        }
+
+        @Override
+        public float getSliceAngle() {
+            return mSpokeCount == 0 ? 0f : 360f / mSpokeCount;
+        }
+
+        @Override
+        public YAxis getYAxis() {
+            return mYAxis;
+        }
+
+        @Override
+        public float getYChartMin() {
+            return mYAxis.mAxisMinimum;
+        }
+
+        @Override
+        public float getYRange() {
+            return mYAxis.mAxisRange;
+        }
+
+        @Override
+        public float getWebLineWidth() {
+            return mWebLineWidth;
+        }
+
+        @Override
+        public float getWebLineWidthInner() {
+            return mInnerWebLineWidth;
+        }
+
+        @Override
+        public int getWebColor() {
+            return mWebColor;
+        }
+
+        @Override
+        public int getWebColorInner() {
+            return mWebColorInner;
+        }
+
+        @Override
+        public int getWebAlpha() {
+            return mWebAlpha;
+        }
+
+        @Override
+        public int getSkipWebLineCount() {
+            return 0;
+        }
+
+        @Override
+        public boolean isSpokeLodEnabled() {
+            return false;
+        }
+    }
+}
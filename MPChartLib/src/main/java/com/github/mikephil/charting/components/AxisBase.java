@@ -2,6 +2,7 @@ package com.github.mikephil.charting.components;
 
 import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
 import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.Utils;
 
 /**
@@ -16,6 +17,12 @@ public abstract class AxisBase extends ComponentBase {
      */
     private ValueFormatter mAxisValueFormatter;
 
+    /**
+     * formatted labels of the entries, reused as long as the entries and the
+     * formatter do not change
+     */
+    private final LabelCache mLabelCache = new LabelCache();
+
     /**
      * the actual array of entries
      */
@@ -213,7 +220,7 @@ public abstract class AxisBase extends ComponentBase {
         if (index < 0 || index >= mEntries.length)
             return "";
         else
-            return getValueFormatter().getAxisLabel(mEntries[index]);
+            return mLabelCache.getAxisLabel(getValueFormatter(), index, mEntries[index]);
     }
 
     /**
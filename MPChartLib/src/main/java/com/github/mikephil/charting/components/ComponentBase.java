@@ -16,7 +16,7 @@ public abstract class ComponentBase {
     /**
      * flag that indicates if this axis / legend is enabled or not
      */
-    private final boolean mEnabled = true;
+    private boolean mEnabled = true;
 
     /**
      * the offset in pixels this component has on the x-axis
@@ -152,6 +152,17 @@ public abstract class ComponentBase {
     }
 
 
+    /**
+     * Set this to true if this component should be enabled (should be drawn),
+     * false if not. If disabled, nothing of this component will be drawn.
+     * Call notifyDataSetChanged() on the chart afterwards. Default: true
+     *
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
     /**
      * Returns true if this comonent is enabled (should be drawn), false if not.
      *
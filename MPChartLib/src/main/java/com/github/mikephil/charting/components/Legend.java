@@ -469,6 +469,15 @@ public class Legend extends ComponentBase {
                 float requiredWidth = 0.f;
                 int stackedStartIndex = -1;
 
+                // the sizes of the last calculation go back to the pool
+                for (int i = 0; i < mCalculatedLabelSizes.size(); i++) {
+                    FSize.recycleInstance(mCalculatedLabelSizes.get(i));
+                }
+
+                for (int i = 0; i < mCalculatedLineSizes.size(); i++) {
+                    FSize.recycleInstance(mCalculatedLineSizes.get(i));
+                }
+
                 mCalculatedLabelBreakPoints.clear();
                 mCalculatedLabelSizes.clear();
                 mCalculatedLineSizes.clear();
@@ -105,7 +105,7 @@ public class YAxis extends AxisBase {
      *
      * @return
      */
-    private float getSpaceTop() {
+    public float getSpaceTop() {
         return 10f;
     }
 
@@ -114,7 +114,7 @@ public class YAxis extends AxisBase {
      *
      * @return
      */
-    private float getSpaceBottom() {
+    public float getSpaceBottom() {
         return 10f;
     }
 
@@ -0,0 +1,339 @@
+
+package com.github.mikephil.charting.data;
+
+import android.graphics.Color;
+import android.graphics.DashPathEffect;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+
+import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.Utils;
+
+/**
+ * Base class for radar DataSets, holds everything except the values: colors,
+ * label, value-text styling and fill settings. Subclasses decide where the
+ * values come from, e.g. a list of entries or a row of a RadarMatrix.
+ */
+public abstract class BaseRadarDataSet implements IRadarDataSet {
+
+    /**
+     * the colors used for drawing this DataSet, never empty
+     */
+    private int[] mColors = new int[]{Color.rgb(140, 234, 255)};
+
+    /**
+     * colors that are used for drawing the actual values for this DataSet, never empty
+     */
+    private int[] mValueColors = new int[]{Color.BLACK};
+
+    /**
+     * label that describes the DataSet or the data the DataSet represents
+     */
+    private String mLabel = "DataSet";
+
+    /**
+     * this specifies which axis this DataSet should be plotted against
+     */
+    private final YAxis.AxisDependency mAxisDependency = YAxis.AxisDependency.LEFT;
+
+    /**
+     * custom formatter that is used instead of the auto-formatter if set
+     */
+    private transient ValueFormatter mValueFormatter;
+
+    /**
+     * the typeface used for the value text
+     */
+    private Typeface mValueTypeface;
+
+    private final Legend.LegendForm mForm = Legend.LegendForm.DEFAULT;
+
+    /**
+     * if true, y-values are drawn on the chart
+     */
+    private boolean mDrawValues = true;
+
+    /**
+     * the offset for drawing icons (in dp)
+     */
+    private final MPPointF mIconsOffset = new MPPointF();
+
+    /**
+     * the size of the value-text labels
+     */
+    private float mValueTextSize = 17f;
+
+    // TODO: Move to using `Fill` class
+    /**
+     * the color that is used for filling the line surface
+     */
+    private int mFillColor = Color.rgb(140, 234, 255);
+
+    /**
+     * the drawable to be used for filling the line surface
+     */
+    private Drawable mFillDrawable;
+
+    /**
+     * transparency used for filling line surface
+     */
+    private int mFillAlpha = 85;
+
+    /**
+     * if true, the data will also be drawn filled
+     */
+    private boolean mDrawFilled = false;
+
+    /**
+     * Constructor with the label of the DataSet.
+     *
+     * @param label
+     */
+    public BaseRadarDataSet(String label) {
+        this.mLabel = label;
+    }
+
+    /**
+     * ###### ###### COLOR GETTING RELATED METHODS ##### ######
+     */
+
+    @Override
+    public int[] getColors() {
+        return mColors;
+    }
+
+    @Override
+    public int getColor(int index) {
+        return mColors.length == 1 ? mColors[0] : mColors[index % mColors.length];
+    }
+
+    @Override
+    public boolean isSingleColor() {
+        return mColors.length == 1;
+    }
+
+    /**
+     * Sets the one and ONLY color that should be used for this DataSet.
+     *
+     * @param color
+     */
+    public void setColor(int color) {
+        mColors = new int[]{color};
+    }
+
+    /**
+     * Sets the colors that should be used for this DataSet. Colors are reused
+     * as soon as the number of Entries the DataSet represents is higher than
+     * the number of colors. The array is copied.
+     *
+     * @param colors
+     */
+    public void setColors(int... colors) {
+
+        if (colors == null || colors.length == 0)
+            return;
+
+        mColors = colors.clone();
+    }
+
+    @Override
+    public String getLabel() {
+        return mLabel;
+    }
+
+    /**
+     * Sets the label of the DataSet, used when restoring DataSets.
+     *
+     * @param label
+     */
+    void setLabel(String label) {
+        mLabel = label;
+    }
+
+    @Override
+    public void setValueFormatter(ValueFormatter f) {
+        if (f != null) {
+            mValueFormatter = f;
+        }
+    }
+
+    @Override
+    public ValueFormatter getValueFormatter() {
+        if (needsFormatter())
+            return Utils.getDefaultValueFormatter();
+        return mValueFormatter;
+    }
+
+    @Override
+    public boolean needsFormatter() {
+        return mValueFormatter == null;
+    }
+
+    @Override
+    public void setValueTextColor(int color) {
+        mValueColors = new int[]{color};
+    }
+
+    /**
+     * Sets the colors that should be used for the value-labels of this
+     * DataSet, reused by modulus. The array is copied.
+     *
+     * @param colors
+     */
+    public void setValueTextColors(int... colors) {
+
+        if (colors == null || colors.length == 0)
+            return;
+
+        mValueColors = colors.clone();
+    }
+
+    @Override
+    public void setValueTypeface(Typeface tf) {
+        mValueTypeface = tf;
+    }
+
+    @Override
+    public void setValueTextSize(float size) {
+        mValueTextSize = Utils.convertDpToPixel(size);
+    }
+
+    /**
+     * Sets the text-size of the value-labels in pixels, used when restoring
+     * DataSets.
+     *
+     * @param size
+     */
+    void setValueTextSizePixels(float size) {
+        mValueTextSize = size;
+    }
+
+    @Override
+    public int getValueTextColor(int index) {
+        return mValueColors.length == 1 ? mValueColors[0] : mValueColors[index % mValueColors.length];
+    }
+
+    @Override
+    public int[] getValueTextColors() {
+        return mValueColors;
+    }
+
+    @Override
+    public boolean isSingleValueTextColor() {
+        return mValueColors.length == 1;
+    }
+
+    @Override
+    public Typeface getValueTypeface() {
+        return mValueTypeface;
+    }
+
+    @Override
+    public float getValueTextSize() {
+        return mValueTextSize;
+    }
+
+    @Override
+    public Legend.LegendForm getForm() {
+        return mForm;
+    }
+
+    @Override
+    public float getFormSize() {
+        return Float.NaN;
+    }
+
+    @Override
+    public float getFormLineWidth() {
+        return Float.NaN;
+    }
+
+    @Override
+    public DashPathEffect getFormLineDashEffect() {
+        return null;
+    }
+
+    @Override
+    public void setDrawValues(boolean enabled) {
+        this.mDrawValues = enabled;
+    }
+
+    @Override
+    public boolean isDrawValuesEnabled() {
+        return mDrawValues;
+    }
+
+    @Override
+    public boolean isDrawIconsEnabled() {
+        return true;
+    }
+
+    @Override
+    public MPPointF getIconsOffset() {
+        return mIconsOffset;
+    }
+
+    @Override
+    public boolean isVisible() {
+        return true;
+    }
+
+    @Override
+    public YAxis.AxisDependency getAxisDependency() {
+        return mAxisDependency;
+    }
+
+    @Override
+    public int getFillColor() {
+        return mFillColor;
+    }
+
+    /**
+     * Sets the color that is used for filling the area below the line.
+     * Resets an eventually set "fillDrawable".
+     *
+     * @param color
+     */
+    public void setFillColor(int color) {
+        mFillColor = color;
+        mFillDrawable = null;
+    }
+
+    @Override
+    public Drawable getFillDrawable() {
+        return mFillDrawable;
+    }
+
+    @Override
+    public int getFillAlpha() {
+        return mFillAlpha;
+    }
+
+    /**
+     * sets the alpha value (transparency) that is used for filling the line
+     * surface (0-255), default: 85
+     *
+     * @param alpha
+     */
+    public void setFillAlpha(int alpha) {
+        mFillAlpha = alpha;
+    }
+
+    @Override
+    public float getLineWidth() {
+        return 2.5f;
+    }
+
+    public void setDrawFilled(boolean filled) {
+        mDrawFilled = filled;
+    }
+
+    @Override
+    public boolean isDrawFilledEnabled() {
+        return mDrawFilled;
+    }
+
+}
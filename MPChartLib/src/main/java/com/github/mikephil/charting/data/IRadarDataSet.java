@@ -10,8 +10,6 @@ import com.github.mikephil.charting.data.RadarEntry;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.utils.MPPointF;
 
-import java.util.List;
-
 /**
  * Created by Philipp Jahoda on 21/10/15.
  */
@@ -67,6 +65,16 @@ public interface IRadarDataSet {
      */
     RadarEntry getEntryForIndex(int index);
 
+    /**
+     * Returns the y-value of the Entry at the given index (NOT xIndex). Use this
+     * instead of getEntryForIndex(index).getY() where only the value is needed,
+     * DataSets that are not backed by Entry objects can return it directly.
+     *
+     * @param index
+     * @return
+     */
+    float getYForIndex(int index);
+
     /**
      * Returns the label string that describes the DataSet.
      *
@@ -82,11 +90,20 @@ public interface IRadarDataSet {
     YAxis.AxisDependency getAxisDependency();
 
     /**
-     * returns all the colors that are set for this DataSet
+     * returns all the colors that are set for this DataSet, do not modify the
+     * returned array
+     *
+     * @return
+     */
+    int[] getColors();
+
+    /**
+     * Returns true if only a single color is set for this DataSet, renderers
+     * can then set the color once instead of per Entry.
      *
      * @return
      */
-    List<Integer> getColors();
+    boolean isSingleColor();
 
     /**
      * Returns the color at the given index of the DataSet's color array.
@@ -152,6 +169,22 @@ public interface IRadarDataSet {
      */
     int getValueTextColor(int index);
 
+    /**
+     * Returns all colors that are used for drawing the values inside the
+     * chart, do not modify the returned array
+     *
+     * @return
+     */
+    int[] getValueTextColors();
+
+    /**
+     * Returns true if only a single value-text color is set for this DataSet,
+     * renderers can then set the color once instead of per label.
+     *
+     * @return
+     */
+    boolean isSingleValueTextColor();
+
     /**
      * Returns the typeface that is used for drawing the values inside the chart
      *
@@ -0,0 +1,358 @@
+package com.github.mikephil.charting.data;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only store of radar profiles backed by a memory-mapped file, for
+ * collections too large to keep on the heap. Opening the store only maps the
+ * file, profiles are paged in by the operating system when they are read.
+ * Every profile is exposed as an IRadarDataSet that reads its values straight
+ * from the mapped file, so they can be put into a RadarData object and drawn
+ * like any other DataSet.
+ * <p/>
+ * File layout (big endian): a header (magic, version, profile count, spoke
+ * count), an index with min / max per profile, followed by the values of all
+ * profiles with a fixed width of spoke count floats. The offset of a profile
+ * is derived from its index, files larger than 2 GB are mapped in several
+ * regions that never split a profile.
+ */
+public class MappedRadarStore implements Closeable {
+
+    /**
+     * "RMS1"
+     */
+    private static final int MAGIC = 0x524d5331;
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 16;
+    private static final int INDEX_ENTRY_SIZE = 8;
+
+    /**
+     * the maximum size of a single mapped region
+     */
+    private static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+    private final RandomAccessFile mFile;
+    private final FileChannel mChannel;
+
+    private final int mProfileCount;
+    private final int mSpokeCount;
+
+    /**
+     * min / max per profile
+     */
+    private final FloatBuffer mIndex;
+
+    /**
+     * mapped regions holding the values, each holds mProfilesPerRegion profiles
+     */
+    private final MappedByteBuffer[] mRegions;
+    private final int mProfilesPerRegion;
+
+    private MappedRadarStore(RandomAccessFile file) throws IOException {
+
+        mFile = file;
+        mChannel = file.getChannel();
+
+        long size = mChannel.size();
+
+        if (size < HEADER_SIZE)
+            throw new IOException("File too short for a radar store.");
+
+        ByteBuffer header = mChannel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+
+        if (header.getInt() != MAGIC)
+            throw new IOException("Not a radar store.");
+
+        int version = header.getInt();
+
+        if (version != VERSION)
+            throw new IOException("Unsupported radar store version " + version + ".");
+
+        mProfileCount = header.getInt();
+        mSpokeCount = header.getInt();
+
+        if (mProfileCount < 0 || mSpokeCount <= 0)
+            throw new IOException("Invalid radar store dimensions.");
+
+        long indexSize = (long) mProfileCount * INDEX_ENTRY_SIZE;
+        long profileSize = (long) mSpokeCount * 4;
+        long dataStart = HEADER_SIZE + indexSize;
+
+        if (size < dataStart + profileSize * mProfileCount)
+            throw new IOException("Radar store is truncated.");
+
+        mIndex = mChannel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, indexSize).asFloatBuffer();
+
+        mProfilesPerRegion = (int) Math.max(1, MAX_REGION_SIZE / profileSize);
+
+        int regionCount = (mProfileCount + mProfilesPerRegion - 1) / mProfilesPerRegion;
+        mRegions = new MappedByteBuffer[regionCount];
+
+        for (int r = 0; r < regionCount; r++) {
+
+            int first = r * mProfilesPerRegion;
+            int count = Math.min(mProfilesPerRegion, mProfileCount - first);
+
+            mRegions[r] = mChannel.map(FileChannel.MapMode.READ_ONLY,
+                    dataStart + first * profileSize, count * profileSize);
+        }
+    }
+
+    /**
+     * Opens the store in the given file.
+     *
+     * @param file
+     * @return
+     * @throws IOException
+     */
+    public static MappedRadarStore open(File file) throws IOException {
+
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+
+        try {
+            return new MappedRadarStore(raf);
+        } catch (IOException e) {
+            raf.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes all rows of the given matrix into a store file, replacing the file
+     * if it exists.
+     *
+     * @param file
+     * @param matrix
+     * @throws IOException
+     */
+    public static void write(File file, RadarMatrix matrix) throws IOException {
+
+        int rows = matrix.getRowCount();
+        int spokes = matrix.getSpokeCount();
+
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+
+        try {
+            raf.setLength(0);
+            FileChannel channel = raf.getChannel();
+
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(rows);
+            buffer.putInt(spokes);
+
+            for (int i = 0; i < rows; i++) {
+
+                if (buffer.remaining() < INDEX_ENTRY_SIZE)
+                    drain(buffer, channel);
+
+                buffer.putFloat(matrix.getRowMin(i));
+                buffer.putFloat(matrix.getRowMax(i));
+            }
+
+            float[] values = matrix.getValues();
+            int offset = matrix.getRowOffset(0);
+            int remaining = rows * spokes;
+
+            while (remaining > 0) {
+
+                if (buffer.remaining() < 4)
+                    drain(buffer, channel);
+
+                int n = Math.min(remaining, buffer.remaining() / 4);
+
+                buffer.asFloatBuffer().put(values, offset, n);
+                buffer.position(buffer.position() + n * 4);
+
+                offset += n;
+                remaining -= n;
+            }
+
+            drain(buffer, channel);
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+    /**
+     * Returns the number of profiles in the store.
+     *
+     * @return
+     */
+    public int getProfileCount() {
+        return mProfileCount;
+    }
+
+    /**
+     * Returns the number of values per profile.
+     *
+     * @return
+     */
+    public int getSpokeCount() {
+        return mSpokeCount;
+    }
+
+    /**
+     * Returns the minimum value of the given profile, read from the index.
+     *
+     * @param profile
+     * @return
+     */
+    public float getMin(int profile) {
+        return mIndex.get(profile * 2);
+    }
+
+    /**
+     * Returns the maximum value of the given profile, read from the index.
+     *
+     * @param profile
+     * @return
+     */
+    public float getMax(int profile) {
+        return mIndex.get(profile * 2 + 1);
+    }
+
+    /**
+     * Returns a DataSet that reads the values of the given profile from the
+     * mapped file. Nothing is copied, creating a profile is cheap.
+     *
+     * @param profile
+     * @return
+     */
+    public Profile getProfile(int profile) {
+
+        if (profile < 0 || profile >= mProfileCount)
+            throw new IndexOutOfBoundsException("Profile " + profile + " of " + mProfileCount);
+
+        ByteBuffer region = mRegions[profile / mProfilesPerRegion].duplicate();
+        region.position((profile % mProfilesPerRegion) * mSpokeCount * 4);
+
+        return new Profile(profile, region.slice().asFloatBuffer());
+    }
+
+    /**
+     * Creates a data object holding the given range of profiles, e.g. for
+     * showing one page of the store.
+     *
+     * @param first
+     * @param count
+     * @return
+     */
+    public RadarData toRadarData(int first, int count) {
+
+        int end = Math.min(mProfileCount, first + count);
+
+        List<IRadarDataSet> sets = new ArrayList<>(Math.max(0, end - first));
+
+        for (int i = first; i < end; i++) {
+            sets.add(getProfile(i));
+        }
+
+        return new RadarData(sets);
+    }
+
+    /**
+     * Closes the file. Profiles must not be used after the store is closed.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        mFile.close();
+    }
+
+    /**
+     * A single profile of the store exposed as DataSet. getEntryForIndex(...)
+     * returns a reused Entry object that is only valid until the next call on
+     * the same thread.
+     */
+    public class Profile extends BaseRadarDataSet {
+
+        private final int mProfile;
+
+        /**
+         * view of the values in the mapped file
+         */
+        private final FloatBuffer mValues;
+
+        private Profile(int profile, FloatBuffer values) {
+            super("Profile " + (profile + 1));
+            mProfile = profile;
+            mValues = values;
+        }
+
+        /**
+         * Returns the index of the profile in the store.
+         *
+         * @return
+         */
+        public int getProfileIndex() {
+            return mProfile;
+        }
+
+        @Override
+        public float getYMin() {
+            return getMin(mProfile);
+        }
+
+        @Override
+        public float getYMax() {
+            return getMax(mProfile);
+        }
+
+        @Override
+        public float getXMin() {
+            return 0f;
+        }
+
+        @Override
+        public float getXMax() {
+            return 0f;
+        }
+
+        @Override
+        public int getEntryCount() {
+            return mSpokeCount;
+        }
+
+        @Override
+        public void calcMinMax() {
+            // min / max are precomputed in the index
+        }
+
+        @Override
+        public RadarEntry getEntryForIndex(int index) {
+            RadarEntry entry = RadarEntry.getReusable();
+            entry.setY(mValues.get(index));
+            return entry;
+        }
+
+        @Override
+        public float getYForIndex(int index) {
+            return mValues.get(index);
+        }
+    }
+}
@@ -0,0 +1,625 @@
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Groups the rows of a RadarMatrix into k representative profiles using
+ * k-means. The assignment step runs in parallel across all cores, the
+ * resulting centroids can be converted into a RadarData object with one
+ * DataSet per cluster whose fill alpha reflects the number of members. New
+ * rows can be added incrementally without clustering everything again.
+ */
+public class RadarClusterer {
+
+    /**
+     * below this number of rows the assignment step is not split across threads
+     */
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    /**
+     * the desired number of clusters
+     */
+    private final int mK;
+
+    /**
+     * maximum number of iterations of a full clustering
+     */
+    private int mMaxIterations = 25;
+
+    /**
+     * number of iterations run over all rows after an incremental update, 0 to
+     * only update the centroids online
+     */
+    private int mRefineIterations = 2;
+
+    /**
+     * seed for the choice of the initial centroids
+     */
+    private long mSeed = 42L;
+
+    /**
+     * the number of threads used for the assignment step
+     */
+    private final int mThreadCount;
+
+    private ExecutorService mExecutor;
+
+    private int mSpokeCount = 0;
+
+    /**
+     * the actual number of clusters, smaller than k if there are less rows
+     */
+    private int mClusterCount = 0;
+
+    /**
+     * centroids, cluster by cluster
+     */
+    private float[] mCentroids = new float[0];
+
+    /**
+     * number of rows per cluster
+     */
+    private int[] mCounts = new int[0];
+
+    /**
+     * cluster index per row
+     */
+    private int[] mAssignments = new int[0];
+
+    /**
+     * squared distance of each row to its centroid
+     */
+    private float[] mDistances = new float[0];
+
+    /**
+     * per-thread accumulation buffers of the assignment step
+     */
+    private double[][] mPartialSums = new double[0][];
+    private int[][] mPartialCounts = new int[0][];
+
+    /**
+     * @param k the number of clusters
+     */
+    public RadarClusterer(int k) {
+        this(k, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param k           the number of clusters
+     * @param threadCount the number of threads used for clustering
+     */
+    public RadarClusterer(int k, int threadCount) {
+
+        if (k < 1)
+            throw new IllegalArgumentException("RadarClusterer needs at least one cluster.");
+
+        mK = k;
+        mThreadCount = Math.max(1, threadCount);
+    }
+
+    /**
+     * Sets the maximum number of iterations of a full clustering, default: 25
+     *
+     * @param iterations
+     */
+    public void setMaxIterations(int iterations) {
+        mMaxIterations = Math.max(1, iterations);
+    }
+
+    /**
+     * Sets the number of iterations over all rows that are run after new rows
+     * were added incrementally, default: 2
+     *
+     * @param iterations
+     */
+    public void setRefineIterations(int iterations) {
+        mRefineIterations = Math.max(0, iterations);
+    }
+
+    /**
+     * Sets the seed used for choosing the initial centroids.
+     *
+     * @param seed
+     */
+    public void setSeed(long seed) {
+        mSeed = seed;
+    }
+
+    /**
+     * Clusters all rows of the given matrix from scratch.
+     *
+     * @param matrix
+     */
+    public void cluster(RadarMatrix matrix) {
+
+        int rows = matrix.getRowCount();
+
+        mSpokeCount = matrix.getSpokeCount();
+        mClusterCount = Math.min(mK, rows);
+        mCentroids = new float[mClusterCount * mSpokeCount];
+        mCounts = new int[mClusterCount];
+        mAssignments = new int[rows];
+        mDistances = new float[rows];
+
+        if (mClusterCount == 0)
+            return;
+
+        initCentroids(matrix);
+
+        for (int i = 0; i < rows; i++) {
+            mAssignments[i] = -1;
+        }
+
+        iterate(matrix, mMaxIterations);
+    }
+
+    /**
+     * Incrementally adds the rows starting at the given index to the
+     * clustering. The rows before that index must be the ones that were
+     * clustered previously. Each new row moves its nearest centroid, afterwards
+     * a few refining iterations are run over all rows.
+     *
+     * @param matrix
+     * @param fromRow the index of the first new row
+     */
+    public void update(RadarMatrix matrix, int fromRow) {
+
+        if (mClusterCount == 0 || matrix.getSpokeCount() != mSpokeCount
+                || fromRow > mAssignments.length) {
+            cluster(matrix);
+            return;
+        }
+
+        int rows = matrix.getRowCount();
+
+        if (rows > mAssignments.length) {
+
+            int[] assignments = new int[rows];
+            System.arraycopy(mAssignments, 0, assignments, 0, mAssignments.length);
+            mAssignments = assignments;
+
+            float[] distances = new float[rows];
+            System.arraycopy(mDistances, 0, distances, 0, mDistances.length);
+            mDistances = distances;
+        }
+
+        float[] values = matrix.getValues();
+
+        for (int row = fromRow; row < rows; row++) {
+
+            int offset = matrix.getRowOffset(row);
+
+            // use new rows as additional centroids until k is reached
+            if (mClusterCount < mK) {
+                addCentroid(values, offset);
+                mCounts[mClusterCount - 1] = 1;
+                mAssignments[row] = mClusterCount - 1;
+                mDistances[row] = 0f;
+                continue;
+            }
+
+            int nearest = nearestCentroid(values, offset);
+            int count = ++mCounts[nearest];
+            int c = nearest * mSpokeCount;
+
+            // move the centroid towards the new row (online k-means)
+            for (int j = 0; j < mSpokeCount; j++) {
+                mCentroids[c + j] += (values[offset + j] - mCentroids[c + j]) / count;
+            }
+
+            mAssignments[row] = nearest;
+        }
+
+        if (mRefineIterations > 0)
+            iterate(matrix, mRefineIterations);
+    }
+
+    /**
+     * Chooses the initial centroids using k-means++ seeding.
+     *
+     * @param matrix
+     */
+    private void initCentroids(RadarMatrix matrix) {
+
+        Random random = new Random(mSeed);
+        float[] values = matrix.getValues();
+        int rows = matrix.getRowCount();
+
+        int first = random.nextInt(rows);
+        System.arraycopy(values, matrix.getRowOffset(first), mCentroids, 0, mSpokeCount);
+
+        for (int i = 0; i < rows; i++) {
+            mDistances[i] = distance(values, matrix.getRowOffset(i), mCentroids, 0);
+        }
+
+        for (int c = 1; c < mClusterCount; c++) {
+
+            double total = 0;
+            for (int i = 0; i < rows; i++) {
+                total += mDistances[i];
+            }
+
+            int chosen = rows - 1;
+
+            if (total > 0) {
+
+                // pick the next centroid with a probability proportional to its distance
+                double target = random.nextDouble() * total;
+
+                for (int i = 0; i < rows; i++) {
+                    target -= mDistances[i];
+                    if (target <= 0) {
+                        chosen = i;
+                        break;
+                    }
+                }
+            } else {
+                chosen = random.nextInt(rows);
+            }
+
+            System.arraycopy(values, matrix.getRowOffset(chosen), mCentroids, c * mSpokeCount, mSpokeCount);
+
+            for (int i = 0; i < rows; i++) {
+                float d = distance(values, matrix.getRowOffset(i), mCentroids, c * mSpokeCount);
+                if (d < mDistances[i])
+                    mDistances[i] = d;
+            }
+        }
+    }
+
+    /**
+     * Runs Lloyd iterations until no row changes its cluster anymore.
+     *
+     * @param matrix
+     * @param maxIterations
+     */
+    private void iterate(RadarMatrix matrix, int maxIterations) {
+
+        int rows = matrix.getRowCount();
+        int chunks = rows < PARALLEL_THRESHOLD ? 1 : mThreadCount;
+
+        ensurePartialBuffers(chunks);
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+
+            int changed = assign(matrix, chunks);
+
+            // reduce the partial sums into the new centroids
+            for (int c = 0; c < mClusterCount; c++) {
+
+                int count = 0;
+                for (int t = 0; t < chunks; t++) {
+                    count += mPartialCounts[t][c];
+                }
+
+                mCounts[c] = count;
+
+                if (count == 0)
+                    continue;
+
+                int offset = c * mSpokeCount;
+
+                for (int j = 0; j < mSpokeCount; j++) {
+
+                    double sum = 0;
+                    for (int t = 0; t < chunks; t++) {
+                        sum += mPartialSums[t][offset + j];
+                    }
+
+                    mCentroids[offset + j] = (float) (sum / count);
+                }
+            }
+
+            if (reseedEmptyClusters(matrix))
+                changed++;
+
+            if (changed == 0)
+                break;
+        }
+    }
+
+    /**
+     * Assigns each row to its nearest centroid and accumulates the partial
+     * sums, split into the given number of chunks.
+     *
+     * @return the number of rows that changed their cluster
+     */
+    private int assign(final RadarMatrix matrix, int chunks) {
+
+        final int rows = matrix.getRowCount();
+
+        if (chunks == 1)
+            return assignRange(matrix, 0, rows, 0);
+
+        if (mExecutor == null)
+            mExecutor = Executors.newFixedThreadPool(mThreadCount, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "RadarClusterer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+        List<Future<Integer>> futures = new ArrayList<>(chunks);
+
+        for (int t = 0; t < chunks; t++) {
+
+            final int chunk = t;
+            final int from = (int) ((long) rows * t / chunks);
+            final int to = (int) ((long) rows * (t + 1) / chunks);
+
+            futures.add(mExecutor.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    return assignRange(matrix, from, to, chunk);
+                }
+            }));
+        }
+
+        int changed = 0;
+
+        try {
+            for (Future<Integer> future : futures) {
+                changed += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Clustering was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Clustering failed.", e.getCause());
+        }
+
+        return changed;
+    }
+
+    private int assignRange(RadarMatrix matrix, int from, int to, int chunk) {
+
+        float[] values = matrix.getValues();
+        double[] sums = mPartialSums[chunk];
+        int[] counts = mPartialCounts[chunk];
+
+        Arrays.fill(sums, 0);
+        Arrays.fill(counts, 0);
+
+        int changed = 0;
+
+        for (int row = from; row < to; row++) {
+
+            int offset = matrix.getRowOffset(row);
+
+            int nearest = 0;
+            float nearestDistance = Float.MAX_VALUE;
+
+            for (int c = 0; c < mClusterCount; c++) {
+
+                float d = distance(values, offset, mCentroids, c * mSpokeCount);
+
+                if (d < nearestDistance) {
+                    nearestDistance = d;
+                    nearest = c;
+                }
+            }
+
+            if (mAssignments[row] != nearest) {
+                mAssignments[row] = nearest;
+                changed++;
+            }
+
+            mDistances[row] = nearestDistance;
+            counts[nearest]++;
+
+            int sumOffset = nearest * mSpokeCount;
+            for (int j = 0; j < mSpokeCount; j++) {
+                sums[sumOffset + j] += values[offset + j];
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Moves centroids without members to the row that is farthest away from
+     * its own centroid.
+     *
+     * @return true if a centroid was moved
+     */
+    private boolean reseedEmptyClusters(RadarMatrix matrix) {
+
+        boolean reseeded = false;
+
+        for (int c = 0; c < mClusterCount; c++) {
+
+            if (mCounts[c] > 0)
+                continue;
+
+            int farthest = -1;
+            float farthestDistance = 0f;
+
+            for (int i = 0; i < matrix.getRowCount(); i++) {
+                if (mDistances[i] > farthestDistance && mCounts[mAssignments[i]] > 1) {
+                    farthestDistance = mDistances[i];
+                    farthest = i;
+                }
+            }
+
+            if (farthest < 0)
+                continue;
+
+            System.arraycopy(matrix.getValues(), matrix.getRowOffset(farthest),
+                    mCentroids, c * mSpokeCount, mSpokeCount);
+
+            mCounts[mAssignments[farthest]]--;
+            mCounts[c] = 1;
+            mAssignments[farthest] = c;
+            mDistances[farthest] = 0f;
+            reseeded = true;
+        }
+
+        return reseeded;
+    }
+
+    private void addCentroid(float[] values, int offset) {
+
+        float[] centroids = new float[(mClusterCount + 1) * mSpokeCount];
+        System.arraycopy(mCentroids, 0, centroids, 0, mCentroids.length);
+        System.arraycopy(values, offset, centroids, mClusterCount * mSpokeCount, mSpokeCount);
+        mCentroids = centroids;
+
+        int[] counts = new int[mClusterCount + 1];
+        System.arraycopy(mCounts, 0, counts, 0, mCounts.length);
+        mCounts = counts;
+
+        mClusterCount++;
+
+        // the accumulation buffers depend on the cluster count
+        mPartialSums = new double[0][];
+        mPartialCounts = new int[0][];
+    }
+
+    private void ensurePartialBuffers(int chunks) {
+
+        int size = mClusterCount * mSpokeCount;
+
+        // both dimensions have to match, e.g. 4 clusters of 12 spokes need as
+        // many sums as 8 clusters of 6 spokes but fewer counts
+        if (mPartialSums.length >= chunks
+                && (chunks == 0
+                || (mPartialSums[0].length == size && mPartialCounts[0].length == mClusterCount)))
+            return;
+
+        mPartialSums = new double[chunks][size];
+        mPartialCounts = new int[chunks][mClusterCount];
+    }
+
+    private int nearestCentroid(float[] values, int offset) {
+
+        int nearest = 0;
+        float nearestDistance = Float.MAX_VALUE;
+
+        for (int c = 0; c < mClusterCount; c++) {
+
+            float d = distance(values, offset, mCentroids, c * mSpokeCount);
+
+            if (d < nearestDistance) {
+                nearestDistance = d;
+                nearest = c;
+            }
+        }
+
+        return nearest;
+    }
+
+    /**
+     * Returns the squared euclidean distance between a row and a centroid.
+     */
+    private float distance(float[] values, int offset, float[] centroids, int centroidOffset) {
+
+        float sum = 0f;
+
+        for (int j = 0; j < mSpokeCount; j++) {
+            float d = values[offset + j] - centroids[centroidOffset + j];
+            sum += d * d;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the number of clusters, may be less than k if there are less rows.
+     *
+     * @return
+     */
+    public int getClusterCount() {
+        return mClusterCount;
+    }
+
+    /**
+     * Returns the number of rows that belong to the given cluster.
+     *
+     * @param cluster
+     * @return
+     */
+    public int getMemberCount(int cluster) {
+        return mCounts[cluster];
+    }
+
+    /**
+     * Returns the value of the centroid of the given cluster at the given spoke.
+     *
+     * @param cluster
+     * @param spoke
+     * @return
+     */
+    public float getCentroidValue(int cluster, int spoke) {
+        return mCentroids[cluster * mSpokeCount + spoke];
+    }
+
+    /**
+     * Returns the cluster index the given row was assigned to.
+     *
+     * @param row
+     * @return
+     */
+    public int getAssignment(int row) {
+        return mAssignments[row];
+    }
+
+    /**
+     * Creates a data object with one filled DataSet per cluster. The fill
+     * alpha of each DataSet is proportional to its number of members.
+     *
+     * @param color the color of all DataSets
+     * @return
+     */
+    public RadarData toRadarData(int color) {
+
+        int maxCount = 1;
+        for (int c = 0; c < mClusterCount; c++) {
+            maxCount = Math.max(maxCount, mCounts[c]);
+        }
+
+        List<IRadarDataSet> sets = new ArrayList<>(mClusterCount);
+
+        for (int c = 0; c < mClusterCount; c++) {
+
+            List<RadarEntry> entries = new ArrayList<>(mSpokeCount);
+
+            for (int j = 0; j < mSpokeCount; j++) {
+                entries.add(new RadarEntry(getCentroidValue(c, j)));
+            }
+
+            RadarDataSet set = new RadarDataSet(entries,
+                    "Cluster " + (c + 1) + " (" + mCounts[c] + ")");
+            set.setColor(color);
+            set.setFillColor(color);
+            set.setDrawFilled(true);
+            set.setFillAlpha(30 + (int) (195f * mCounts[c] / maxCount));
+
+            sets.add(set);
+        }
+
+        return new RadarData(sets);
+    }
+
+    /**
+     * Stops the worker threads. The clusterer can still be used afterwards,
+     * new threads are started when needed.
+     */
+    public void shutdown() {
+
+        if (mExecutor != null) {
+            mExecutor.shutdown();
+            mExecutor = null;
+        }
+    }
+}
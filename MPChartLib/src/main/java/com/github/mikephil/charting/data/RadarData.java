@@ -71,7 +71,7 @@ public class RadarData {
      * changed. Calling this performs all necessary recalculations needed when
      * the contained data has changed.
      */
-    private void notifyDataChanged() {
+    public void notifyDataChanged() {
         calcMinMax();
     }
 
@@ -354,7 +354,10 @@ public class RadarData {
 
         IRadarDataSet max = mDataSets.get(0);
 
-        for (IRadarDataSet set : mDataSets) {
+        // indexed, called on every frame
+        for (int i = 1; i < mDataSets.size(); i++) {
+
+            IRadarDataSet set = mDataSets.get(i);
 
             if (set.getEntryCount() > max.getEntryCount())
                 max = set;
@@ -0,0 +1,806 @@
+package com.github.mikephil.charting.data;
+
+import android.os.Parcel;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary codec for RadarData, e.g. for saving the chart state across
+ * process death. The data is written as a small header followed by one block
+ * per DataSet: the label, all y-values as one float array, the color palettes
+ * and the fill and value-text settings. Entries are not written one by one,
+ * the x-values and additional data of the Entries are not part of the format.
+ * <p/>
+ * If all DataSets have the same number of values, the data is restored into a
+ * single RadarMatrix and the restored DataSets are rows of that matrix,
+ * otherwise RadarDataSets are created.
+ */
+public class RadarDataCodec {
+
+    /**
+     * "RDC1"
+     */
+    private static final int MAGIC = 0x52444331;
+    private static final int VERSION = 1;
+
+    private static final int FLAG_DRAW_FILLED = 1;
+    private static final int FLAG_DRAW_VALUES = 1 << 1;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * bytes of a DataSet without its label and values: label length, entry
+     * count, the lengths of both color arrays, fill color, fill alpha, value
+     * text size and flags
+     */
+    private static final long MIN_DATA_SET_SIZE = 8 * 4;
+
+    /**
+     * initial capacity of arrays read from inputs of unknown size, they grow
+     * while they are read
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Writes the given data to the given output.
+     *
+     * @param data
+     * @param out
+     * @throws IOException
+     */
+    public static void write(RadarData data, DataOutput out) throws IOException {
+        encode(data, new DataOutputWriter(out));
+    }
+
+    /**
+     * Reads data that has been written with write(RadarData, DataOutput).
+     * Throws an IOException if the input does not hold valid data.
+     *
+     * @param in
+     * @return
+     * @throws IOException
+     */
+    public static RadarData read(DataInput in) throws IOException {
+        return decode(new DataInputReader(in));
+    }
+
+    /**
+     * Writes the given data into the given buffer, starting at its position.
+     * The buffer needs getEncodedSize(data) bytes of remaining space. The byte
+     * order of the buffer is used, big endian buffers are compatible with
+     * write(RadarData, DataOutput).
+     *
+     * @param data
+     * @param buffer
+     */
+    public static void write(RadarData data, ByteBuffer buffer) {
+        try {
+            encode(data, new ByteBufferWriter(buffer));
+        } catch (IOException e) {
+            // buffers do not throw IOExceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads data from the given buffer, starting at its position. Throws an
+     * IllegalArgumentException if the buffer does not hold valid data.
+     *
+     * @param buffer
+     * @return
+     */
+    public static RadarData read(ByteBuffer buffer) {
+        try {
+            return decode(new ByteBufferReader(buffer));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid radar data: " + e.getMessage(), e);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Invalid radar data: buffer too short.", e);
+        }
+    }
+
+    /**
+     * Writes the given data into the given Parcel, values are written with
+     * Parcel.writeFloatArray(...).
+     *
+     * @param data
+     * @param dest
+     */
+    public static void writeToParcel(RadarData data, Parcel dest) {
+        try {
+            encode(data, new ParcelWriter(dest));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads data that has been written with writeToParcel(...). Throws an
+     * IllegalArgumentException if the Parcel does not hold valid data.
+     *
+     * @param in
+     * @return
+     */
+    public static RadarData createFromParcel(Parcel in) {
+        try {
+            return decode(new ParcelReader(in));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid radar data: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the number of bytes write(RadarData, ByteBuffer) needs.
+     *
+     * @param data
+     * @return
+     */
+    public static int getEncodedSize(RadarData data) {
+
+        // magic, version, set count, uniform entry count
+        int size = 4 * 4;
+
+        for (int i = 0; i < data.getDataSetCount(); i++) {
+
+            IRadarDataSet set = data.getDataSetByIndex(i);
+            String label = set.getLabel();
+
+            size += 4 + (label == null ? 0 : label.getBytes(UTF_8).length);
+            size += 4 + 4 * set.getEntryCount();
+            size += 4 + 4 * set.getColors().length;
+            size += 4 + 4 * set.getValueTextColors().length;
+
+            // fill color, fill alpha, value text size, flags
+            size += 4 * 4;
+        }
+
+        return size;
+    }
+
+    private static void encode(RadarData data, Writer out) throws IOException {
+
+        int setCount = data.getDataSetCount();
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(setCount);
+        out.writeInt(getUniformEntryCount(data));
+
+        float[] buffer = null;
+
+        for (int i = 0; i < setCount; i++) {
+
+            IRadarDataSet set = data.getDataSetByIndex(i);
+            int count = set.getEntryCount();
+
+            out.writeString(set.getLabel());
+            out.writeInt(count);
+
+            if (set instanceof RadarMatrix.Row) {
+
+                // rows of a matrix are written straight from the backing array
+                RadarMatrix.Row row = (RadarMatrix.Row) set;
+                RadarMatrix matrix = row.getMatrix();
+
+                out.writeFloats(matrix.getValues(), matrix.getRowOffset(row.getRowIndex()), count);
+            } else {
+
+                if (buffer == null || buffer.length < count)
+                    buffer = new float[count];
+
+                for (int j = 0; j < count; j++) {
+                    buffer[j] = set.getYForIndex(j);
+                }
+
+                out.writeFloats(buffer, 0, count);
+            }
+
+            out.writeInts(set.getColors());
+            out.writeInts(set.getValueTextColors());
+            out.writeInt(set.getFillColor());
+            out.writeInt(set.getFillAlpha());
+            out.writeFloat(set.getValueTextSize());
+
+            int flags = 0;
+
+            if (set.isDrawFilledEnabled())
+                flags |= FLAG_DRAW_FILLED;
+            if (set.isDrawValuesEnabled())
+                flags |= FLAG_DRAW_VALUES;
+
+            out.writeInt(flags);
+        }
+
+        out.flush();
+    }
+
+    private static RadarData decode(Reader in) throws IOException {
+
+        if (in.readInt() != MAGIC)
+            throw new IOException("Not radar data.");
+
+        int version = in.readInt();
+
+        if (version != VERSION)
+            throw new IOException("Unsupported version " + version + ".");
+
+        int setCount = in.readInt();
+        int uniformCount = in.readInt();
+
+        if (setCount < 0)
+            throw new IOException("Invalid DataSet count " + setCount + ".");
+
+        if (uniformCount < -1)
+            throw new IOException("Invalid entry count " + uniformCount + ".");
+
+        // the counts are not trusted, every DataSet takes at least its
+        // fixed-size fields and its values. Inputs of unknown size can't be
+        // checked up front, their arrays grow while they are read instead, so
+        // that a corrupt count ends in an EOFException
+        in.require((long) setCount * (MIN_DATA_SET_SIZE + 4L * Math.max(0, uniformCount)));
+
+        if (uniformCount > 0 && (long) setCount * uniformCount > Integer.MAX_VALUE)
+            throw new IOException("Too many values " + setCount + " x " + uniformCount + ".");
+
+        // DataSets of equal size are restored as rows of a single matrix, the
+        // matrix is created once all rows were read
+        boolean uniform = uniformCount >= 0;
+        float[] matrixValues = uniform ? new float[in.getInitialCapacity(setCount * uniformCount)] : null;
+
+        List<DecodedDataSet> decoded = new ArrayList<>(Math.min(setCount, INITIAL_CAPACITY));
+
+        for (int i = 0; i < setCount; i++) {
+
+            DecodedDataSet set = new DecodedDataSet();
+
+            set.mLabel = in.readString();
+            int count = in.readInt();
+
+            if (count < 0 || (uniform && count != uniformCount))
+                throw new IOException("Invalid entry count " + count + ".");
+
+            in.require(4L * count);
+
+            if (uniform) {
+                matrixValues = in.readFloats(matrixValues, i * uniformCount, count);
+            } else {
+                set.mValues = in.readFloats(new float[in.getInitialCapacity(count)], 0, count);
+                set.mCount = count;
+            }
+
+            set.mColors = in.readInts();
+            set.mValueColors = in.readInts();
+            set.mFillColor = in.readInt();
+            set.mFillAlpha = in.readInt();
+            set.mValueTextSize = in.readFloat();
+            set.mFlags = in.readInt();
+
+            decoded.add(set);
+        }
+
+        RadarMatrix matrix = null;
+
+        if (uniform)
+            matrix = new RadarMatrix(matrixValues, setCount, uniformCount);
+
+        List<IRadarDataSet> sets = new ArrayList<>(setCount);
+
+        for (int i = 0; i < setCount; i++) {
+
+            DecodedDataSet d = decoded.get(i);
+            BaseRadarDataSet set;
+
+            if (matrix != null) {
+
+                set = matrix.getRow(i);
+                set.setLabel(d.mLabel);
+            } else {
+
+                List<RadarEntry> entries = new ArrayList<>(d.mCount);
+
+                for (int j = 0; j < d.mCount; j++) {
+                    entries.add(new RadarEntry(d.mValues[j]));
+                }
+
+                set = new RadarDataSet(entries, d.mLabel);
+            }
+
+            set.setColors(d.mColors);
+            set.setValueTextColors(d.mValueColors);
+            set.setFillColor(d.mFillColor);
+            set.setFillAlpha(d.mFillAlpha);
+            set.setValueTextSizePixels(d.mValueTextSize);
+            set.setDrawFilled((d.mFlags & FLAG_DRAW_FILLED) != 0);
+            set.setDrawValues((d.mFlags & FLAG_DRAW_VALUES) != 0);
+
+            sets.add(set);
+        }
+
+        if (matrix != null)
+            matrix.notifyDataChanged();
+
+        return new RadarData(sets);
+    }
+
+    /**
+     * Returns the entry count all DataSets share, or -1 if they differ.
+     */
+    private static int getUniformEntryCount(RadarData data) {
+
+        int count = -1;
+
+        for (int i = 0; i < data.getDataSetCount(); i++) {
+
+            int c = data.getDataSetByIndex(i).getEntryCount();
+
+            if (count < 0)
+                count = c;
+            else if (c != count)
+                return -1;
+        }
+
+        return count;
+    }
+
+    /**
+     * The fields of a DataSet as read, the DataSets are only created once the
+     * whole input was read.
+     */
+    private static class DecodedDataSet {
+
+        private String mLabel;
+
+        /**
+         * the values, only used if the DataSets have different entry counts
+         */
+        private float[] mValues;
+        private int mCount;
+
+        private int[] mColors;
+        private int[] mValueColors;
+        private int mFillColor;
+        private int mFillAlpha;
+        private float mValueTextSize;
+        private int mFlags;
+    }
+
+    /**
+     * ###### ###### WRITERS AND READERS FOR THE SUPPORTED TARGETS ###### ######
+     */
+
+    private abstract static class Writer {
+
+        abstract void writeInt(int value) throws IOException;
+
+        abstract void writeFloat(float value) throws IOException;
+
+        /**
+         * Writes the given values, the count is written by the caller.
+         */
+        abstract void writeFloats(float[] values, int offset, int count) throws IOException;
+
+        /**
+         * Writes the length of the array followed by its values.
+         */
+        void writeInts(int[] values) throws IOException {
+
+            writeInt(values.length);
+
+            for (int value : values) {
+                writeInt(value);
+            }
+        }
+
+        /**
+         * Writes the byte length (-1 for null) followed by the UTF-8 bytes.
+         */
+        void writeString(String value) throws IOException {
+
+            if (value == null) {
+                writeInt(-1);
+                return;
+            }
+
+            byte[] bytes = value.getBytes(UTF_8);
+            writeInt(bytes.length);
+            writeBytes(bytes);
+        }
+
+        abstract void writeBytes(byte[] bytes) throws IOException;
+
+        void flush() throws IOException {
+        }
+    }
+
+    private abstract static class Reader {
+
+        /**
+         * Returns the number of bytes left, or -1 if it is not known.
+         */
+        long remaining() {
+            return -1L;
+        }
+
+        /**
+         * Throws if fewer than the given number of bytes are left.
+         */
+        void require(long bytes) throws IOException {
+
+            long remaining = remaining();
+
+            if (remaining >= 0L && bytes > remaining)
+                throw new IOException("Data too short, " + bytes + " bytes needed, "
+                        + remaining + " left.");
+        }
+
+        /**
+         * Returns the capacity to allocate for an array of the given length
+         * that is about to be read: the length itself if the size of the input
+         * is known and was checked with require(...), otherwise at most
+         * INITIAL_CAPACITY.
+         */
+        int getInitialCapacity(int length) {
+            return remaining() >= 0L ? length : Math.min(length, INITIAL_CAPACITY);
+        }
+
+        abstract int readInt() throws IOException;
+
+        abstract float readFloat() throws IOException;
+
+        /**
+         * Reads count values into the given array, which must be large enough.
+         */
+        abstract void readValues(float[] values, int offset, int count) throws IOException;
+
+        /**
+         * Reads count values into the given array, starting at the given
+         * offset. The array is grown while the values are read if it is too
+         * small, it is never grown beyond offset + count. Returns the array
+         * the values were read into.
+         */
+        float[] readFloats(float[] values, int offset, int count) throws IOException {
+
+            int end = offset + count;
+
+            while (offset < end) {
+
+                if (offset >= values.length)
+                    values = Arrays.copyOf(values, (int) Math.min(end,
+                            Math.max(INITIAL_CAPACITY, values.length * 2L)));
+
+                int n = Math.min(end, values.length) - offset;
+
+                readValues(values, offset, n);
+                offset += n;
+            }
+
+            return values;
+        }
+
+        int[] readInts() throws IOException {
+
+            int length = readInt();
+
+            if (length < 0)
+                throw new IOException("Invalid array length " + length + ".");
+
+            require(4L * length);
+
+            int[] values = new int[getInitialCapacity(length)];
+
+            for (int i = 0; i < length; i++) {
+
+                if (i == values.length)
+                    values = Arrays.copyOf(values, (int) Math.min(length, values.length * 2L));
+
+                values[i] = readInt();
+            }
+
+            return values;
+        }
+
+        String readString() throws IOException {
+
+            int length = readInt();
+
+            if (length < 0)
+                return null;
+
+            require(length);
+
+            byte[] bytes = new byte[getInitialCapacity(length)];
+            int offset = 0;
+
+            while (offset < length) {
+
+                if (offset == bytes.length)
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(length, bytes.length * 2L));
+
+                int n = bytes.length - offset;
+
+                readBytes(bytes, offset, n);
+                offset += n;
+            }
+
+            return new String(bytes, UTF_8);
+        }
+
+        abstract void readBytes(byte[] bytes, int offset, int count) throws IOException;
+    }
+
+    /**
+     * size of the chunks float arrays are converted in for DataOutput / DataInput
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    private static class DataOutputWriter extends Writer {
+
+        private final DataOutput mOut;
+        private final byte[] mChunk = new byte[CHUNK_SIZE];
+        private final FloatBuffer mChunkFloats = ByteBuffer.wrap(mChunk).asFloatBuffer();
+
+        DataOutputWriter(DataOutput out) {
+            mOut = out;
+        }
+
+        @Override
+        void writeInt(int value) throws IOException {
+            mOut.writeInt(value);
+        }
+
+        @Override
+        void writeFloat(float value) throws IOException {
+            mOut.writeFloat(value);
+        }
+
+        @Override
+        void writeFloats(float[] values, int offset, int count) throws IOException {
+
+            // convert into big endian bytes chunk by chunk instead of value by value
+            while (count > 0) {
+
+                int n = Math.min(count, CHUNK_SIZE / 4);
+
+                mChunkFloats.clear();
+                mChunkFloats.put(values, offset, n);
+                mOut.write(mChunk, 0, n * 4);
+
+                offset += n;
+                count -= n;
+            }
+        }
+
+        @Override
+        void writeBytes(byte[] bytes) throws IOException {
+            mOut.write(bytes);
+        }
+    }
+
+    private static class DataInputReader extends Reader {
+
+        private final DataInput mIn;
+        private final byte[] mChunk = new byte[CHUNK_SIZE];
+        private final FloatBuffer mChunkFloats = ByteBuffer.wrap(mChunk).asFloatBuffer();
+
+        DataInputReader(DataInput in) {
+            mIn = in;
+        }
+
+        @Override
+        int readInt() throws IOException {
+            return mIn.readInt();
+        }
+
+        @Override
+        float readFloat() throws IOException {
+            return mIn.readFloat();
+        }
+
+        @Override
+        void readValues(float[] values, int offset, int count) throws IOException {
+
+            while (count > 0) {
+
+                int n = Math.min(count, CHUNK_SIZE / 4);
+
+                mIn.readFully(mChunk, 0, n * 4);
+                mChunkFloats.clear();
+                mChunkFloats.get(values, offset, n);
+
+                offset += n;
+                count -= n;
+            }
+        }
+
+        @Override
+        void readBytes(byte[] bytes, int offset, int count) throws IOException {
+            mIn.readFully(bytes, offset, count);
+        }
+    }
+
+    private static class ByteBufferWriter extends Writer {
+
+        private final ByteBuffer mBuffer;
+
+        ByteBufferWriter(ByteBuffer buffer) {
+            mBuffer = buffer;
+        }
+
+        @Override
+        void writeInt(int value) {
+            mBuffer.putInt(value);
+        }
+
+        @Override
+        void writeFloat(float value) {
+            mBuffer.putFloat(value);
+        }
+
+        @Override
+        void writeFloats(float[] values, int offset, int count) {
+            mBuffer.asFloatBuffer().put(values, offset, count);
+            mBuffer.position(mBuffer.position() + count * 4);
+        }
+
+        @Override
+        void writeBytes(byte[] bytes) {
+            mBuffer.put(bytes);
+        }
+    }
+
+    private static class ByteBufferReader extends Reader {
+
+        private final ByteBuffer mBuffer;
+
+        ByteBufferReader(ByteBuffer buffer) {
+            mBuffer = buffer;
+        }
+
+        @Override
+        long remaining() {
+            return mBuffer.remaining();
+        }
+
+        @Override
+        int readInt() {
+            return mBuffer.getInt();
+        }
+
+        @Override
+        float readFloat() {
+            return mBuffer.getFloat();
+        }
+
+        @Override
+        void readValues(float[] values, int offset, int count) throws IOException {
+
+            if (mBuffer.remaining() < count * 4)
+                throw new IOException("Buffer too short.");
+
+            mBuffer.asFloatBuffer().get(values, offset, count);
+            mBuffer.position(mBuffer.position() + count * 4);
+        }
+
+        @Override
+        void readBytes(byte[] bytes, int offset, int count) {
+            mBuffer.get(bytes, offset, count);
+        }
+    }
+
+    private static class ParcelWriter extends Writer {
+
+        private final Parcel mParcel;
+
+        ParcelWriter(Parcel parcel) {
+            mParcel = parcel;
+        }
+
+        @Override
+        void writeInt(int value) {
+            mParcel.writeInt(value);
+        }
+
+        @Override
+        void writeFloat(float value) {
+            mParcel.writeFloat(value);
+        }
+
+        @Override
+        void writeFloats(float[] values, int offset, int count) {
+
+            if (offset == 0 && count == values.length) {
+                mParcel.writeFloatArray(values);
+            } else {
+                float[] slice = new float[count];
+                System.arraycopy(values, offset, slice, 0, count);
+                mParcel.writeFloatArray(slice);
+            }
+        }
+
+        @Override
+        void writeInts(int[] values) {
+            mParcel.writeIntArray(values);
+        }
+
+        @Override
+        void writeString(String value) {
+            mParcel.writeString(value);
+        }
+
+        @Override
+        void writeBytes(byte[] bytes) {
+            mParcel.writeByteArray(bytes);
+        }
+    }
+
+    private static class ParcelReader extends Reader {
+
+        private final Parcel mParcel;
+
+        ParcelReader(Parcel parcel) {
+            mParcel = parcel;
+        }
+
+        @Override
+        long remaining() {
+            return mParcel.dataAvail();
+        }
+
+        @Override
+        int readInt() {
+            return mParcel.readInt();
+        }
+
+        @Override
+        float readFloat() {
+            return mParcel.readFloat();
+        }
+
+        @Override
+        void readValues(float[] values, int offset, int count) throws IOException {
+
+            float[] array = mParcel.createFloatArray();
+
+            if (array == null || array.length != count)
+                throw new IOException("Unexpected float array.");
+
+            System.arraycopy(array, 0, values, offset, count);
+        }
+
+        @Override
+        int[] readInts() throws IOException {
+
+            int[] values = mParcel.createIntArray();
+
+            if (values == null)
+                throw new IOException("Unexpected int array.");
+
+            return values;
+        }
+
+        @Override
+        String readString() {
+            return mParcel.readString();
+        }
+
+        @Override
+        void readBytes(byte[] bytes, int offset, int count) throws IOException {
+
+            byte[] array = mParcel.createByteArray();
+
+            if (array == null || array.length != count)
+                throw new IOException("Unexpected byte array.");
+
+            System.arraycopy(array, 0, bytes, offset, count);
+        }
+    }
+}
@@ -0,0 +1,650 @@
+package com.github.mikephil.charting.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Streaming importer for radar profiles stored as CSV or JSON. The input is
+ * read through a small char buffer and numbers are parsed in place, without
+ * creating Strings or Entry objects. The values are written straight into the
+ * primitive storage of a RadarMatrix and min / max are calculated in the same
+ * pass. Numbers with up to 7 significant digits and exponents up to 10 are
+ * scaled exactly in float arithmetic, longer numbers are handed to
+ * Float.parseFloat(...), so that every value is rounded like
+ * Float.parseFloat(...) would round it. Each CSV line or inner JSON array is one profile (one row of the
+ * matrix), the first profile determines the number of spokes. Empty fields
+ * and JSON nulls are imported as NaN, shorter profiles are padded with NaN
+ * and surplus values are ignored. The importer can be reused, but it is not
+ * thread safe.
+ */
+public class RadarDataImporter {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * powers of ten that are exactly representable as float
+     */
+    private static final float[] POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    /**
+     * the largest mantissa that is exactly representable as float
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 24;
+
+    private final char[] mBuffer;
+    private Reader mReader;
+    private int mPos;
+    private int mLimit;
+    private int mLine;
+
+    /**
+     * storage of the matrix that is being imported, grown by doubling
+     */
+    private float[] mValues;
+    private float[] mRowMin;
+    private float[] mRowMax;
+    private float[] mSpokeMin;
+    private float[] mSpokeMax;
+    private float mYMin;
+    private float mYMax;
+
+    private int mRowCount;
+    private int mSpokeCount;
+
+    /**
+     * the column the next value of the current row is written to
+     */
+    private int mColumn;
+
+    /**
+     * the chars of the number that is being parsed, for numbers that are
+     * handed to Float.parseFloat(...)
+     */
+    private char[] mNumberChars = new char[32];
+    private int mNumberLength;
+
+    /**
+     * the last parsed number, or the reason why it could not be parsed
+     */
+    private float mNumber;
+    private String mNumberError;
+
+    /**
+     * Creates an importer with a buffer of 8192 chars.
+     */
+    public RadarDataImporter() {
+        this(8192);
+    }
+
+    /**
+     * @param bufferSize the size of the char buffer
+     */
+    public RadarDataImporter(int bufferSize) {
+        mBuffer = new char[Math.max(16, bufferSize)];
+    }
+
+    /**
+     * Imports CSV from the given UTF-8 encoded stream.
+     *
+     * @param in
+     * @return
+     * @throws IOException
+     */
+    public RadarMatrix readCsv(InputStream in) throws IOException {
+        return readCsv(new InputStreamReader(in, UTF_8));
+    }
+
+    /**
+     * Imports CSV, one profile per line. Values can be separated by commas,
+     * semicolons or tabs and may be quoted. If the first field of the first
+     * line is not a number, the line is treated as header and skipped.
+     *
+     * @param reader
+     * @return
+     * @throws IOException
+     */
+    public RadarMatrix readCsv(Reader reader) throws IOException {
+
+        start(reader);
+
+        int c = read();
+
+        while (c != -1) {
+
+            c = skipSpaces(c);
+
+            if (c == '\n' || c == '\r') {
+                // empty line
+                c = read();
+                continue;
+            }
+
+            c = readCsvLine(c);
+        }
+
+        return finish();
+    }
+
+    /**
+     * Reads the fields of one line, starting with the given char. Returns the
+     * first char after the line.
+     */
+    private int readCsvLine(int c) throws IOException {
+
+        boolean expectValue = true;
+
+        while (true) {
+
+            c = skipSpaces(c);
+
+            if (c == -1 || c == '\n' || c == '\r') {
+
+                // a trailing separator ends with an empty field
+                if (expectValue && mColumn > 0)
+                    addValue(Float.NaN);
+
+                endRow();
+                mLine++;
+                return c == -1 ? -1 : read();
+            }
+
+            if (isSeparator(c)) {
+
+                if (expectValue)
+                    addValue(Float.NaN);
+
+                expectValue = true;
+                c = read();
+                continue;
+            }
+
+            if (!expectValue)
+                throw error("Expected a separator");
+
+            boolean first = mLine == 0 && mRowCount == 0 && mColumn == 0;
+            boolean quoted = c == '"';
+
+            if (quoted) {
+                c = skipSpaces(read());
+
+                if (c == '"') {
+                    addValue(Float.NaN);
+                    expectValue = false;
+                    c = read();
+                    continue;
+                }
+            }
+
+            c = skipSpaces(parseNumber(c));
+
+            if (first && !isFieldEnd(c, quoted)) {
+                // the first field is not a number, the line is a header
+                return skipLine(c);
+            }
+
+            if (mNumberError != null)
+                throw error(mNumberError);
+
+            if (quoted) {
+                if (c != '"')
+                    throw error("Unterminated quote");
+                c = read();
+            }
+
+            addValue(mNumber);
+            expectValue = false;
+        }
+    }
+
+    /**
+     * Imports JSON from the given UTF-8 encoded stream.
+     *
+     * @param in
+     * @return
+     * @throws IOException
+     */
+    public RadarMatrix readJson(InputStream in) throws IOException {
+        return readJson(new InputStreamReader(in, UTF_8));
+    }
+
+    /**
+     * Imports a JSON array of arrays of numbers, e.g. [[1, 2, 3], [4, 5, 6]].
+     * A flat array of numbers is imported as a single profile.
+     *
+     * @param reader
+     * @return
+     * @throws IOException
+     */
+    public RadarMatrix readJson(Reader reader) throws IOException {
+
+        start(reader);
+
+        int c = skipWhitespace(read());
+
+        if (c != '[')
+            throw error("Expected '['");
+
+        c = skipWhitespace(read());
+
+        if (c == '[') {
+
+            // array of profiles
+            while (true) {
+
+                c = readJsonRow(c);
+                c = skipWhitespace(c);
+
+                if (c == ',') {
+                    c = skipWhitespace(read());
+                } else if (c == ']') {
+                    break;
+                } else {
+                    throw error("Expected ',' or ']'");
+                }
+            }
+
+        } else if (c != ']') {
+
+            // single flat profile
+            mPos--;
+            readJsonRow('[');
+        }
+
+        return finish();
+    }
+
+    /**
+     * Reads an array of numbers starting at the given '['. Returns the first
+     * char after the closing bracket.
+     */
+    private int readJsonRow(int c) throws IOException {
+
+        if (c != '[')
+            throw error("Expected '['");
+
+        c = skipWhitespace(read());
+
+        if (c != ']') {
+
+            while (true) {
+
+                if (c == 'n') {
+                    expect("ull");
+                    addValue(Float.NaN);
+                    c = read();
+                } else {
+                    c = readNumber(c);
+                }
+
+                c = skipWhitespace(c);
+
+                if (c == ',') {
+                    c = skipWhitespace(read());
+                } else if (c == ']') {
+                    break;
+                } else {
+                    throw error("Expected ',' or ']'");
+                }
+            }
+        }
+
+        endRow();
+        return read();
+    }
+
+    /**
+     * Returns true if the field that was just parsed is a number that ends at
+     * the given char.
+     */
+    private boolean isFieldEnd(int c, boolean quoted) {
+
+        if (mNumberError != null)
+            return false;
+
+        if (quoted)
+            return c == '"';
+
+        return c == -1 || c == '\n' || c == '\r' || isSeparator(c);
+    }
+
+    /**
+     * Parses a number starting with the given char and adds it to the current
+     * row. Returns the first char after the number.
+     */
+    private int readNumber(int c) throws IOException {
+
+        c = parseNumber(c);
+
+        if (mNumberError != null)
+            throw error(mNumberError);
+
+        addValue(mNumber);
+        return c;
+    }
+
+    /**
+     * Parses a number starting with the given char into mNumber, or sets
+     * mNumberError if there is no valid number. Returns the first char after
+     * the number.
+     */
+    private int parseNumber(int c) throws IOException {
+
+        mNumberLength = 0;
+        mNumberError = null;
+
+        boolean negative = false;
+
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            c = next(c);
+        }
+
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean hasDigits = false;
+
+        while (c >= '0' && c <= '9') {
+
+            hasDigits = true;
+
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0)
+                    digits++;
+            } else {
+                // further digits do not fit into the mantissa
+                exponent++;
+            }
+
+            c = next(c);
+        }
+
+        if (c == '.') {
+
+            c = next(c);
+
+            while (c >= '0' && c <= '9') {
+
+                hasDigits = true;
+
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    exponent--;
+                    if (mantissa != 0)
+                        digits++;
+                }
+
+                c = next(c);
+            }
+        }
+
+        if (!hasDigits) {
+            mNumberError = "Expected a number";
+            return c;
+        }
+
+        if (c == 'e' || c == 'E') {
+
+            c = next(c);
+
+            boolean negativeExponent = false;
+
+            if (c == '-' || c == '+') {
+                negativeExponent = c == '-';
+                c = next(c);
+            }
+
+            if (c < '0' || c > '9') {
+                mNumberError = "Invalid exponent";
+                return c;
+            }
+
+            int e = 0;
+
+            while (c >= '0' && c <= '9') {
+                if (e < 10000)
+                    e = e * 10 + (c - '0');
+                c = next(c);
+            }
+
+            exponent += negativeExponent ? -e : e;
+        }
+
+        if (mantissa == 0) {
+            mNumber = negative ? -0f : 0f;
+        } else if (mantissa <= MAX_EXACT_MANTISSA && Math.abs(exponent) < POWERS_OF_TEN.length) {
+
+            // mantissa and power of ten are exact, a single float operation
+            // rounds correctly
+            float value = mantissa;
+
+            if (exponent > 0)
+                value *= POWERS_OF_TEN[exponent];
+            else if (exponent < 0)
+                value /= POWERS_OF_TEN[-exponent];
+
+            mNumber = negative ? -value : value;
+        } else {
+            mNumber = Float.parseFloat(new String(mNumberChars, 0, mNumberLength));
+        }
+
+        return c;
+    }
+
+    /**
+     * Appends the given char to the chars of the current number and returns
+     * the next char.
+     */
+    private int next(int c) throws IOException {
+
+        if (mNumberLength == mNumberChars.length)
+            mNumberChars = Arrays.copyOf(mNumberChars, mNumberLength * 2);
+
+        mNumberChars[mNumberLength++] = (char) c;
+        return read();
+    }
+
+    /**
+     * ###### ###### STORAGE ###### ######
+     */
+
+    private void addValue(float value) {
+
+        if (mRowCount == 0) {
+
+            // the first row determines the spoke count
+            ensureSpokes(mColumn + 1);
+
+        } else if (mColumn >= mSpokeCount) {
+            mColumn++;
+            return;
+        }
+
+        ensureValues(mRowCount * mSpokeCount + mColumn + 1);
+
+        mValues[mRowCount * mSpokeCount + mColumn] = value;
+
+        if (value < mSpokeMin[mColumn])
+            mSpokeMin[mColumn] = value;
+        if (value > mSpokeMax[mColumn])
+            mSpokeMax[mColumn] = value;
+
+        mColumn++;
+    }
+
+    private void endRow() {
+
+        if (mRowCount == 0) {
+
+            if (mColumn == 0)
+                return;
+
+            mSpokeCount = mColumn;
+        }
+
+        int offset = mRowCount * mSpokeCount;
+
+        ensureValues(offset + mSpokeCount);
+
+        // pad missing values
+        for (int j = mColumn; j < mSpokeCount; j++) {
+            mValues[offset + j] = Float.NaN;
+        }
+
+        float rowMin = Float.MAX_VALUE;
+        float rowMax = -Float.MAX_VALUE;
+
+        for (int j = 0; j < mSpokeCount; j++) {
+
+            float v = mValues[offset + j];
+
+            if (v < rowMin)
+                rowMin = v;
+            if (v > rowMax)
+                rowMax = v;
+        }
+
+        if (mRowMin.length == mRowCount) {
+            mRowMin = Arrays.copyOf(mRowMin, mRowCount * 2);
+            mRowMax = Arrays.copyOf(mRowMax, mRowCount * 2);
+        }
+
+        mRowMin[mRowCount] = rowMin;
+        mRowMax[mRowCount] = rowMax;
+
+        if (rowMin < mYMin)
+            mYMin = rowMin;
+        if (rowMax > mYMax)
+            mYMax = rowMax;
+
+        mRowCount++;
+        mColumn = 0;
+    }
+
+    private void ensureValues(int size) {
+
+        if (mValues.length < size)
+            mValues = Arrays.copyOf(mValues, Math.max(size, mValues.length * 2));
+    }
+
+    private void ensureSpokes(int count) {
+
+        if (mSpokeMin.length >= count)
+            return;
+
+        int length = mSpokeMin.length;
+        int capacity = Math.max(count, length * 2);
+
+        mSpokeMin = Arrays.copyOf(mSpokeMin, capacity);
+        mSpokeMax = Arrays.copyOf(mSpokeMax, capacity);
+
+        Arrays.fill(mSpokeMin, length, capacity, Float.MAX_VALUE);
+        Arrays.fill(mSpokeMax, length, capacity, -Float.MAX_VALUE);
+    }
+
+    private void start(Reader reader) {
+
+        mReader = reader;
+        mPos = 0;
+        mLimit = 0;
+        mLine = 0;
+
+        mValues = new float[1024];
+        mRowMin = new float[64];
+        mRowMax = new float[64];
+        mSpokeMin = new float[0];
+        mSpokeMax = new float[0];
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
+        mRowCount = 0;
+        mSpokeCount = 0;
+        mColumn = 0;
+    }
+
+    private RadarMatrix finish() {
+
+        RadarMatrix matrix = new RadarMatrix(mValues, mRowCount, mSpokeCount,
+                mRowMin, mRowMax, mSpokeMin, mSpokeMax, mYMin, mYMax);
+
+        // the matrix owns the arrays now
+        mReader = null;
+        mValues = null;
+        mRowMin = null;
+        mRowMax = null;
+        mSpokeMin = null;
+        mSpokeMax = null;
+
+        return matrix;
+    }
+
+    /**
+     * ###### ###### CHARACTER INPUT ###### ######
+     */
+
+    private int read() throws IOException {
+
+        if (mPos == mLimit) {
+
+            int n = mReader.read(mBuffer, 0, mBuffer.length);
+
+            if (n <= 0)
+                return -1;
+
+            mPos = 0;
+            mLimit = n;
+        }
+
+        return mBuffer[mPos++];
+    }
+
+    private int skipSpaces(int c) throws IOException {
+
+        while (c == ' ')
+            c = read();
+
+        return c;
+    }
+
+    private int skipWhitespace(int c) throws IOException {
+
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            if (c == '\n')
+                mLine++;
+            c = read();
+        }
+
+        return c;
+    }
+
+    private int skipLine(int c) throws IOException {
+
+        while (c != -1 && c != '\n' && c != '\r')
+            c = read();
+
+        mLine++;
+        return c == -1 ? -1 : read();
+    }
+
+    private void expect(String rest) throws IOException {
+
+        for (int i = 0; i < rest.length(); i++) {
+            if (read() != rest.charAt(i))
+                throw error("Unexpected literal");
+        }
+    }
+
+    private static boolean isSeparator(int c) {
+        return c == ',' || c == ';' || c == '\t';
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + " in line " + (mLine + 1) + ".");
+    }
+}
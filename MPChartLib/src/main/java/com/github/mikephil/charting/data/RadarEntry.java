@@ -27,6 +27,27 @@ public class RadarEntry implements Parcelable {
      */
     private float x = 0f;
 
+    /**
+     * Entry per thread that is reused by DataSets that create their entries on
+     * demand (views of primitive arrays or mapped files)
+     */
+    private static final ThreadLocal<RadarEntry> mReusable = new ThreadLocal<RadarEntry>() {
+        @Override
+        protected RadarEntry initialValue() {
+            return new RadarEntry();
+        }
+    };
+
+    /**
+     * Returns the Entry reused by the calling thread. It is only valid until
+     * the next call on the same thread.
+     *
+     * @return
+     */
+    static RadarEntry getReusable() {
+        return mReusable.get();
+    }
+
     public RadarEntry() {
 
     }
@@ -67,7 +88,7 @@ public class RadarEntry implements Parcelable {
      *
      * @param y
      */
-    private void setY(float y) {
+    void setY(float y) {
         this.y = y;
     }
 
@@ -0,0 +1,509 @@
+package com.github.mikephil.charting.data;
+
+import android.graphics.Color;
+
+import com.github.mikephil.charting.utils.QuantileSketch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.WeakHashMap;
+
+/**
+ * Statistical envelope over a (possibly very large) collection of
+ * RadarDataSets. Instead of drawing every DataSet, the chart can draw a few
+ * bands (e.g. min - max, 25th - 75th percentile) and the median per spoke.
+ * Each spoke is backed by a QuantileSketch, so memory stays bounded no matter
+ * how many DataSets are added. The envelope can be updated incrementally,
+ * call removeDataSet(...) before modifying a DataSet and addDataSet(...)
+ * afterwards. The envelope keeps track of the DataSets it represents, adding
+ * a DataSet twice or removing one that was not added has no effect. The
+ * DataSets are only referenced weakly, a DataSet that is not used anymore is
+ * not kept alive by the envelope (its values stay in the envelope). Every
+ * modification increments the version of the envelope, so that charts notice
+ * it on their next draw.
+ */
+public class RadarEnvelope {
+
+    /**
+     * A band between two percentiles, drawn as a filled ring-shaped polygon.
+     */
+    public static class Band {
+
+        private final float mLowerPercentile;
+        private final float mUpperPercentile;
+        private final int mColor;
+        private final int mAlpha;
+        private final String mLabel;
+
+        /**
+         * @param lowerPercentile the lower bound in percent (0 = min)
+         * @param upperPercentile the upper bound in percent (100 = max)
+         * @param color           the fill color
+         * @param alpha           the fill alpha (0 - 255)
+         * @param label           the label shown in the legend, may be null
+         */
+        public Band(float lowerPercentile, float upperPercentile, int color, int alpha, String label) {
+
+            if (lowerPercentile > upperPercentile) {
+                float t = lowerPercentile;
+                lowerPercentile = upperPercentile;
+                upperPercentile = t;
+            }
+
+            mLowerPercentile = Math.max(0f, lowerPercentile);
+            mUpperPercentile = Math.min(100f, upperPercentile);
+            mColor = color;
+            mAlpha = alpha;
+            mLabel = label;
+        }
+
+        public float getLowerPercentile() {
+            return mLowerPercentile;
+        }
+
+        public float getUpperPercentile() {
+            return mUpperPercentile;
+        }
+
+        public int getColor() {
+            return mColor;
+        }
+
+        public int getAlpha() {
+            return mAlpha;
+        }
+
+        public String getLabel() {
+            return mLabel;
+        }
+    }
+
+    /**
+     * the number of bins each spoke sketch uses
+     */
+    private final int mResolution;
+
+    /**
+     * one sketch per spoke
+     */
+    private QuantileSketch[] mSketches = new QuantileSketch[0];
+
+    /**
+     * the bands that are drawn, outermost first
+     */
+    private final List<Band> mBands = new ArrayList<>();
+
+    /**
+     * lower / upper values per band and spoke, lazily recomputed
+     */
+    private float[][] mBandLower = new float[0][];
+    private float[][] mBandUpper = new float[0][];
+
+    /**
+     * median per spoke, lazily recomputed
+     */
+    private float[] mMedian = new float[0];
+
+    /**
+     * the DataSets the envelope represents, held weakly. DataSets do not
+     * override equals(...), so they are compared by identity.
+     */
+    private final WeakHashMap<IRadarDataSet, Boolean> mDataSets = new WeakHashMap<>();
+
+    /**
+     * the number of DataSets the envelope represents, including the ones that
+     * were collected
+     */
+    private int mDataSetCount = 0;
+
+    /**
+     * flag that indicates that the cached band values are outdated
+     */
+    private boolean mDirty = true;
+
+    /**
+     * incremented on every modification
+     */
+    private int mVersion = 0;
+
+    private int mMedianColor = Color.rgb(63, 63, 63);
+    private float mMedianLineWidth = 2f;
+    private boolean mDrawMedian = true;
+
+    /**
+     * Creates an envelope with the default bands (min - max and the
+     * interquartile range) and a resolution of 256 bins per spoke.
+     */
+    public RadarEnvelope() {
+        this(256);
+    }
+
+    /**
+     * Creates an envelope with the default bands (min - max and the
+     * interquartile range).
+     *
+     * @param resolution the number of bins each spoke uses, higher values are
+     *                   more precise but use more memory
+     */
+    public RadarEnvelope(int resolution) {
+        mResolution = resolution;
+
+        mBands.add(new Band(0f, 100f, Color.rgb(140, 234, 255), 80, "Min - Max"));
+        mBands.add(new Band(25f, 75f, Color.rgb(64, 160, 255), 120, "25% - 75%"));
+    }
+
+    /**
+     * Creates an envelope for all DataSets of the given data object.
+     *
+     * @param data
+     * @return
+     */
+    public static RadarEnvelope fromData(RadarData data) {
+
+        RadarEnvelope envelope = new RadarEnvelope();
+
+        for (IRadarDataSet set : data.getDataSets()) {
+            envelope.addDataSet(set);
+        }
+
+        return envelope;
+    }
+
+    /**
+     * Adds the values of the given DataSet to the envelope. Does nothing if
+     * the DataSet was already added.
+     *
+     * @param set
+     */
+    public void addDataSet(IRadarDataSet set) {
+
+        if (mDataSets.put(set, Boolean.TRUE) != null)
+            return;
+
+        mDataSetCount++;
+
+        int count = set.getEntryCount();
+        ensureSpokes(count);
+
+        for (int j = 0; j < count; j++) {
+            mSketches[j].add(set.getYForIndex(j));
+        }
+
+        onChanged();
+    }
+
+    /**
+     * Removes the values of the given DataSet from the envelope. The DataSet
+     * must not have been modified since it was added. Does nothing if the
+     * DataSet was not added or was already removed.
+     *
+     * @param set
+     */
+    public void removeDataSet(IRadarDataSet set) {
+
+        if (mDataSets.remove(set) == null)
+            return;
+
+        mDataSetCount--;
+
+        int count = Math.min(set.getEntryCount(), mSketches.length);
+
+        for (int j = 0; j < count; j++) {
+            mSketches[j].remove(set.getYForIndex(j));
+        }
+
+        onChanged();
+    }
+
+    /**
+     * Replaces the values of a DataSet with the values of another one, e.g.
+     * when a DataSet was recreated with new values. The old DataSet is only
+     * removed if it was added, the new one is only added if it was not added
+     * yet.
+     *
+     * @param oldSet
+     * @param newSet
+     */
+    public void replaceDataSet(IRadarDataSet oldSet, IRadarDataSet newSet) {
+        removeDataSet(oldSet);
+        addDataSet(newSet);
+    }
+
+    /**
+     * Removes all values from the envelope.
+     */
+    public void clear() {
+
+        for (QuantileSketch sketch : mSketches) {
+            sketch.clear();
+        }
+
+        mDataSets.clear();
+        mDataSetCount = 0;
+        onChanged();
+    }
+
+    private void onChanged() {
+        mDirty = true;
+        mVersion++;
+    }
+
+    /**
+     * Returns the version of the envelope, it changes whenever values, bands
+     * or the style of the envelope are modified.
+     *
+     * @return
+     */
+    public int getVersion() {
+        return mVersion;
+    }
+
+    private void ensureSpokes(int count) {
+
+        if (count <= mSketches.length)
+            return;
+
+        QuantileSketch[] sketches = new QuantileSketch[count];
+        System.arraycopy(mSketches, 0, sketches, 0, mSketches.length);
+
+        for (int i = mSketches.length; i < count; i++) {
+            sketches[i] = new QuantileSketch(mResolution);
+        }
+
+        mSketches = sketches;
+    }
+
+    /**
+     * Recomputes the band and median values if anything changed.
+     */
+    private void update() {
+
+        if (!mDirty && mBandLower.length == mBands.size())
+            return;
+
+        int spokes = mSketches.length;
+        int bands = mBands.size();
+
+        if (mBandLower.length != bands || (bands > 0 && mBandLower[0].length != spokes)) {
+            mBandLower = new float[bands][spokes];
+            mBandUpper = new float[bands][spokes];
+        }
+
+        if (mMedian.length != spokes)
+            mMedian = new float[spokes];
+
+        for (int j = 0; j < spokes; j++) {
+
+            QuantileSketch sketch = mSketches[j];
+
+            for (int b = 0; b < bands; b++) {
+                Band band = mBands.get(b);
+                mBandLower[b][j] = sketch.getQuantile(band.getLowerPercentile() / 100f);
+                mBandUpper[b][j] = sketch.getQuantile(band.getUpperPercentile() / 100f);
+            }
+
+            mMedian[j] = sketch.getQuantile(0.5f);
+        }
+
+        mDirty = false;
+    }
+
+    /**
+     * Returns the number of spokes the envelope covers.
+     *
+     * @return
+     */
+    public int getSpokeCount() {
+        return mSketches.length;
+    }
+
+    /**
+     * Returns the number of DataSets the envelope represents.
+     *
+     * @return
+     */
+    public int getDataSetCount() {
+        return mDataSetCount;
+    }
+
+    /**
+     * Returns the number of values of the given spoke, 0 if no DataSet has a
+     * value for it. The quantiles of such a spoke are NaN.
+     *
+     * @param spoke
+     * @return
+     */
+    public int getValueCount(int spoke) {
+        return mSketches[spoke].getCount();
+    }
+
+    /**
+     * Returns the minimum value of the given spoke.
+     *
+     * @param spoke
+     * @return
+     */
+    public float getMin(int spoke) {
+        return mSketches[spoke].getMin();
+    }
+
+    /**
+     * Returns the maximum value of the given spoke.
+     *
+     * @param spoke
+     * @return
+     */
+    public float getMax(int spoke) {
+        return mSketches[spoke].getMax();
+    }
+
+    /**
+     * Returns the estimated value at the given percentile (0 - 100) of the
+     * given spoke.
+     *
+     * @param spoke
+     * @param percentile
+     * @return
+     */
+    public float getPercentile(int spoke, float percentile) {
+        return mSketches[spoke].getQuantile(percentile / 100f);
+    }
+
+    /**
+     * Returns the median per spoke. Do not modify the returned array.
+     *
+     * @return
+     */
+    public float[] getMedian() {
+        update();
+        return mMedian;
+    }
+
+    /**
+     * Returns the lower values of the band at the given index per spoke. Do not
+     * modify the returned array.
+     *
+     * @param band
+     * @return
+     */
+    public float[] getBandLower(int band) {
+        update();
+        return mBandLower[band];
+    }
+
+    /**
+     * Returns the upper values of the band at the given index per spoke. Do not
+     * modify the returned array.
+     *
+     * @param band
+     * @return
+     */
+    public float[] getBandUpper(int band) {
+        update();
+        return mBandUpper[band];
+    }
+
+    /**
+     * Returns the smallest value across all spokes.
+     *
+     * @return
+     */
+    public float getYMin() {
+
+        float min = Float.MAX_VALUE;
+
+        for (QuantileSketch sketch : mSketches) {
+            if (sketch.getCount() > 0 && sketch.getMin() < min)
+                min = sketch.getMin();
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the largest value across all spokes.
+     *
+     * @return
+     */
+    public float getYMax() {
+
+        float max = -Float.MAX_VALUE;
+
+        for (QuantileSketch sketch : mSketches) {
+            if (sketch.getCount() > 0 && sketch.getMax() > max)
+                max = sketch.getMax();
+        }
+
+        return max;
+    }
+
+    /**
+     * Returns the bands of the envelope, outermost first.
+     *
+     * @return
+     */
+    public List<Band> getBands() {
+        return mBands;
+    }
+
+    /**
+     * Adds a band to the envelope. Bands are drawn in the order they are added,
+     * so add wide bands first.
+     *
+     * @param band
+     */
+    public void addBand(Band band) {
+        mBands.add(band);
+        onChanged();
+    }
+
+    /**
+     * Removes all bands of the envelope.
+     */
+    public void clearBands() {
+        mBands.clear();
+        onChanged();
+    }
+
+    /**
+     * Set this to true to draw the median per spoke as a line, default: true
+     *
+     * @param enabled
+     */
+    public void setDrawMedian(boolean enabled) {
+        mDrawMedian = enabled;
+        mVersion++;
+    }
+
+    public boolean isDrawMedianEnabled() {
+        return mDrawMedian;
+    }
+
+    /**
+     * Sets the color of the median line.
+     *
+     * @param color
+     */
+    public void setMedianColor(int color) {
+        mMedianColor = color;
+        mVersion++;
+    }
+
+    public int getMedianColor() {
+        return mMedianColor;
+    }
+
+    /**
+     * Sets the width of the median line in pixels.
+     *
+     * @param width
+     */
+    public void setMedianLineWidth(float width) {
+        mMedianLineWidth = width;
+        mVersion++;
+    }
+
+    public float getMedianLineWidth() {
+        return mMedianLineWidth;
+    }
+}
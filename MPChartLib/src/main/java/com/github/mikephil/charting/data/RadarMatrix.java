@@ -0,0 +1,493 @@
+package com.github.mikephil.charting.data;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primitive backing store for radar data where all DataSets share the same
+ * spokes: one row per DataSet, one column per spoke, stored row by row in a
+ * single contiguous float array. Rows can be exposed as lightweight
+ * IRadarDataSet views (see getRow(...) and toRadarData()), so the chart can
+ * draw the matrix without creating an Entry object per value.
+ */
+public class RadarMatrix {
+
+    /**
+     * the values of all rows, row by row
+     */
+    private final float[] mValues;
+
+    /**
+     * index of the first value in the backing array
+     */
+    private final int mBase;
+
+    /**
+     * the number of rows (DataSets)
+     */
+    private final int mRowCount;
+
+    /**
+     * the number of values per row (spokes)
+     */
+    private final int mSpokeCount;
+
+    /**
+     * min / max per row, per spoke and over all values
+     */
+    private final float[] mRowMin;
+    private final float[] mRowMax;
+    private final float[] mSpokeMin;
+    private final float[] mSpokeMax;
+    private float mYMin = Float.MAX_VALUE;
+    private float mYMax = -Float.MAX_VALUE;
+
+    /**
+     * flag that indicates that min / max need to be recalculated
+     */
+    private volatile boolean mMinMaxDirty = true;
+
+    /**
+     * lazily created row views
+     */
+    private Row[] mRows;
+
+    /**
+     * Creates an empty matrix with the given dimensions.
+     *
+     * @param rowCount
+     * @param spokeCount
+     */
+    public RadarMatrix(int rowCount, int spokeCount) {
+        this(new float[rowCount * spokeCount], rowCount, spokeCount);
+    }
+
+    /**
+     * Creates a matrix backed by the given array, the array is not copied.
+     *
+     * @param values     the values, row by row
+     * @param rowCount
+     * @param spokeCount
+     */
+    public RadarMatrix(float[] values, int rowCount, int spokeCount) {
+        this(values, 0, rowCount, spokeCount);
+    }
+
+    /**
+     * Creates a matrix backed by the given array starting at the given offset,
+     * the array is not copied.
+     *
+     * @param values     the values, row by row
+     * @param offset     index of the first value in the array
+     * @param rowCount
+     * @param spokeCount
+     */
+    public RadarMatrix(float[] values, int offset, int rowCount, int spokeCount) {
+
+        if (rowCount < 0 || spokeCount < 0 || offset < 0
+                || values.length - offset < rowCount * spokeCount)
+            throw new IllegalArgumentException("Matrix of " + rowCount + " x " + spokeCount
+                    + " does not fit into an array of length " + values.length
+                    + " at offset " + offset + ".");
+
+        mValues = values;
+        mBase = offset;
+        mRowCount = rowCount;
+        mSpokeCount = spokeCount;
+
+        mRowMin = new float[rowCount];
+        mRowMax = new float[rowCount];
+        mSpokeMin = new float[spokeCount];
+        mSpokeMax = new float[spokeCount];
+    }
+
+    /**
+     * Creates a matrix backed by the given arrays whose min / max have already
+     * been calculated, e.g. while parsing the values. The arrays are not copied.
+     */
+    RadarMatrix(float[] values, int rowCount, int spokeCount,
+                float[] rowMin, float[] rowMax, float[] spokeMin, float[] spokeMax,
+                float yMin, float yMax) {
+
+        if (rowCount < 0 || spokeCount < 0 || values.length < rowCount * spokeCount
+                || rowMin.length < rowCount || rowMax.length < rowCount
+                || spokeMin.length < spokeCount || spokeMax.length < spokeCount)
+            throw new IllegalArgumentException("Matrix of " + rowCount + " x " + spokeCount
+                    + " does not fit into the given arrays.");
+
+        mValues = values;
+        mBase = 0;
+        mRowCount = rowCount;
+        mSpokeCount = spokeCount;
+
+        mRowMin = rowMin;
+        mRowMax = rowMax;
+        mSpokeMin = spokeMin;
+        mSpokeMax = spokeMax;
+        mYMin = yMin;
+        mYMax = yMax;
+        mMinMaxDirty = false;
+    }
+
+    /**
+     * Copies the y-values of all DataSets of the given data object into a new
+     * matrix. The spoke count is the entry count of the largest DataSet,
+     * missing values of smaller DataSets are 0.
+     *
+     * @param data
+     * @return
+     */
+    public static RadarMatrix fromData(RadarData data) {
+
+        IRadarDataSet max = data.getMaxEntryCountSet();
+
+        int rows = data.getDataSetCount();
+        int spokes = max == null ? 0 : max.getEntryCount();
+
+        RadarMatrix matrix = new RadarMatrix(rows, spokes);
+
+        for (int i = 0; i < rows; i++) {
+            matrix.setRow(i, data.getDataSetByIndex(i));
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Creates a matrix from the given rows. A single row is wrapped without
+     * copying, multiple rows are copied into one contiguous array. The spoke
+     * count is the length of the longest row, missing values are 0.
+     *
+     * @param rows
+     * @return
+     */
+    public static RadarMatrix fromArrays(float[][] rows) {
+
+        if (rows.length == 1)
+            return new RadarMatrix(rows[0], 1, rows[0].length);
+
+        int spokes = 0;
+
+        for (float[] row : rows) {
+            spokes = Math.max(spokes, row.length);
+        }
+
+        float[] values = new float[rows.length * spokes];
+
+        for (int i = 0; i < rows.length; i++) {
+            System.arraycopy(rows[i], 0, values, i * spokes, rows[i].length);
+        }
+
+        return new RadarMatrix(values, rows.length, spokes);
+    }
+
+    /**
+     * Creates a matrix from the remaining values of the given buffer, row by
+     * row. Buffers backed by an accessible array (e.g. FloatBuffer.wrap(...))
+     * are used without copying, direct buffers are copied. The position of
+     * the buffer is not changed.
+     *
+     * @param buffer
+     * @param rowCount
+     * @param spokeCount
+     * @return
+     */
+    public static RadarMatrix fromBuffer(FloatBuffer buffer, int rowCount, int spokeCount) {
+
+        if (buffer.hasArray())
+            return new RadarMatrix(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                    rowCount, spokeCount);
+
+        float[] values = new float[rowCount * spokeCount];
+        buffer.duplicate().get(values);
+
+        return new RadarMatrix(values, rowCount, spokeCount);
+    }
+
+    /**
+     * Copies the y-values of the given DataSet into the row at the given index.
+     *
+     * @param row
+     * @param set
+     */
+    public void setRow(int row, IRadarDataSet set) {
+
+        int offset = getRowOffset(row);
+        int count = Math.min(set.getEntryCount(), mSpokeCount);
+
+        for (int j = 0; j < count; j++) {
+            mValues[offset + j] = set.getYForIndex(j);
+        }
+
+        for (int j = count; j < mSpokeCount; j++) {
+            mValues[offset + j] = 0f;
+        }
+
+        mMinMaxDirty = true;
+    }
+
+    public float get(int row, int spoke) {
+        return mValues[mBase + row * mSpokeCount + spoke];
+    }
+
+    public void set(int row, int spoke, float value) {
+        mValues[mBase + row * mSpokeCount + spoke] = value;
+        mMinMaxDirty = true;
+    }
+
+    /**
+     * Call this after modifying the backing array directly, so that min / max
+     * are recalculated.
+     */
+    public void notifyDataChanged() {
+        mMinMaxDirty = true;
+    }
+
+    /**
+     * Calculates min / max per row, per spoke and over all values in a single
+     * pass over the backing array. Rows may be read from several threads, the
+     * values are only published once they are complete.
+     */
+    private void calcMinMax() {
+
+        if (!mMinMaxDirty)
+            return;
+
+        synchronized (this) {
+
+            if (mMinMaxDirty) {
+                calcMinMaxLocked();
+                mMinMaxDirty = false;
+            }
+        }
+    }
+
+    private void calcMinMaxLocked() {
+
+        float yMin = Float.MAX_VALUE;
+        float yMax = -Float.MAX_VALUE;
+
+        float[] spokeMin = mSpokeMin;
+        float[] spokeMax = mSpokeMax;
+
+        for (int j = 0; j < mSpokeCount; j++) {
+            spokeMin[j] = Float.MAX_VALUE;
+            spokeMax[j] = -Float.MAX_VALUE;
+        }
+
+        float[] values = mValues;
+        int offset = mBase;
+
+        for (int i = 0; i < mRowCount; i++) {
+
+            float rowMin = Float.MAX_VALUE;
+            float rowMax = -Float.MAX_VALUE;
+
+            for (int j = 0; j < mSpokeCount; j++) {
+
+                float v = values[offset + j];
+
+                if (v < rowMin)
+                    rowMin = v;
+                if (v > rowMax)
+                    rowMax = v;
+
+                if (v < spokeMin[j])
+                    spokeMin[j] = v;
+                if (v > spokeMax[j])
+                    spokeMax[j] = v;
+            }
+
+            mRowMin[i] = rowMin;
+            mRowMax[i] = rowMax;
+
+            if (rowMin < yMin)
+                yMin = rowMin;
+            if (rowMax > yMax)
+                yMax = rowMax;
+
+            offset += mSpokeCount;
+        }
+
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
+    /**
+     * Returns the smallest value of the matrix.
+     *
+     * @return
+     */
+    public float getYMin() {
+        calcMinMax();
+        return mYMin;
+    }
+
+    /**
+     * Returns the largest value of the matrix.
+     *
+     * @return
+     */
+    public float getYMax() {
+        calcMinMax();
+        return mYMax;
+    }
+
+    public float getRowMin(int row) {
+        calcMinMax();
+        return mRowMin[row];
+    }
+
+    public float getRowMax(int row) {
+        calcMinMax();
+        return mRowMax[row];
+    }
+
+    public float getSpokeMin(int spoke) {
+        calcMinMax();
+        return mSpokeMin[spoke];
+    }
+
+    public float getSpokeMax(int spoke) {
+        calcMinMax();
+        return mSpokeMax[spoke];
+    }
+
+    /**
+     * Returns the index of the first value of the given row in the backing array.
+     *
+     * @param row
+     * @return
+     */
+    public int getRowOffset(int row) {
+        return mBase + row * mSpokeCount;
+    }
+
+    /**
+     * Returns the backing array, row by row starting at getRowOffset(0).
+     * Modifications write through, call notifyDataChanged() afterwards.
+     *
+     * @return
+     */
+    public float[] getValues() {
+        return mValues;
+    }
+
+    public int getRowCount() {
+        return mRowCount;
+    }
+
+    public int getSpokeCount() {
+        return mSpokeCount;
+    }
+
+    /**
+     * Returns the DataSet view of the row at the given index. Views are created
+     * once and reflect later changes of the matrix.
+     *
+     * @param row
+     * @return
+     */
+    public Row getRow(int row) {
+
+        if (mRows == null)
+            mRows = new Row[mRowCount];
+
+        if (mRows[row] == null)
+            mRows[row] = new Row(row, "DataSet " + (row + 1));
+
+        return mRows[row];
+    }
+
+    /**
+     * Creates a data object that holds the views of all rows.
+     *
+     * @return
+     */
+    public RadarData toRadarData() {
+
+        List<IRadarDataSet> sets = new ArrayList<>(mRowCount);
+
+        for (int i = 0; i < mRowCount; i++) {
+            sets.add(getRow(i));
+        }
+
+        return new RadarData(sets);
+    }
+
+    /**
+     * A single row of the matrix exposed as DataSet. The values are read from
+     * the matrix, getEntryForIndex(...) returns a reused Entry object that is
+     * only valid until the next call on the same thread.
+     */
+    public class Row extends BaseRadarDataSet {
+
+        private final int mRow;
+
+        private Row(int row, String label) {
+            super(label);
+            mRow = row;
+        }
+
+        /**
+         * Returns the index of the row in the matrix.
+         *
+         * @return
+         */
+        public int getRowIndex() {
+            return mRow;
+        }
+
+        /**
+         * Returns the matrix this row belongs to.
+         *
+         * @return
+         */
+        RadarMatrix getMatrix() {
+            return RadarMatrix.this;
+        }
+
+        @Override
+        public float getYMin() {
+            return getRowMin(mRow);
+        }
+
+        @Override
+        public float getYMax() {
+            return getRowMax(mRow);
+        }
+
+        @Override
+        public float getXMin() {
+            return 0f;
+        }
+
+        @Override
+        public float getXMax() {
+            return 0f;
+        }
+
+        @Override
+        public int getEntryCount() {
+            return mSpokeCount;
+        }
+
+        @Override
+        public void calcMinMax() {
+            notifyDataChanged();
+        }
+
+        @Override
+        public RadarEntry getEntryForIndex(int index) {
+            RadarEntry entry = RadarEntry.getReusable();
+            entry.setY(getYForIndex(index));
+            return entry;
+        }
+
+        @Override
+        public float getYForIndex(int index) {
+            return mValues[mBase + mRow * mSpokeCount + index];
+        }
+    }
+}
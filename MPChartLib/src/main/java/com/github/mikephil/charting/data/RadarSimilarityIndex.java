@@ -0,0 +1,641 @@
+package com.github.mikephil.charting.data;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Nearest-neighbour index over radar profiles, used for finding the profiles
+ * most similar to a given one. Each profile is normalized per spoke (so that
+ * spokes with large units do not dominate) and stored in a vantage-point tree,
+ * which answers k-nearest queries by euclidean distance without scanning all
+ * profiles. Profiles are identified by their row index, which is the DataSet
+ * index for indices built from a RadarData object. Profiles can be inserted
+ * and removed incrementally, the tree is rebuilt as part of these calls once
+ * enough changes have accumulated. Profiles and queries with fewer values
+ * than spokes are padded with 0 for the missing spokes.
+ * <p/>
+ * Not thread safe, not even for concurrent queries: all queries share a
+ * query buffer and a result heap.
+ */
+public class RadarSimilarityIndex {
+
+    /**
+     * maximum number of profiles in a leaf of the tree
+     */
+    private static final int LEAF_SIZE = 16;
+
+    /**
+     * minimum number of pending inserts before the tree is rebuilt
+     */
+    private static final int MIN_PENDING = 64;
+
+    private final int mSpokeCount;
+
+    /**
+     * per-spoke normalization: normalized = (value - offset) * scale
+     */
+    private final float[] mScale;
+    private final float[] mOffset;
+
+    /**
+     * normalized vectors of all profiles, id by id
+     */
+    private float[] mVectors;
+
+    /**
+     * the number of ids that have been handed out
+     */
+    private int mSize = 0;
+
+    /**
+     * removed ids, they are never handed out again
+     */
+    private boolean[] mRemoved;
+    private int mRemovedCount = 0;
+
+    /**
+     * the number of ids removed since the tree was built, they are still in
+     * the tree and skipped by the queries
+     */
+    private int mRemovedSinceRebuild = 0;
+
+    /**
+     * the number of times the tree was built
+     */
+    private int mRebuildCount = 0;
+
+    /**
+     * ids that were inserted after the tree was built, searched linearly
+     */
+    private int[] mPending = new int[MIN_PENDING];
+    private int mPendingCount = 0;
+
+    /**
+     * ids in the order of the tree, leaves reference ranges of this array
+     */
+    private int[] mItems = new int[0];
+
+    /**
+     * tree nodes: vantage id (-1 for leaves), radius, children and leaf ranges
+     */
+    private int[] mNodeVantage = new int[0];
+    private float[] mNodeRadius = new float[0];
+    private int[] mNodeInside = new int[0];
+    private int[] mNodeOutside = new int[0];
+    private int[] mNodeStart = new int[0];
+    private int[] mNodeCount = new int[0];
+    private int mNodeSize = 0;
+
+    private final Random mRandom = new Random(42L);
+
+    /**
+     * buffers used while building and querying
+     */
+    private float[] mBuildDistances = new float[0];
+    private final float[] mQueryBuffer;
+    private int[] mHeapIds = new int[0];
+    private float[] mHeapDistances = new float[0];
+    private int mHeapSize;
+    private int mHeapCapacity;
+
+    /**
+     * Creates an empty index. The normalization is derived from the given
+     * per-spoke value ranges.
+     *
+     * @param spokeCount
+     * @param spokeMin   the minimum value per spoke
+     * @param spokeMax   the maximum value per spoke
+     */
+    public RadarSimilarityIndex(int spokeCount, float[] spokeMin, float[] spokeMax) {
+
+        mSpokeCount = spokeCount;
+        mScale = new float[spokeCount];
+        mOffset = new float[spokeCount];
+        mQueryBuffer = new float[spokeCount];
+        mVectors = new float[Math.max(1, spokeCount) * MIN_PENDING];
+        mRemoved = new boolean[MIN_PENDING];
+
+        for (int j = 0; j < spokeCount; j++) {
+            float range = spokeMax[j] - spokeMin[j];
+            mOffset[j] = spokeMin[j];
+            mScale[j] = range > 0f ? 1f / range : 1f;
+        }
+    }
+
+    /**
+     * Builds an index over all DataSets of the given data object, the id of
+     * each profile is the index of its DataSet.
+     *
+     * @param data
+     * @return
+     */
+    public static RadarSimilarityIndex fromData(RadarData data) {
+        return fromMatrix(RadarMatrix.fromData(data));
+    }
+
+    /**
+     * Builds an index over all rows of the given matrix, the id of each
+     * profile is its row index.
+     *
+     * @param matrix
+     * @return
+     */
+    public static RadarSimilarityIndex fromMatrix(RadarMatrix matrix) {
+
+        int spokes = matrix.getSpokeCount();
+        int rows = matrix.getRowCount();
+        float[] values = matrix.getValues();
+
+        float[] min = new float[spokes];
+        float[] max = new float[spokes];
+        Arrays.fill(min, Float.MAX_VALUE);
+        Arrays.fill(max, -Float.MAX_VALUE);
+
+        for (int i = 0; i < rows; i++) {
+
+            int offset = matrix.getRowOffset(i);
+
+            for (int j = 0; j < spokes; j++) {
+                float v = values[offset + j];
+                if (v < min[j])
+                    min[j] = v;
+                if (v > max[j])
+                    max[j] = v;
+            }
+        }
+
+        RadarSimilarityIndex index = new RadarSimilarityIndex(spokes, min, max);
+        index.ensureCapacity(rows);
+
+        for (int i = 0; i < rows; i++) {
+            index.store(values, matrix.getRowOffset(i));
+        }
+
+        index.rebuild();
+        return index;
+    }
+
+    /**
+     * Inserts the given profile and returns its id.
+     *
+     * @param values the value per spoke, missing spokes are treated as 0
+     * @return
+     */
+    public int insert(float[] values) {
+
+        ensureCapacity(mSize + 1);
+
+        int id = mSize;
+        store(values, 0);
+
+        if (mPendingCount == mPending.length)
+            mPending = Arrays.copyOf(mPending, mPending.length * 2);
+
+        mPending[mPendingCount++] = id;
+
+        if (mPendingCount > Math.max(MIN_PENDING, mSize / 8))
+            rebuild();
+
+        return id;
+    }
+
+    /**
+     * Inserts the y-values of the given DataSet and returns its id.
+     *
+     * @param set
+     * @return
+     */
+    public int insert(IRadarDataSet set) {
+
+        float[] values = new float[mSpokeCount];
+        int count = Math.min(set.getEntryCount(), mSpokeCount);
+
+        for (int j = 0; j < count; j++) {
+            values[j] = set.getYForIndex(j);
+        }
+
+        return insert(values);
+    }
+
+    /**
+     * Removes the profile with the given id from the index.
+     *
+     * @param id
+     */
+    public void remove(int id) {
+
+        if (id < 0 || id >= mSize || mRemoved[id])
+            return;
+
+        mRemoved[id] = true;
+        mRemovedCount++;
+        mRemovedSinceRebuild++;
+
+        // rebuilding after a quarter of the profiles in the tree were removed
+        // keeps the cost of a remove amortized logarithmic
+        if (mRemovedSinceRebuild > size() / 4)
+            rebuild();
+    }
+
+    /**
+     * Returns the number of profiles in the index.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize - mRemovedCount;
+    }
+
+    /**
+     * Returns the number of times the tree was built, for tests.
+     *
+     * @return
+     */
+    int getRebuildCount() {
+        return mRebuildCount;
+    }
+
+    /**
+     * Finds the k profiles most similar to the given values.
+     *
+     * @param values       the value per spoke
+     * @param k            the number of profiles to find
+     * @param outIds       receives the ids, most similar first
+     * @param outDistances receives the normalized distances, may be null
+     * @return the number of profiles found
+     */
+    public int query(float[] values, int k, int[] outIds, float[] outDistances) {
+        normalize(values, 0, mQueryBuffer, 0);
+        return search(mQueryBuffer, k, -1, outIds, outDistances);
+    }
+
+    /**
+     * Finds the k profiles most similar to the profile with the given id,
+     * excluding the profile itself.
+     *
+     * @param id
+     * @param k
+     * @param outIds       receives the ids, most similar first
+     * @param outDistances receives the normalized distances, may be null
+     * @return the number of profiles found
+     */
+    public int queryNeighbors(int id, int k, int[] outIds, float[] outDistances) {
+        System.arraycopy(mVectors, id * mSpokeCount, mQueryBuffer, 0, mSpokeCount);
+        return search(mQueryBuffer, k, id, outIds, outDistances);
+    }
+
+    /**
+     * Finds the k most similar profiles by scanning all profiles. Returns the
+     * same result as query(...), useful as a reference and baseline.
+     *
+     * @param values
+     * @param k
+     * @param outIds
+     * @param outDistances
+     * @return
+     */
+    public int linearScan(float[] values, int k, int[] outIds, float[] outDistances) {
+
+        normalize(values, 0, mQueryBuffer, 0);
+        resetHeap(k);
+
+        for (int id = 0; id < mSize; id++) {
+            if (!mRemoved[id])
+                offer(id, distance(mQueryBuffer, id));
+        }
+
+        return drainHeap(outIds, outDistances);
+    }
+
+    private int search(float[] query, int k, int excludeId, int[] outIds, float[] outDistances) {
+
+        resetHeap(k);
+
+        if (k <= 0)
+            return 0;
+
+        if (mNodeSize > 0)
+            searchNode(0, query, excludeId);
+
+        for (int i = 0; i < mPendingCount; i++) {
+            int id = mPending[i];
+            if (id != excludeId && !mRemoved[id])
+                offer(id, distance(query, id));
+        }
+
+        return drainHeap(outIds, outDistances);
+    }
+
+    private void searchNode(int node, float[] query, int excludeId) {
+
+        int vantage = mNodeVantage[node];
+
+        if (vantage < 0) {
+
+            int start = mNodeStart[node];
+            int end = start + mNodeCount[node];
+
+            for (int i = start; i < end; i++) {
+                int id = mItems[i];
+                if (id != excludeId && !mRemoved[id])
+                    offer(id, distance(query, id));
+            }
+            return;
+        }
+
+        float d = distance(query, vantage);
+
+        if (vantage != excludeId && !mRemoved[vantage])
+            offer(vantage, d);
+
+        float radius = mNodeRadius[node];
+        int inside = mNodeInside[node];
+        int outside = mNodeOutside[node];
+
+        // search the more promising side first, the other one only if it can
+        // still contain something closer than the current k-th distance
+        if (d < radius) {
+
+            if (inside >= 0)
+                searchNode(inside, query, excludeId);
+            if (outside >= 0 && d + currentBound() >= radius)
+                searchNode(outside, query, excludeId);
+        } else {
+
+            if (outside >= 0)
+                searchNode(outside, query, excludeId);
+            if (inside >= 0 && d - currentBound() <= radius)
+                searchNode(inside, query, excludeId);
+        }
+    }
+
+    /**
+     * Rebuilds the tree from all profiles that are not removed.
+     */
+    public void rebuild() {
+
+        int count = mSize - mRemovedCount;
+
+        if (mItems.length < count)
+            mItems = new int[count];
+
+        int n = 0;
+        for (int id = 0; id < mSize; id++) {
+            if (!mRemoved[id])
+                mItems[n++] = id;
+        }
+
+        if (mBuildDistances.length < count)
+            mBuildDistances = new float[count];
+
+        // splitting only happens above LEAF_SIZE, so every leaf holds at least
+        // LEAF_SIZE / 2 items and there are at most twice as many nodes as leaves
+        int maxNodes = 2 * (count / (LEAF_SIZE / 2) + 1);
+
+        if (mNodeVantage.length < maxNodes) {
+            mNodeVantage = new int[maxNodes];
+            mNodeRadius = new float[maxNodes];
+            mNodeInside = new int[maxNodes];
+            mNodeOutside = new int[maxNodes];
+            mNodeStart = new int[maxNodes];
+            mNodeCount = new int[maxNodes];
+        }
+
+        mNodeSize = 0;
+        mPendingCount = 0;
+        mRemovedSinceRebuild = 0;
+        mRebuildCount++;
+
+        if (count > 0)
+            buildNode(0, count);
+    }
+
+    private int buildNode(int start, int end) {
+
+        int node = mNodeSize++;
+        int count = end - start;
+
+        if (count <= LEAF_SIZE) {
+            mNodeVantage[node] = -1;
+            mNodeStart[node] = start;
+            mNodeCount[node] = count;
+            return node;
+        }
+
+        // move a random vantage point to the front
+        swap(start, start + mRandom.nextInt(count));
+
+        int vantage = mItems[start];
+
+        for (int i = start + 1; i < end; i++) {
+            mBuildDistances[i] = distance(mVectors, vantage * mSpokeCount, mItems[i]);
+        }
+
+        // split the remaining items at the median distance
+        int median = (start + 1 + end) / 2;
+        select(start + 1, end - 1, median);
+
+        mNodeVantage[node] = vantage;
+        mNodeRadius[node] = mBuildDistances[median];
+        mNodeStart[node] = start;
+        mNodeCount[node] = count;
+
+        mNodeInside[node] = median > start + 1 ? buildNode(start + 1, median) : -1;
+        mNodeOutside[node] = end > median ? buildNode(median, end) : -1;
+
+        return node;
+    }
+
+    /**
+     * Partially sorts the items between left and right (inclusive) by their
+     * build distance so that the item at index n is in its sorted position.
+     */
+    private void select(int left, int right, int n) {
+
+        while (right > left) {
+
+            float pivot = mBuildDistances[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+
+            while (i <= j) {
+
+                while (mBuildDistances[i] < pivot)
+                    i++;
+                while (mBuildDistances[j] > pivot)
+                    j--;
+
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            if (n <= j)
+                right = j;
+            else if (n >= i)
+                left = i;
+            else
+                return;
+        }
+    }
+
+    private void swap(int a, int b) {
+
+        int id = mItems[a];
+        mItems[a] = mItems[b];
+        mItems[b] = id;
+
+        float d = mBuildDistances[a];
+        mBuildDistances[a] = mBuildDistances[b];
+        mBuildDistances[b] = d;
+    }
+
+    private void store(float[] values, int offset) {
+
+        int id = mSize++;
+
+        normalize(values, offset, mVectors, id * mSpokeCount);
+    }
+
+    /**
+     * Normalizes the values of all spokes into the given output, spokes
+     * without a value are treated as 0, so that nothing of an earlier profile
+     * or query remains in a reused buffer.
+     */
+    private void normalize(float[] values, int offset, float[] out, int outOffset) {
+
+        int length = Math.max(0, Math.min(mSpokeCount, values.length - offset));
+
+        for (int j = 0; j < length; j++) {
+            out[outOffset + j] = (values[offset + j] - mOffset[j]) * mScale[j];
+        }
+
+        for (int j = length; j < mSpokeCount; j++) {
+            out[outOffset + j] = (0f - mOffset[j]) * mScale[j];
+        }
+    }
+
+    private void ensureCapacity(int size) {
+
+        if (mRemoved.length >= size)
+            return;
+
+        int capacity = Math.max(size, mRemoved.length * 2);
+        mRemoved = Arrays.copyOf(mRemoved, capacity);
+        mVectors = Arrays.copyOf(mVectors, capacity * mSpokeCount);
+    }
+
+    private float distance(float[] query, int id) {
+        return distance(query, 0, id);
+    }
+
+    private float distance(float[] a, int offset, int id) {
+
+        float sum = 0f;
+        int b = id * mSpokeCount;
+
+        for (int j = 0; j < mSpokeCount; j++) {
+            float d = a[offset + j] - mVectors[b + j];
+            sum += d * d;
+        }
+
+        return (float) Math.sqrt(sum);
+    }
+
+    /**
+     * ###### ###### BOUNDED MAX-HEAP OF THE CURRENT K NEAREST ###### ######
+     */
+
+    private void resetHeap(int k) {
+
+        if (mHeapIds.length < k) {
+            mHeapIds = new int[k];
+            mHeapDistances = new float[k];
+        }
+
+        mHeapCapacity = Math.max(0, k);
+        mHeapSize = 0;
+    }
+
+    private float currentBound() {
+        return mHeapSize < mHeapCapacity ? Float.MAX_VALUE : mHeapDistances[0];
+    }
+
+    private void offer(int id, float distance) {
+
+        if (mHeapSize < mHeapCapacity) {
+
+            // sift up
+            int i = mHeapSize++;
+
+            while (i > 0) {
+                int parent = (i - 1) >> 1;
+                if (mHeapDistances[parent] >= distance)
+                    break;
+                mHeapIds[i] = mHeapIds[parent];
+                mHeapDistances[i] = mHeapDistances[parent];
+                i = parent;
+            }
+
+            mHeapIds[i] = id;
+            mHeapDistances[i] = distance;
+
+        } else if (mHeapCapacity > 0 && distance < mHeapDistances[0]) {
+            siftDown(id, distance, mHeapSize);
+        }
+    }
+
+    private void siftDown(int id, float distance, int size) {
+
+        int i = 0;
+
+        while (true) {
+
+            int child = 2 * i + 1;
+            if (child >= size)
+                break;
+
+            if (child + 1 < size && mHeapDistances[child + 1] > mHeapDistances[child])
+                child++;
+
+            if (mHeapDistances[child] <= distance)
+                break;
+
+            mHeapIds[i] = mHeapIds[child];
+            mHeapDistances[i] = mHeapDistances[child];
+            i = child;
+        }
+
+        mHeapIds[i] = id;
+        mHeapDistances[i] = distance;
+    }
+
+    /**
+     * Writes the heap content into the output arrays, nearest first.
+     */
+    private int drainHeap(int[] outIds, float[] outDistances) {
+
+        int count = Math.min(mHeapSize, outIds.length);
+
+        // repeatedly move the farthest element behind the heap
+        for (int size = mHeapSize; size > 0; size--) {
+
+            int id = mHeapIds[0];
+            float distance = mHeapDistances[0];
+
+            siftDown(mHeapIds[size - 1], mHeapDistances[size - 1], size - 1);
+
+            int pos = size - 1;
+            if (pos < outIds.length) {
+                outIds[pos] = id;
+                if (outDistances != null && pos < outDistances.length)
+                    outDistances[pos] = distance;
+            }
+        }
+
+        mHeapSize = 0;
+        return count;
+    }
+}
@@ -31,7 +31,7 @@ public class DefaultValueFormatter extends ValueFormatter
      *
      * @param digits
      */
-    public void setup(int digits) {
+    public synchronized void setup(int digits) {
 
         StringBuilder b = new StringBuilder();
         for (int i = 0; i < digits; i++) {
@@ -43,8 +43,12 @@ public class DefaultValueFormatter extends ValueFormatter
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
     }
 
+    /**
+     * Synchronized, DecimalFormat is not thread safe and the formatter may be
+     * used by charts that are rendered on a background thread.
+     */
     @Override
-    public String getFormattedValue(float value) {
+    public synchronized String getFormattedValue(float value) {
 
         // put more logic here ...
         // avoid memory allocations here (for performance reasons)
@@ -0,0 +1,101 @@
+package com.github.mikephil.charting.highlight;
+
+/**
+ * Contains information needed to determine the highlighted value: the spoke,
+ * the DataSet, the value and the position it is drawn at.
+ */
+public class Highlight {
+
+    /**
+     * the index of the spoke (the index of the entry in the DataSet)
+     */
+    private final int mSpoke;
+
+    /**
+     * the index of the DataSet the highlighted value belongs to
+     */
+    private final int mDataSetIndex;
+
+    /**
+     * the highlighted value
+     */
+    private final float mY;
+
+    /**
+     * the position of the highlighted value in pixels
+     */
+    private final float mDrawX;
+    private final float mDrawY;
+
+    public Highlight(int spoke, int dataSetIndex, float y, float drawX, float drawY) {
+        mSpoke = spoke;
+        mDataSetIndex = dataSetIndex;
+        mY = y;
+        mDrawX = drawX;
+        mDrawY = drawY;
+    }
+
+    /**
+     * Returns the index of the highlighted spoke.
+     *
+     * @return
+     */
+    public int getSpoke() {
+        return mSpoke;
+    }
+
+    /**
+     * Returns the index of the DataSet the highlighted value belongs to.
+     *
+     * @return
+     */
+    public int getDataSetIndex() {
+        return mDataSetIndex;
+    }
+
+    /**
+     * Returns the highlighted value.
+     *
+     * @return
+     */
+    public float getY() {
+        return mY;
+    }
+
+    /**
+     * Returns the x-position in pixels the highlighted value is drawn at.
+     *
+     * @return
+     */
+    public float getDrawX() {
+        return mDrawX;
+    }
+
+    /**
+     * Returns the y-position in pixels the highlighted value is drawn at.
+     *
+     * @return
+     */
+    public float getDrawY() {
+        return mDrawY;
+    }
+
+    /**
+     * Returns true if this highlight refers to the same value as the given one.
+     *
+     * @param h
+     * @return
+     */
+    public boolean equalTo(Highlight h) {
+
+        if (h == null)
+            return false;
+
+        return mSpoke == h.mSpoke && mDataSetIndex == h.mDataSetIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "Highlight, spoke: " + mSpoke + ", dataSetIndex: " + mDataSetIndex + ", y: " + mY;
+    }
+}
@@ -0,0 +1,323 @@
+package com.github.mikephil.charting.highlight;
+
+import com.github.mikephil.charting.charts.RadarDataProvider;
+import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.utils.RadarTransformer;
+import com.github.mikephil.charting.utils.Utils;
+
+/**
+ * Resolves touch positions to highlighted values. The spoke is found in
+ * constant time from the angle of the touch, since all spokes are evenly
+ * spaced. The pixel positions of all vertices are projected once and cached
+ * together with the bounding box of every DataSet polygon, so resolving a
+ * touch only compares the cached vertices on a single spoke and tests polygon
+ * containment only for DataSets whose bounding box contains the touch. Call
+ * invalidate() whenever the data, the size or the ranges of the chart change.
+ */
+public class RadarHighlighter {
+
+    private final RadarDataProvider mChart;
+
+    /**
+     * projected vertices of all DataSets: x and y per spoke, mStride floats
+     * per DataSet
+     */
+    private float[] mVertices = new float[0];
+
+    /**
+     * bounding box of every DataSet polygon: left, top, right, bottom
+     */
+    private float[] mBounds = new float[0];
+
+    /**
+     * the number of vertices per DataSet, 0 if the DataSet is not visible
+     */
+    private int[] mCounts = new int[0];
+
+    private int mSetCount = 0;
+    private int mStride = 0;
+
+    /**
+     * flag that indicates that the vertices need to be projected again
+     */
+    private boolean mDirty = true;
+
+    /**
+     * the maximum distance in pixels between a touch and a vertex for the
+     * vertex to be highlighted
+     */
+    private float mMaxHighlightDistance;
+
+    public RadarHighlighter(RadarDataProvider chart) {
+        mChart = chart;
+        mMaxHighlightDistance = Utils.convertDpToPixel(24f);
+    }
+
+    /**
+     * Sets the maximum distance in dp between a touch and a vertex for the
+     * vertex to be highlighted. Touches further away highlight the polygon
+     * they are in, if any. Default: 24dp
+     *
+     * @param distance
+     */
+    public void setMaxHighlightDistance(float distance) {
+        mMaxHighlightDistance = Utils.convertDpToPixel(distance);
+    }
+
+    public float getMaxHighlightDistance() {
+        return mMaxHighlightDistance;
+    }
+
+    /**
+     * Marks the cached vertices as outdated, they are projected again on the
+     * next touch.
+     */
+    public void invalidate() {
+        mDirty = true;
+    }
+
+    /**
+     * Returns the highlight for the given touch position, or null if nothing
+     * is close enough.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public Highlight getHighlight(float x, float y) {
+
+        RadarData data = mChart.getData();
+
+        // the values of an envelope are not drawn, there is nothing to highlight
+        if (data == null || mChart.getEnvelope() != null)
+            return null;
+
+        prepare();
+
+        int spoke = getSpokeForPoint(x, y);
+
+        if (spoke < 0)
+            return null;
+
+        // the closest vertex on the spoke
+        int closest = -1;
+        float closestDist = Float.MAX_VALUE;
+
+        for (int i = 0; i < mSetCount; i++) {
+
+            if (spoke >= mCounts[i])
+                continue;
+
+            int index = i * mStride + spoke * 2;
+
+            float dx = mVertices[index] - x;
+            float dy = mVertices[index + 1] - y;
+
+            // NaN values are never the closest
+            float dist = dx * dx + dy * dy;
+
+            if (dist < closestDist) {
+                closestDist = dist;
+                closest = i;
+            }
+        }
+
+        if (closest < 0 || closestDist > mMaxHighlightDistance * mMaxHighlightDistance) {
+
+            // not close to a vertex, highlight the polygon the touch is in
+            closest = getDataSetIndexForPoint(x, y);
+
+            if (closest < 0 || spoke >= mCounts[closest]
+                    || Float.isNaN(mVertices[closest * mStride + spoke * 2]))
+                return null;
+        }
+
+        int index = closest * mStride + spoke * 2;
+
+        return new Highlight(spoke, closest,
+                data.getDataSetByIndex(closest).getYForIndex(spoke),
+                mVertices[index], mVertices[index + 1]);
+    }
+
+    /**
+     * Returns the index of the spoke closest to the given position, -1 if the
+     * chart has no spokes.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public int getSpokeForPoint(float x, float y) {
+
+        RadarTransformer trans = mChart.getTransformer();
+
+        int spokeCount = trans.getSpokeCount();
+
+        if (spokeCount == 0)
+            return -1;
+
+        // the spokes are evenly spaced, the angle directly yields the bucket
+        float angle = (float) Math.toDegrees(Math.atan2(y - trans.getCenterY(),
+                x - trans.getCenterX())) - mChart.getRotationAngle();
+
+        angle %= 360f;
+
+        if (angle < 0f)
+            angle += 360f;
+
+        return (int) (angle / mChart.getSliceAngle() + 0.5f) % spokeCount;
+    }
+
+    /**
+     * Returns the index of the topmost DataSet whose polygon contains the given
+     * position, -1 if none.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public int getDataSetIndexForPoint(float x, float y) {
+
+        if (mChart.getData() == null)
+            return -1;
+
+        prepare();
+
+        // DataSets are drawn in order, the last one is on top
+        for (int i = mSetCount - 1; i >= 0; i--) {
+
+            if (mCounts[i] < 3)
+                continue;
+
+            int b = i * 4;
+
+            if (x < mBounds[b] || y < mBounds[b + 1] || x > mBounds[b + 2] || y > mBounds[b + 3])
+                continue;
+
+            if (contains(i, x, y))
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Tests if the polygon of the given DataSet contains the given position
+     * (even-odd rule, vertices with NaN values are skipped like when drawing).
+     */
+    private boolean contains(int set, float x, float y) {
+
+        float[] v = mVertices;
+
+        int start = set * mStride;
+        int end = start + mCounts[set] * 2;
+
+        // find the last valid vertex, it closes the polygon
+        int prev = end - 2;
+
+        while (prev >= start && Float.isNaN(v[prev])) {
+            prev -= 2;
+        }
+
+        if (prev < start)
+            return false;
+
+        boolean inside = false;
+
+        float px = v[prev];
+        float py = v[prev + 1];
+
+        for (int i = start; i < end; i += 2) {
+
+            float cx = v[i];
+            float cy = v[i + 1];
+
+            if (Float.isNaN(cx))
+                continue;
+
+            if ((cy > y) != (py > y)
+                    && x < (px - cx) * (y - cy) / (py - cy) + cx)
+                inside = !inside;
+
+            px = cx;
+            py = cy;
+        }
+
+        return inside;
+    }
+
+    /**
+     * Projects all vertices and calculates the bounding boxes, if needed.
+     */
+    private void prepare() {
+
+        if (!mDirty)
+            return;
+
+        mDirty = false;
+
+        RadarData data = mChart.getData();
+        RadarTransformer trans = mChart.getTransformer();
+
+        int setCount = data.getDataSetCount();
+        int spokeCount = trans.getSpokeCount();
+
+        if (mCounts.length < setCount) {
+            mCounts = new int[setCount];
+            mBounds = new float[setCount * 4];
+        }
+
+        if (mVertices.length < setCount * spokeCount * 2)
+            mVertices = new float[setCount * spokeCount * 2];
+
+        mSetCount = setCount;
+        mStride = spokeCount * 2;
+
+        float[] scale = trans.getScale();
+        float[] offset = trans.getOffset();
+        float[] cos = trans.getCos();
+        float[] sin = trans.getSin();
+        float cx = trans.getCenterX();
+        float cy = trans.getCenterY();
+
+        for (int i = 0; i < setCount; i++) {
+
+            IRadarDataSet set = data.getDataSetByIndex(i);
+
+            int count = set.isVisible() ? Math.min(set.getEntryCount(), spokeCount) : 0;
+            mCounts[i] = count;
+
+            float left = Float.MAX_VALUE;
+            float top = Float.MAX_VALUE;
+            float right = -Float.MAX_VALUE;
+            float bottom = -Float.MAX_VALUE;
+
+            int index = i * mStride;
+
+            for (int j = 0; j < count; j++) {
+
+                float r = set.getYForIndex(j) * scale[j] + offset[j];
+                float x = cx + r * cos[j];
+                float y = cy + r * sin[j];
+
+                mVertices[index++] = x;
+                mVertices[index++] = y;
+
+                if (Float.isNaN(x))
+                    continue;
+
+                left = Math.min(left, x);
+                top = Math.min(top, y);
+                right = Math.max(right, x);
+                bottom = Math.max(bottom, y);
+            }
+
+            int b = i * 4;
+            mBounds[b] = left;
+            mBounds[b + 1] = top;
+            mBounds[b + 2] = right;
+            mBounds[b + 3] = bottom;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.highlight.Highlight;
+
+/**
+ * Listener for callbacks when selecting values inside the chart by
+ * touch-gesture.
+ */
+public interface OnChartValueSelectedListener {
+
+    /**
+     * Called when a value has been selected inside the chart.
+     *
+     * @param e The selected Entry, only valid during the callback for
+     *          DataSets that reuse their Entry objects
+     * @param h The corresponding highlight object that contains information
+     *          about the highlighted position such as dataSetIndex, ...
+     */
+    void onValueSelected(RadarEntry e, Highlight h);
+
+    /**
+     * Called when nothing has been selected or an "un-select" has been made.
+     */
+    void onNothingSelected();
+}
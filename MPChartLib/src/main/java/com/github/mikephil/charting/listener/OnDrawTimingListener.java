@@ -0,0 +1,19 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.utils.RenderTimings;
+
+/**
+ * Listener for the timings of the chart, called after every drawn frame
+ * while timings are enabled.
+ */
+public interface OnDrawTimingListener {
+
+    /**
+     * Called at the end of onDraw(...).
+     *
+     * @param timings the timings of the chart, the last run of every phase
+     *                and the rolling histograms. Only valid during the
+     *                callback, copy the values to keep them.
+     */
+    void onDrawFinished(RenderTimings timings);
+}
@@ -0,0 +1,21 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.utils.QualityGovernor.Quality;
+
+/**
+ * Listener for the rendering quality of the chart, called whenever the
+ * quality governor steps the quality down or up.
+ */
+public interface OnQualityChangeListener {
+
+    /**
+     * Called when the rendering quality changed, the next frame is drawn with
+     * the new quality.
+     *
+     * @param previous   the quality before the change
+     * @param quality    the new quality
+     * @param frameNanos the duration of the frame that caused the change, 0 if
+     *                   the quality was restored because the chart was idle
+     */
+    void onQualityChanged(Quality previous, Quality quality, long frameNanos);
+}
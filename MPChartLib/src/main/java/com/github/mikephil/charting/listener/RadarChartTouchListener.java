@@ -0,0 +1,324 @@
+package com.github.mikephil.charting.listener;
+
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewParent;
+
+import com.github.mikephil.charting.charts.RadarChart;
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.utils.FrameTicker;
+import com.github.mikephil.charting.utils.RadarTransformer;
+import com.github.mikephil.charting.utils.Utils;
+
+/**
+ * Handles the touch gestures of a RadarChart: taps and drags highlight
+ * values, or, if rotation is enabled, drags rotate the chart and continue as
+ * a decelerating fling after the finger is lifted. The fling is driven by
+ * a FrameTicker. The chart draws the rotation between
+ * beginRotation() and endRotation(), this class only turns gestures into
+ * angles.
+ */
+public class RadarChartTouchListener implements View.OnTouchListener {
+
+    private final RadarChart mChart;
+
+    /**
+     * position of the last ACTION_DOWN and whether the touch has moved since
+     */
+    private float mTouchDownX;
+    private float mTouchDownY;
+    private boolean mTouchMoved;
+
+    /**
+     * the minimum distance in pixels a touch has to move to start a drag
+     */
+    private final float mTouchSlop;
+
+    /**
+     * if true, the rotation continues with decreasing speed after a fling
+     */
+    private boolean mDragDecelerationEnabled = true;
+
+    /**
+     * deceleration coefficient of a fling, applied per 1/60 s
+     */
+    private float mDragDecelerationFrictionCoef = 0.9f;
+
+    /**
+     * true while the chart is rotated by a gesture or a fling
+     */
+    private boolean mRotating = false;
+
+    /**
+     * the angle between the touch point and the rotation angle at the start of
+     * the gesture
+     */
+    private float mTouchStartAngle;
+
+    /**
+     * angle and time of the last touch, used for the angular velocity
+     */
+    private float mLastTouchAngle;
+    private long mLastTouchTime;
+
+    /**
+     * angular velocity in degrees per second
+     */
+    private float mAngularVelocity;
+
+    /**
+     * time of the last fling frame in nanoseconds
+     */
+    private long mLastFrameTimeNanos;
+
+    /**
+     * advances the fling on every frame
+     */
+    private final FrameTicker mFlingTicker = new FrameTicker(new FrameTicker.Callback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            computeFling(frameTimeNanos);
+        }
+    });
+
+    public RadarChartTouchListener(RadarChart chart) {
+        mChart = chart;
+        mTouchSlop = Utils.convertDpToPixel(8f);
+    }
+
+    /**
+     * If set to true, the chart continues to rotate after a fling with
+     * decreasing speed.
+     *
+     * @param enabled
+     */
+    public void setDragDecelerationEnabled(boolean enabled) {
+        mDragDecelerationEnabled = enabled;
+    }
+
+    public boolean isDragDecelerationEnabled() {
+        return mDragDecelerationEnabled;
+    }
+
+    /**
+     * Deceleration friction coefficient in [0 ; 1[, see
+     * RadarChart.setDragDecelerationFrictionCoef(...).
+     *
+     * @param coef
+     */
+    public void setDragDecelerationFrictionCoef(float coef) {
+        mDragDecelerationFrictionCoef = coef;
+    }
+
+    public float getDragDecelerationFrictionCoef() {
+        return mDragDecelerationFrictionCoef;
+    }
+
+    /**
+     * Returns true while the chart is rotated by a gesture or a fling.
+     *
+     * @return
+     */
+    public boolean isRotating() {
+        return mRotating;
+    }
+
+    @Override
+    public boolean onTouch(View v, MotionEvent event) {
+
+        float x = event.getX();
+        float y = event.getY();
+
+        boolean rotateEnabled = mChart.isRotationEnabled();
+        boolean dragEnabled = mChart.isHighlightPerDragEnabled();
+
+        switch (event.getActionMasked()) {
+
+            case MotionEvent.ACTION_DOWN:
+
+                stopDeceleration();
+
+                mTouchDownX = x;
+                mTouchDownY = y;
+                mTouchMoved = false;
+
+                if (rotateEnabled) {
+
+                    mLastTouchAngle = getAngleForTouch(x, y);
+                    mLastTouchTime = event.getEventTime();
+                    mTouchStartAngle = mLastTouchAngle - mChart.getRawRotationAngle();
+                    mAngularVelocity = 0f;
+
+                } else if (dragEnabled) {
+                    mChart.highlightValue(mChart.getHighlightByTouchPoint(x, y), true);
+                }
+                break;
+
+            case MotionEvent.ACTION_MOVE:
+
+                if (!mTouchMoved) {
+
+                    mTouchMoved = Math.abs(x - mTouchDownX) > mTouchSlop
+                            || Math.abs(y - mTouchDownY) > mTouchSlop;
+
+                    if (mTouchMoved && rotateEnabled) {
+
+                        // continue from the current position without a jump
+                        mLastTouchAngle = getAngleForTouch(x, y);
+                        mLastTouchTime = event.getEventTime();
+                        mTouchStartAngle = mLastTouchAngle - mChart.getRawRotationAngle();
+
+                        beginRotation();
+                    }
+                }
+
+                if (!mTouchMoved)
+                    break;
+
+                if (mRotating) {
+
+                    float angle = getAngleForTouch(x, y);
+                    sampleVelocity(angle, event.getEventTime());
+
+                    mChart.rotateTo(angle - mTouchStartAngle);
+
+                } else if (dragEnabled) {
+                    mChart.highlightValue(mChart.getHighlightByTouchPoint(x, y), true);
+                }
+                break;
+
+            case MotionEvent.ACTION_UP:
+
+                if (mRotating) {
+
+                    if (mDragDecelerationEnabled && Math.abs(mAngularVelocity) > 1f) {
+                        mLastFrameTimeNanos = System.nanoTime();
+                        mFlingTicker.post();
+                    } else {
+                        endRotation();
+                    }
+
+                } else if (!mTouchMoved && mChart.isHighlightPerTapEnabled()
+                        && (rotateEnabled || !dragEnabled)) {
+
+                    Highlight h = mChart.getHighlightByTouchPoint(x, y);
+
+                    // tapping the highlighted value again removes the highlight
+                    if (h != null && h.equalTo(mChart.getHighlighted()))
+                        h = null;
+
+                    mChart.highlightValue(h, true);
+                }
+                break;
+
+            case MotionEvent.ACTION_CANCEL:
+
+                if (mRotating)
+                    endRotation();
+                break;
+
+            default:
+                break;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the angle of the given touch point around the center in degrees,
+     * in the same orientation as the rotation angle.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    private float getAngleForTouch(float x, float y) {
+
+        RadarTransformer trans = mChart.getTransformer();
+
+        return (float) Math.toDegrees(Math.atan2(y - trans.getCenterY(),
+                x - trans.getCenterX()));
+    }
+
+    /**
+     * Updates the angular velocity with the given touch angle.
+     */
+    private void sampleVelocity(float angle, long time) {
+
+        long dt = time - mLastTouchTime;
+
+        if (dt <= 0)
+            return;
+
+        // the shortest way between both angles
+        float delta = angle - mLastTouchAngle;
+
+        if (delta > 180f)
+            delta -= 360f;
+        else if (delta < -180f)
+            delta += 360f;
+
+        float velocity = delta / dt * 1000f;
+
+        // smooth out single jittery samples
+        mAngularVelocity = mAngularVelocity * 0.4f + velocity * 0.6f;
+
+        mLastTouchAngle = angle;
+        mLastTouchTime = time;
+    }
+
+    private void beginRotation() {
+
+        // the gesture belongs to the chart now, a scrolling parent must not
+        // take it over
+        ViewParent parent = mChart.getParent();
+
+        if (parent != null)
+            parent.requestDisallowInterceptTouchEvent(true);
+
+        mRotating = true;
+        mChart.beginRotation();
+    }
+
+    /**
+     * Advances the fling, called on every frame.
+     *
+     * @param frameTimeNanos
+     */
+    private void computeFling(long frameTimeNanos) {
+
+        if (!mRotating)
+            return;
+
+        float dt = Math.max(0L, frameTimeNanos - mLastFrameTimeNanos) / 1000000000f;
+        mLastFrameTimeNanos = frameTimeNanos;
+
+        mAngularVelocity *= (float) Math.pow(mDragDecelerationFrictionCoef, dt * 60f);
+
+        mChart.rotateTo(mChart.getRawRotationAngle() + mAngularVelocity * dt);
+
+        if (Math.abs(mAngularVelocity) >= 1f)
+            mFlingTicker.post();
+        else
+            endRotation();
+    }
+
+    private void endRotation() {
+
+        mFlingTicker.remove();
+
+        mRotating = false;
+        mAngularVelocity = 0f;
+
+        mChart.endRotation();
+    }
+
+    /**
+     * Stops a running fling or rotation gesture.
+     */
+    public void stopDeceleration() {
+
+        if (mRotating)
+            endRotation();
+    }
+}
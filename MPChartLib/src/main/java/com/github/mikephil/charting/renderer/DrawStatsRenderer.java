@@ -0,0 +1,113 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.utils.DrawStatsCanvas;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Renders the debug overlay of the draw statistics. Every frame is drawn
+ * through a DrawStatsCanvas returned by beginFrame(...), which forwards all
+ * operations to the real canvas and counts them, endFrame(...) then draws the
+ * counts in the top left corner of the chart.
+ */
+public class DrawStatsRenderer extends Renderer {
+
+    /**
+     * counts the operations of the current frame
+     */
+    private final DrawStatsCanvas mStats = new DrawStatsCanvas();
+
+    private final Paint mPaint;
+
+    /**
+     * reused for the lines of the overlay
+     */
+    private final StringBuilder mText = new StringBuilder();
+
+    public DrawStatsRenderer(ViewPortHandler viewPortHandler) {
+        super(viewPortHandler);
+
+        mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        mPaint.setTextSize(Utils.convertDpToPixel(10f));
+    }
+
+    /**
+     * Returns the statistics of the last frame.
+     *
+     * @return
+     */
+    public DrawStatsCanvas getDrawStats() {
+        return mStats;
+    }
+
+    /**
+     * Starts counting a frame, returns the canvas the frame has to be drawn on.
+     *
+     * @param canvas the canvas of the view
+     * @return
+     */
+    public Canvas beginFrame(Canvas canvas) {
+
+        mStats.reset();
+        mStats.setTarget(canvas);
+
+        return mStats;
+    }
+
+    /**
+     * Stops counting and draws the statistics of the frame on the given
+     * canvas.
+     *
+     * @param canvas the canvas of the view
+     */
+    public void endFrame(Canvas canvas) {
+
+        mStats.setTarget(null);
+
+        DrawStatsCanvas stats = mStats;
+        Paint paint = mPaint;
+        StringBuilder text = mText;
+
+        float lineHeight = paint.getFontSpacing();
+        float x = Utils.convertDpToPixel(4f);
+        float y = lineHeight;
+
+        int overdraw = Math.round(stats.getOverdraw() * 10f);
+
+        paint.setColor(Color.argb(160, 0, 0, 0));
+        canvas.drawRect(0f, 0f, mViewPortHandler.getChartWidth(), lineHeight * 3.4f, paint);
+        paint.setColor(Color.WHITE);
+
+        text.setLength(0);
+        text.append("draws ").append(stats.getDrawCount())
+                .append(", paint changes ").append(stats.getPaintChangeCount())
+                .append(", overdraw ").append(overdraw / 10).append('.').append(overdraw % 10).append('x');
+        canvas.drawText(text, 0, text.length(), x, y, paint);
+
+        y += lineHeight;
+
+        text.setLength(0);
+        text.append("lines ").append(stats.getCount(DrawStatsCanvas.Op.LINE)
+                + stats.getCount(DrawStatsCanvas.Op.LINES))
+                .append(" (").append(stats.getLineSegmentCount()).append(" segments)")
+                .append(", circles ").append(stats.getCount(DrawStatsCanvas.Op.CIRCLE))
+                .append(", paths ").append(stats.getCount(DrawStatsCanvas.Op.PATH))
+                .append(", text ").append(stats.getCount(DrawStatsCanvas.Op.TEXT))
+                .append(", bitmaps ").append(stats.getCount(DrawStatsCanvas.Op.BITMAP));
+        canvas.drawText(text, 0, text.length(), x, y, paint);
+
+        y += lineHeight;
+
+        text.setLength(0);
+        text.append("colors ").append(stats.getCount(DrawStatsCanvas.Op.COLOR))
+                .append(", clips ").append(stats.getCount(DrawStatsCanvas.Op.CLIP))
+                .append(", saves ").append(stats.getCount(DrawStatsCanvas.Op.SAVE)
+                + stats.getCount(DrawStatsCanvas.Op.SAVE_LAYER))
+                .append(", restores ").append(stats.getCount(DrawStatsCanvas.Op.RESTORE));
+        canvas.drawText(text, 0, text.length(), x, y, paint);
+    }
+}
@@ -12,6 +12,7 @@ import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.LegendEntry;
 import com.github.mikephil.charting.data.IRadarDataSet;
 import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarEnvelope;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.FSize;
 import com.github.mikephil.charting.utils.Utils;
@@ -79,18 +80,18 @@ public class LegendRenderer extends Renderer {
                 IRadarDataSet dataSet = data.getDataSetByIndex(i);
                 if (dataSet == null) continue;
 
-                List<Integer> clrs = dataSet.getColors();
+                int[] clrs = dataSet.getColors();
                 int entryCount = dataSet.getEntryCount();
 
                 // if we have a barchart with stacked bars
                 // all others
 
-                    for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+                    for (int j = 0; j < clrs.length && j < entryCount; j++) {
 
                         String label;
 
                         // if multiple colors are set for a DataSet, group them
-                        if (j < clrs.size() - 1 && j < entryCount - 1) {
+                        if (j < clrs.length - 1 && j < entryCount - 1) {
                             label = null;
                         } else { // add label to the last entry
                             label = data.getDataSetByIndex(i).getLabel();
@@ -102,7 +103,7 @@ public class LegendRenderer extends Renderer {
                                 dataSet.getFormSize(),
                                 dataSet.getFormLineWidth(),
                                 dataSet.getFormLineDashEffect(),
-                                clrs.get(j),
+                                clrs[j],
                                 dataSet.getFillColor(),
                                 dataSet.getFillAlpha()
                         ));
@@ -113,6 +114,43 @@ public class LegendRenderer extends Renderer {
             mLegend.setEntries(computedEntries);
         }
 
+        calculateDimensions();
+    }
+
+    /**
+     * Prepares the legend for a chart that draws the given envelope instead of
+     * the individual DataSets. One entry is created per band.
+     *
+     * @param envelope
+     */
+    public void computeLegend(RadarEnvelope envelope) {
+
+        if (mLegend.isLegendCustom()) {
+
+            computedEntries.clear();
+
+            for (RadarEnvelope.Band band : envelope.getBands()) {
+
+                computedEntries.add(new LegendEntry(
+                        band.getLabel(),
+                        Legend.LegendForm.DEFAULT,
+                        Float.NaN,
+                        Float.NaN,
+                        null,
+                        band.getColor(),
+                        band.getColor(),
+                        band.getAlpha()
+                ));
+            }
+
+            mLegend.setEntries(computedEntries);
+        }
+
+        calculateDimensions();
+    }
+
+    private void calculateDimensions() {
+
         Typeface tf = mLegend.getTypeface();
 
         if (tf != null)
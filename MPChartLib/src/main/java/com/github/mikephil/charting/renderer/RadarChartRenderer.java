@@ -6,18 +6,34 @@ import android.graphics.Paint;
 import android.graphics.Path;
 import android.graphics.drawable.Drawable;
 
-import com.github.mikephil.charting.charts.RadarChart;
+import com.github.mikephil.charting.animation.RadarDataAnimator;
+import com.github.mikephil.charting.charts.RadarDataProvider;
 import com.github.mikephil.charting.data.IRadarDataSet;
 import com.github.mikephil.charting.data.RadarData;
 import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.data.RadarEnvelope;
 import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.utils.LabelAtlas;
+import com.github.mikephil.charting.utils.LabelCache;
+import com.github.mikephil.charting.utils.LabelGrid;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RadarTransformer;
+import com.github.mikephil.charting.utils.SpokeLod;
+import com.github.mikephil.charting.utils.TextMeasureCache;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.List;
+
 public class RadarChartRenderer extends Renderer {
 
-    private final RadarChart mChart;
+    private final RadarDataProvider mChart;
+
+    /**
+     * animator the vertices are taken from while it is running, may be null
+     */
+    private final RadarDataAnimator mAnimator;
 
     /**
      * paint for drawing the web
@@ -32,7 +48,7 @@ public class RadarChartRenderer extends Renderer {
     /**
      * paint used for highlighting values
      */
-    private Paint mHighlightPaint;
+    private final Paint mHighlightPaint;
 
     /**
      * paint object for drawing values (text representing values of chart
@@ -40,10 +56,28 @@ public class RadarChartRenderer extends Renderer {
      */
     private final Paint mValuePaint;
 
-    public RadarChartRenderer(RadarChart chart,
+    /**
+     * if false, fills are painted directly instead of through a clip path
+     */
+    private boolean mClipFillEnabled = true;
+
+    /**
+     * if true, value labels that overlap labels of a higher priority are not
+     * drawn
+     */
+    private boolean mValueLabelCullingEnabled = false;
+
+    /**
+     * the value labels are drawn from this atlas if it is set
+     */
+    private LabelAtlas mLabelAtlas;
+
+    public RadarChartRenderer(RadarDataProvider chart, RadarDataAnimator animator,
                               ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
 
+        mAnimator = animator;
+
         mRenderPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         mRenderPaint.setStyle(Paint.Style.FILL);
 
@@ -53,10 +87,8 @@ public class RadarChartRenderer extends Renderer {
         mValuePaint.setTextAlign(Paint.Align.CENTER);
         mValuePaint.setTextSize(Utils.convertDpToPixel(9f));
 
-        mHighlightPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        mHighlightPaint.setStyle(Paint.Style.STROKE);
-        mHighlightPaint.setStrokeWidth(2f);
-        mHighlightPaint.setColor(Color.rgb(255, 187, 115));
+        mValueMeasureCache = new TextMeasureCache(mValuePaint, 1024);
+
         mChart = chart;
 
         mHighlightPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
@@ -69,6 +101,56 @@ public class RadarChartRenderer extends Renderer {
 
     }
 
+    /**
+     * Enables / disables anti-aliasing of the web and the data. Default: true
+     *
+     * @param enabled
+     */
+    public void setAntiAliasEnabled(boolean enabled) {
+        mWebPaint.setAntiAlias(enabled);
+        mRenderPaint.setAntiAlias(enabled);
+    }
+
+    /**
+     * If disabled, filled DataSets with a fill color are painted directly with
+     * a paint instead of through a clip path, which is cheaper but not
+     * anti-aliased on all devices. Fill drawables are always clipped.
+     * Default: true
+     *
+     * @param enabled
+     */
+    public void setClipFillEnabled(boolean enabled) {
+        mClipFillEnabled = enabled;
+    }
+
+    /**
+     * If enabled, value labels that would overlap an already placed label are
+     * dropped. Labels of the first DataSet have the highest priority, within a
+     * DataSet the labels are placed in spoke order. The placement is computed
+     * once and kept until the data, the size or the rotation of the chart
+     * change. Icons are not affected. Default: false
+     *
+     * @param enabled
+     */
+    public void setValueLabelCullingEnabled(boolean enabled) {
+        mValueLabelCullingEnabled = enabled;
+        mLabelPlacementValid = false;
+    }
+
+    public boolean isValueLabelCullingEnabled() {
+        return mValueLabelCullingEnabled;
+    }
+
+    /**
+     * Sets the atlas the value labels are drawn from, null to draw them as
+     * text.
+     *
+     * @param atlas
+     */
+    public void setLabelAtlas(LabelAtlas atlas) {
+        mLabelAtlas = atlas;
+    }
+
     private void applyValueTextStyle(IRadarDataSet set) {
 
         mValuePaint.setTypeface(set.getValueTypeface());
@@ -124,7 +206,7 @@ public class RadarChartRenderer extends Renderer {
 
         int color = (fillAlpha << 24) | (fillColor & 0xffffff);
 
-        if (clipPathSupported()) {
+        if (mClipFillEnabled && clipPathSupported()) {
 
             int save = c.save();
 
@@ -161,66 +243,118 @@ public class RadarChartRenderer extends Renderer {
 
     public void drawData(Canvas c) {
 
+        RadarEnvelope envelope = mChart.getEnvelope();
+
+        if (envelope != null) {
+            drawEnvelope(c, envelope);
+            return;
+        }
+
         RadarData radarData = mChart.getData();
 
         int mostEntries = radarData.getMaxEntryCountSet().getEntryCount();
 
-        for (IRadarDataSet set : radarData.getDataSets()) {
+        for (int i = 0; i < radarData.getDataSetCount(); i++) {
+
+            IRadarDataSet set = radarData.getDataSetByIndex(i);
 
             if (set.isVisible()) {
-                drawDataSet(c, set, mostEntries);
+                drawDataSet(c, set, getAnimatedVertices(i), mostEntries);
             }
         }
     }
 
+    /**
+     * Returns the current vertices of the DataSet with the given index if an
+     * animation is running, null if the vertices need to be projected.
+     *
+     * @param dataSetIndex
+     * @return
+     */
+    private float[] getAnimatedVertices(int dataSetIndex) {
+
+        if (mAnimator == null || !mAnimator.isRunning())
+            return null;
+
+        return mAnimator.getVertices(dataSetIndex);
+    }
+
     private final Path mDrawDataSetSurfacePathBuffer = new Path();
     /**
      * Draws the RadarDataSet
      *
      * @param c
      * @param dataSet
+     * @param animated    the interpolated vertices of the DataSet, null if not animated
      * @param mostEntries the entry count of the dataset with the most entries
      */
-    private void drawDataSet(Canvas c, IRadarDataSet dataSet, int mostEntries) {
+    private void drawDataSet(Canvas c, IRadarDataSet dataSet, float[] animated, int mostEntries) {
 
+        RadarTransformer trans = mChart.getTransformer();
 
-        float sliceangle = mChart.getSliceAngle();
+        // per-spoke coefficients, a vertex is a multiply-add and two table lookups
+        float[] scale = trans.getScale();
+        float[] offset = trans.getOffset();
+        float[] cos = trans.getCos();
+        float[] sin = trans.getSin();
+        float cx = trans.getCenterX();
+        float cy = trans.getCenterY();
 
-        // calculate the factor that is needed for transforming the value to
-        // pixels
-        float factor = mChart.getFactor();
-
-        MPPointF center = mChart.getCenterOffsets();
-        MPPointF pOut = MPPointF.getInstance(0,0);
         Path surface = mDrawDataSetSurfacePathBuffer;
         surface.reset();
 
         boolean hasMovedToPoint = false;
 
-        for (int j = 0; j < dataSet.getEntryCount(); j++) {
+        int count = Math.min(dataSet.getEntryCount(), trans.getSpokeCount());
+
+        // with the level of detail only the selected spokes are drawn
+        int[] lodIndices = null;
+        int vertexCount = count;
 
-            mRenderPaint.setColor(dataSet.getColor(j));
+        if (mChart.isSpokeLodEnabled()) {
 
-            RadarEntry e = dataSet.getEntryForIndex(j);
+            int buckets = SpokeLod.getBucketCount(count, mChart.getYRange() * mChart.getFactor());
 
-            Utils.getPosition(
-                    center,
-                    (e.getY() - mChart.getYChartMin()) * factor,
-                    sliceangle * j + mChart.getRotationAngle(), pOut);
+            if (buckets < count) {
+                vertexCount = selectLodVertices(dataSet, animated, count, buckets);
+                lodIndices = mLodIndexBuffer;
+            }
+        }
+
+        for (int k = 0; k < vertexCount; k++) {
+
+            int j = lodIndices != null ? lodIndices[k] : k;
+
+            float x;
+            float y;
+
+            if (animated != null) {
+                x = animated[j * 2];
+                y = animated[j * 2 + 1];
+            } else {
+                float r = dataSet.getYForIndex(j) * scale[j] + offset[j];
+                x = cx + r * cos[j];
+                y = cy + r * sin[j];
+            }
 
-            if (Float.isNaN(pOut.x))
+            if (Float.isNaN(x))
                 continue;
 
             if (!hasMovedToPoint) {
-                surface.moveTo(pOut.x, pOut.y);
+                surface.moveTo(x, y);
                 hasMovedToPoint = true;
             } else
-                surface.lineTo(pOut.x, pOut.y);
+                surface.lineTo(x, y);
         }
 
+        // the color of the last vertex is the one the surface is drawn with
+        if (count > 0)
+            mRenderPaint.setColor(dataSet.isSingleColor()
+                    ? dataSet.getColors()[0] : dataSet.getColor(count - 1));
+
         if (dataSet.getEntryCount() > mostEntries) {
             // if this is not the largest set, draw a line to the center before closing
-            surface.lineTo(center.x, center.y);
+            surface.lineTo(cx, cy);
         }
 
         surface.close();
@@ -241,28 +375,209 @@ public class RadarChartRenderer extends Renderer {
         mRenderPaint.setStyle(Paint.Style.STROKE);
 
         // draw the line (only if filled is disabled or alpha is below 255)
-        if (!dataSet.isDrawFilledEnabled() || dataSet.getFillAlpha() < 255)
+        if (!dataSet.isDrawFilledEnabled() || dataSet.getFillAlpha() < 255) {
 //            c.drawPath(surface, mRenderPaint);
+        }
+    }
 
-        MPPointF.recycleInstance(center);
-        MPPointF.recycleInstance(pOut);
+    /**
+     * indices of the spokes selected by the level of detail
+     */
+    private int[] mLodIndexBuffer = new int[0];
+
+    /**
+     * Selects the spokes of the given DataSet that are drawn with the level of
+     * detail: the spokes are grouped into buckets of adjacent spokes and of
+     * every bucket only the vertices closest to and farthest from the center
+     * are kept, in spoke order, so that peaks stay visible. The indices are
+     * written to mLodIndexBuffer, returns their number.
+     *
+     * @param dataSet
+     * @param animated the interpolated vertices of the DataSet, null if not animated
+     * @param count    the number of spokes
+     * @param buckets  the number of buckets
+     * @return
+     */
+    private int selectLodVertices(IRadarDataSet dataSet, float[] animated, int count, int buckets) {
+
+        if (mLodIndexBuffer.length < buckets * 2)
+            mLodIndexBuffer = new int[buckets * 2];
+
+        int[] indices = mLodIndexBuffer;
+        int n = 0;
+
+        RadarTransformer trans = mChart.getTransformer();
+        float[] scale = trans.getScale();
+        float[] offset = trans.getOffset();
+        float cx = trans.getCenterX();
+        float cy = trans.getCenterY();
+
+        for (int b = 0; b < buckets; b++) {
+
+            int start = (int) ((long) b * count / buckets);
+            int end = (int) ((long) (b + 1) * count / buckets);
+
+            int min = -1;
+            int max = -1;
+            float minDistance = Float.MAX_VALUE;
+            float maxDistance = -Float.MAX_VALUE;
+
+            for (int j = start; j < end; j++) {
+
+                // the distance from the center (squared if animated), NaN
+                // vertices are skipped as they are when drawing
+                float distance;
+
+                if (animated != null) {
+                    float dx = animated[j * 2] - cx;
+                    float dy = animated[j * 2 + 1] - cy;
+                    distance = dx * dx + dy * dy;
+                } else {
+                    distance = dataSet.getYForIndex(j) * scale[j] + offset[j];
+                }
+
+                if (Float.isNaN(distance))
+                    continue;
+
+                if (distance < minDistance) {
+                    minDistance = distance;
+                    min = j;
+                }
+
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    max = j;
+                }
+            }
+
+            if (min < 0)
+                continue;
+
+            indices[n++] = Math.min(min, max);
+
+            if (min != max)
+                indices[n++] = Math.max(min, max);
+        }
+
+        return n;
+    }
+
+    private final Path mEnvelopePathBuffer = new Path();
+
+    /**
+     * Draws the bands and the median of the given envelope instead of the
+     * individual DataSets.
+     *
+     * @param c
+     * @param envelope
+     */
+    private void drawEnvelope(Canvas c, RadarEnvelope envelope) {
+
+        int spokeCount = Math.min(envelope.getSpokeCount(), mChart.getTransformer().getSpokeCount());
+
+        if (spokeCount == 0)
+            return;
+
+        Path path = mEnvelopePathBuffer;
+
+        mRenderPaint.setStyle(Paint.Style.FILL);
+
+        List<RadarEnvelope.Band> bands = envelope.getBands();
+
+        for (int b = 0; b < bands.size(); b++) {
+
+            RadarEnvelope.Band band = bands.get(b);
+
+            // the outer polygon and the reversed inner polygon form a ring
+            path.reset();
+            path.setFillType(Path.FillType.EVEN_ODD);
+            addEnvelopePolygon(path, envelope.getBandUpper(b), spokeCount, false);
+            addEnvelopePolygon(path, envelope.getBandLower(b), spokeCount, true);
+
+            mRenderPaint.setColor((band.getAlpha() << 24) | (band.getColor() & 0xffffff));
+            c.drawPath(path, mRenderPaint);
+        }
+
+        if (envelope.isDrawMedianEnabled()) {
+
+            path.reset();
+            path.setFillType(Path.FillType.WINDING);
+            addEnvelopePolygon(path, envelope.getMedian(), spokeCount, false);
+
+            mRenderPaint.setStyle(Paint.Style.STROKE);
+            mRenderPaint.setStrokeWidth(envelope.getMedianLineWidth());
+            mRenderPaint.setColor(envelope.getMedianColor());
+            c.drawPath(path, mRenderPaint);
+        }
+    }
+
+    /**
+     * Adds a closed polygon through the given per-spoke values to the path.
+     * Spokes without a value (NaN, e.g. spokes no DataSet of the envelope has
+     * a value for) are skipped.
+     *
+     * @param path
+     * @param values
+     * @param count
+     * @param reverse true if the polygon should be added counter-clockwise
+     */
+    private void addEnvelopePolygon(Path path, float[] values, int count, boolean reverse) {
+
+        RadarTransformer trans = mChart.getTransformer();
+
+        float[] scale = trans.getScale();
+        float[] offset = trans.getOffset();
+        float[] cos = trans.getCos();
+        float[] sin = trans.getSin();
+        float cx = trans.getCenterX();
+        float cy = trans.getCenterY();
+
+        boolean hasMovedToPoint = false;
+
+        for (int i = 0; i < count; i++) {
+
+            int j = reverse ? count - 1 - i : i;
+
+            if (Float.isNaN(values[j]))
+                continue;
+
+            float r = values[j] * scale[j] + offset[j];
+            float x = cx + r * cos[j];
+            float y = cy + r * sin[j];
+
+            if (!hasMovedToPoint) {
+                path.moveTo(x, y);
+                hasMovedToPoint = true;
+            } else
+                path.lineTo(x, y);
+        }
+
+        if (hasMovedToPoint)
+            path.close();
     }
 
     public void drawValues(Canvas c) {
 
+        // values of an envelope are not drawn
+        if (mChart.getEnvelope() != null)
+            return;
 
-        float sliceangle = mChart.getSliceAngle();
+        RadarTransformer trans = mChart.getTransformer();
 
-        // calculate the factor that is needed for transforming the value to
-        // pixels
-        float factor = mChart.getFactor();
+        float[] scale = trans.getScale();
+        float[] offset = trans.getOffset();
+        float[] cos = trans.getCos();
+        float[] sin = trans.getSin();
+        float cx = trans.getCenterX();
+        float cy = trans.getCenterY();
 
-        MPPointF center = mChart.getCenterOffsets();
-        MPPointF pOut = MPPointF.getInstance(0,0);
         MPPointF pIcon = MPPointF.getInstance(0,0);
 
         float yoffset = Utils.convertDpToPixel(5f);
 
+        if (mValueLabelCullingEnabled)
+            placeValueLabels(yoffset);
+
         for (int i = 0; i < mChart.getData().getDataSetCount(); i++) {
 
             IRadarDataSet dataSet = mChart.getData().getDataSetByIndex(i);
@@ -274,34 +589,66 @@ public class RadarChartRenderer extends Renderer {
             applyValueTextStyle(dataSet);
 
             ValueFormatter formatter = dataSet.getValueFormatter();
+            LabelCache labels = getValueLabelCache(i);
 
             MPPointF iconsOffset = MPPointF.getInstance(dataSet.getIconsOffset());
             iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
             iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-            for (int j = 0; j < dataSet.getEntryCount(); j++) {
+            int count = Math.min(dataSet.getEntryCount(), trans.getSpokeCount());
+
+            // hoist the value colors out of the loop, a single color is set once
+            int[] valueColors = dataSet.getValueTextColors();
+            boolean singleValueColor = dataSet.isSingleValueTextColor();
+
+            if (singleValueColor)
+                mValuePaint.setColor(valueColors[0]);
+
+            float[] animated = getAnimatedVertices(i);
+
+            boolean[] placed = mValueLabelCullingEnabled ? mPlacedValueLabels[i] : null;
+
+            for (int j = 0; j < count; j++) {
 
                 RadarEntry entry = dataSet.getEntryForIndex(j);
 
-                 Utils.getPosition(
-                         center,
-                         (entry.getY() - mChart.getYChartMin()) * factor,
-                         sliceangle * j + mChart.getRotationAngle(),
-                         pOut);
+                float x;
+                float y;
 
-                if (dataSet.isDrawValuesEnabled()) {
-                    drawValue(c, formatter.getRadarLabel(entry), pOut.x, pOut.y - yoffset, dataSet.getValueTextColor(j));
+                if (animated != null) {
+                    x = animated[j * 2];
+                    y = animated[j * 2 + 1];
+                } else {
+                    float r = entry.getY() * scale[j] + offset[j];
+                    x = cx + r * cos[j];
+                    y = cy + r * sin[j];
+                }
+
+                if (dataSet.isDrawValuesEnabled() && (placed == null || placed[j])) {
+
+                    if (!singleValueColor)
+                        mValuePaint.setColor(valueColors[j % valueColors.length]);
+
+                    String label = labels.getRadarLabel(formatter, j, entry);
+
+                    if (mLabelAtlas != null)
+                        mLabelAtlas.drawText(c, label, x, y - yoffset, mValuePaint);
+                    else
+                        c.drawText(label, x, y - yoffset, mValuePaint);
                 }
 
                 if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
 
                     Drawable icon = entry.getIcon();
 
-                    Utils.getPosition(
-                            center,
-                            (entry.getY()) * factor + iconsOffset.y,
-                            sliceangle * j + mChart.getRotationAngle(),
-                            pIcon);
+                    if (animated != null) {
+                        pIcon.x = x + iconsOffset.y * cos[j];
+                        pIcon.y = y + iconsOffset.y * sin[j];
+                    } else {
+                        float ri = entry.getY() * scale[j] + iconsOffset.y;
+                        pIcon.x = cx + ri * cos[j];
+                        pIcon.y = cy + ri * sin[j];
+                    }
 
                     //noinspection SuspiciousNameCombination
                     pIcon.y += iconsOffset.x;
@@ -319,28 +666,241 @@ public class RadarChartRenderer extends Renderer {
             MPPointF.recycleInstance(iconsOffset);
         }
 
-        MPPointF.recycleInstance(center);
-        MPPointF.recycleInstance(pOut);
         MPPointF.recycleInstance(pIcon);
     }
 
-    private void drawValue(Canvas c, String valueText, float x, float y, int color) {
-        mValuePaint.setColor(color);
-        c.drawText(valueText, x, y, mValuePaint);
+    /**
+     * formatted value labels per DataSet
+     */
+    private LabelCache[] mValueLabelCaches = new LabelCache[0];
+
+    private LabelCache getValueLabelCache(int dataSetIndex) {
+
+        if (dataSetIndex >= mValueLabelCaches.length) {
+
+            LabelCache[] caches = new LabelCache[dataSetIndex + 1];
+            System.arraycopy(mValueLabelCaches, 0, caches, 0, mValueLabelCaches.length);
+            mValueLabelCaches = caches;
+        }
+
+        if (mValueLabelCaches[dataSetIndex] == null)
+            mValueLabelCaches[dataSetIndex] = new LabelCache();
+
+        return mValueLabelCaches[dataSetIndex];
+    }
+
+    /**
+     * Removes the cached value labels, e.g. after the data or the formatters
+     * changed.
+     */
+    public void clearLabelCaches() {
+
+        for (LabelCache cache : mValueLabelCaches) {
+            if (cache != null)
+                cache.clear();
+        }
+
+        mLabelPlacementValid = false;
+    }
+
+    /**
+     * measures the value labels of the placement
+     */
+    private final TextMeasureCache mValueMeasureCache;
+
+    private final LabelGrid mLabelGrid = new LabelGrid();
+
+    /**
+     * per DataSet and spoke, true if the value label was placed without
+     * overlapping a label of a higher priority
+     */
+    private boolean[][] mPlacedValueLabels = new boolean[0][];
+
+    private boolean mLabelPlacementValid = false;
+
+    /**
+     * the version of the transformer the placement was computed for
+     */
+    private int mLabelPlacementVersion;
+
+    /**
+     * Decides which value labels are drawn if culling is enabled. The labels
+     * are placed at the final positions of the vertices, so that they do not
+     * flicker while an animation is running.
+     *
+     * @param yoffset the distance between a vertex and the baseline of its
+     *                label
+     */
+    private void placeValueLabels(float yoffset) {
+
+        RadarTransformer trans = mChart.getTransformer();
+        RadarData data = mChart.getData();
+
+        int dataSetCount = data.getDataSetCount();
+
+        if (mLabelPlacementValid
+                && mLabelPlacementVersion == trans.getVersion()
+                && mPlacedValueLabels.length >= dataSetCount)
+            return;
+
+        if (mPlacedValueLabels.length < dataSetCount) {
+            boolean[][] placed = new boolean[dataSetCount][];
+            System.arraycopy(mPlacedValueLabels, 0, placed, 0, mPlacedValueLabels.length);
+            mPlacedValueLabels = placed;
+        }
+
+        float[] scale = trans.getScale();
+        float[] offset = trans.getOffset();
+        float[] cos = trans.getCos();
+        float[] sin = trans.getSin();
+        float cx = trans.getCenterX();
+        float cy = trans.getCenterY();
+
+        int spokeCount = trans.getSpokeCount();
+
+        mLabelGrid.reset(0f, 0f, mViewPortHandler.getChartWidth(), mViewPortHandler.getChartHeight(),
+                mValueMeasureCache.getLineHeight() * 2f);
+
+        for (int i = 0; i < dataSetCount; i++) {
+
+            if (mPlacedValueLabels[i] == null || mPlacedValueLabels[i].length < spokeCount)
+                mPlacedValueLabels[i] = new boolean[spokeCount];
+
+            boolean[] placed = mPlacedValueLabels[i];
+
+            IRadarDataSet dataSet = data.getDataSetByIndex(i);
+
+            if (!shouldDrawValues(dataSet) || !dataSet.isDrawValuesEnabled())
+                continue;
+
+            applyValueTextStyle(dataSet);
+
+            ValueFormatter formatter = dataSet.getValueFormatter();
+            LabelCache labels = getValueLabelCache(i);
+
+            float height = mValueMeasureCache.getLineHeight();
+
+            int count = Math.min(dataSet.getEntryCount(), spokeCount);
+
+            for (int j = 0; j < count; j++) {
+
+                RadarEntry entry = dataSet.getEntryForIndex(j);
+
+                float r = entry.getY() * scale[j] + offset[j];
+                float x = cx + r * cos[j];
+                float baseline = cy + r * sin[j] - yoffset;
+
+                float halfWidth = mValueMeasureCache.getWidth(labels.getRadarLabel(formatter, j, entry)) / 2f;
+
+                placed[j] = mLabelGrid.insert(x - halfWidth, baseline - height, x + halfWidth, baseline);
+            }
+        }
+
+        mLabelPlacementVersion = trans.getVersion();
+        mLabelPlacementValid = true;
+    }
+
+    private final Path mHighlightPathBuffer = new Path();
+
+    /**
+     * Draws the given highlighted values: the outline of their DataSet, the
+     * spoke they are on and a circle around the value.
+     *
+     * @param c
+     * @param indices
+     */
+    public void drawHighlighted(Canvas c, Highlight[] indices) {
+
+        RadarData radarData = mChart.getData();
+
+        if (radarData == null || indices == null || mChart.getEnvelope() != null)
+            return;
+
+        RadarTransformer trans = mChart.getTransformer();
+
+        float[] scale = trans.getScale();
+        float[] offset = trans.getOffset();
+        float[] cos = trans.getCos();
+        float[] sin = trans.getSin();
+        float cx = trans.getCenterX();
+        float cy = trans.getCenterY();
+
+        float circleRadius = Utils.convertDpToPixel(4f);
+
+        for (Highlight high : indices) {
+
+            if (high.getDataSetIndex() >= radarData.getDataSetCount())
+                continue;
+
+            IRadarDataSet set = radarData.getDataSetByIndex(high.getDataSetIndex());
+
+            int count = Math.min(set.getEntryCount(), trans.getSpokeCount());
+
+            if (!set.isVisible() || high.getSpoke() >= count)
+                continue;
+
+            Path outline = mHighlightPathBuffer;
+            outline.reset();
+
+            boolean hasMovedToPoint = false;
+
+            for (int j = 0; j < count; j++) {
+
+                float r = set.getYForIndex(j) * scale[j] + offset[j];
+                float x = cx + r * cos[j];
+                float y = cy + r * sin[j];
+
+                if (Float.isNaN(x))
+                    continue;
+
+                if (!hasMovedToPoint) {
+                    outline.moveTo(x, y);
+                    hasMovedToPoint = true;
+                } else
+                    outline.lineTo(x, y);
+            }
+
+            outline.close();
+
+            c.drawPath(outline, mHighlightPaint);
+
+            int spoke = high.getSpoke();
+            float r = set.getYForIndex(spoke) * scale[spoke] + offset[spoke];
+
+            if (Float.isNaN(r))
+                continue;
+
+            float x = cx + r * cos[spoke];
+            float y = cy + r * sin[spoke];
+
+            c.drawLine(cx, cy, x, y, mHighlightPaint);
+            c.drawCircle(x, y, circleRadius, mHighlightPaint);
+        }
+    }
+
+    /**
+     * Returns the paint object used for drawing highlighted values.
+     *
+     * @return
+     */
+    public Paint getPaintHighlight() {
+        return mHighlightPaint;
     }
 
     public void drawExtras(Canvas c) {
         drawWeb(c);
     }
 
-    private void drawWeb(Canvas c) {
+    /**
+     * start and end points of the web lines that come from the center
+     */
+    private float[] mWebLineBuffer = new float[0];
 
-        float sliceangle = mChart.getSliceAngle();
+    private void drawWeb(Canvas c) {
 
         // calculate the factor that is needed for transforming the value to
         // pixels
         float factor = mChart.getFactor();
-        float rotationangle = mChart.getRotationAngle();
 
         MPPointF center = mChart.getCenterOffsets();
 
@@ -352,18 +912,31 @@ public class RadarChartRenderer extends Renderer {
         final int xIncrements = 1 + mChart.getSkipWebLineCount();
         int maxEntryCount = mChart.getData().getMaxEntryCountSet().getEntryCount();
 
-        MPPointF p = MPPointF.getInstance(0,0);
-        for (int i = 0; i < maxEntryCount; i += xIncrements) {
+        // the directions of the spokes are taken from the transformer, all
+        // lines are drawn by a single call
+        RadarTransformer trans = mChart.getTransformer();
+        float[] cos = trans.getCos();
+        float[] sin = trans.getSin();
+
+        int spokeCount = Math.min(maxEntryCount, trans.getSpokeCount());
+        int lineCount = (spokeCount + xIncrements - 1) / xIncrements;
 
-            Utils.getPosition(
-                    center,
-                    mChart.getYRange() * factor,
-                    sliceangle * i + rotationangle,
-                    p);
+        if (mWebLineBuffer.length < lineCount * 4)
+            mWebLineBuffer = new float[lineCount * 4];
 
-            c.drawLine(center.x, center.y, p.x, p.y, mWebPaint);
+        float[] lines = mWebLineBuffer;
+        float radius = mChart.getYRange() * factor;
+        int n = 0;
+
+        for (int i = 0; i < spokeCount; i += xIncrements) {
+            lines[n++] = center.x;
+            lines[n++] = center.y;
+            lines[n++] = center.x + radius * cos[i];
+            lines[n++] = center.y + radius * sin[i];
         }
-        MPPointF.recycleInstance(p);
+
+        if (n > 0)
+            c.drawLines(lines, 0, n, mWebPaint);
 
         // draw the inner-web
         mWebPaint.setStrokeWidth(mChart.getWebLineWidthInner());
@@ -372,14 +945,12 @@ public class RadarChartRenderer extends Renderer {
 
         int labelCount = mChart.getYAxis().mEntryCount;
 
-        MPPointF p1out = MPPointF.getInstance(0,0);
-        MPPointF p2out = MPPointF.getInstance(0,0);
         for (int j = 0; j < labelCount; j++) {
-                float r = (mChart.getYAxis().mEntries[j] - mChart.getYChartMin()) * factor;
+            float r = (mChart.getYAxis().mEntries[j] - mChart.getYChartMin()) * factor;
             c.drawCircle(center.x, center.y, r, mWebPaint);
         }
-        MPPointF.recycleInstance(p1out);
-        MPPointF.recycleInstance(p2out);
+
+        MPPointF.recycleInstance(center);
     }
 
 }
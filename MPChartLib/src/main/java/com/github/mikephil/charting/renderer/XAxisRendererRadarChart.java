@@ -3,21 +3,31 @@ package com.github.mikephil.charting.renderer;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
 
-import com.github.mikephil.charting.charts.RadarChart;
+import com.github.mikephil.charting.charts.RadarDataProvider;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.utils.FSize;
+import com.github.mikephil.charting.utils.LabelCache;
+import com.github.mikephil.charting.utils.LabelGrid;
 import com.github.mikephil.charting.utils.MPPointD;
-import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RadarTransformer;
+import com.github.mikephil.charting.utils.SpokeLod;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 public class XAxisRendererRadarChart extends AxisRenderer {
     private final XAxis mXAxis;
 
-    private final RadarChart mChart;
+    private final RadarDataProvider mChart;
 
-    public XAxisRendererRadarChart(ViewPortHandler viewPortHandler, XAxis xAxis, RadarChart chart) {
+    /**
+     * formatted labels of the spokes
+     */
+    private final LabelCache mLabelCache = new LabelCache();
+
+    public XAxisRendererRadarChart(ViewPortHandler viewPortHandler, XAxis xAxis, RadarDataProvider chart) {
         super(viewPortHandler, xAxis);
 
         this.mXAxis = xAxis;
@@ -65,70 +75,341 @@ public class XAxisRendererRadarChart extends AxisRenderer {
 
     private void computeSize() {
 
-        String longest = mXAxis.getLongestLabel();
+        measureLabels();
+
+        mXAxis.mLabelRotatedWidth = Math.round(mMaxBoxWidth);
+        mXAxis.mLabelRotatedHeight = Math.round(mMaxBoxHeight);
+    }
+
+    /**
+     * Removes the cached labels of the spokes, e.g. after the data changed.
+     */
+    public void clearLabelCache() {
+        mLabelCache.clear();
+        mMeasured = false;
+    }
+
+    /**
+     * the labels of the spokes as they were measured
+     */
+    private String[] mLabels = new String[0];
+
+    /**
+     * width and left edge of the text bounds per label
+     */
+    private float[] mTextWidths = new float[0];
+    private float[] mTextLefts = new float[0];
+
+    /**
+     * size of the (rotated) box around each label
+     */
+    private float[] mBoxWidths = new float[0];
+    private float[] mBoxHeights = new float[0];
+
+    private float mMaxBoxWidth = 0f;
+    private float mMaxBoxHeight = 0f;
+
+    private int mLabelCount = 0;
+
+    private float mLineHeight = 0f;
+    private float mAscent = 0f;
+
+    /**
+     * the text style and rotation the labels were measured with
+     */
+    private boolean mMeasured = false;
+    private Typeface mMeasuredTypeface;
+    private float mMeasuredTextSize;
+    private float mMeasuredAngle;
+
+    private final Rect mTextBounds = new Rect();
+    private final Paint.FontMetrics mFontMetrics = new Paint.FontMetrics();
+
+    /**
+     * Measures the labels of the spokes, unless they were already measured
+     * with the current text style, rotation and spoke count.
+     */
+    private void measureLabels() {
+
+        float angle = mXAxis.getLabelRotationAngle();
+        int count = mChart.getData() == null || mChart.getData().getMaxEntryCountSet() == null
+                ? 0
+                : mChart.getData().getMaxEntryCountSet().getEntryCount();
+
+        if (mMeasured
+                && mLabelCount == count
+                && mMeasuredTypeface == mXAxis.getTypeface()
+                && mMeasuredTextSize == mXAxis.getTextSize()
+                && mMeasuredAngle == angle)
+            return;
 
         mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
         mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
 
-        final FSize labelSize = Utils.calcTextSize(mAxisLabelPaint, longest);
+        if (mLabels.length < count) {
+            mLabels = new String[count];
+            mTextWidths = new float[count];
+            mTextLefts = new float[count];
+            mBoxWidths = new float[count];
+            mBoxHeights = new float[count];
+        }
+
+        mLineHeight = mAxisLabelPaint.getFontMetrics(mFontMetrics);
+        mAscent = mFontMetrics.ascent;
 
-        final float labelWidth = labelSize.width;
-        final float labelHeight = Utils.calcTextHeight(mAxisLabelPaint, "Q");
+        mMaxBoxWidth = 0f;
+        mMaxBoxHeight = 0f;
 
-        final FSize labelRotatedSize = Utils.getSizeOfRotatedRectangleByDegrees(
-                labelWidth,
-                labelHeight,
-                mXAxis.getLabelRotationAngle());
+        for (int i = 0; i < count; i++) {
 
+            String label = mLabelCache.getAxisLabel(mXAxis.getValueFormatter(), i, i);
 
-        mXAxis.mLabelRotatedWidth = Math.round(labelRotatedSize.width);
-        mXAxis.mLabelRotatedHeight = Math.round(labelRotatedSize.height);
+            mAxisLabelPaint.getTextBounds(label, 0, label.length(), mTextBounds);
 
-        FSize.recycleInstance(labelRotatedSize);
-        FSize.recycleInstance(labelSize);
+            mLabels[i] = label;
+            mTextWidths[i] = mTextBounds.width();
+            mTextLefts[i] = mTextBounds.left;
+
+            FSize box = Utils.getSizeOfRotatedRectangleByDegrees(mTextWidths[i], mLineHeight, angle);
+
+            mBoxWidths[i] = box.width;
+            mBoxHeights[i] = box.height;
+
+            FSize.recycleInstance(box);
+
+            mMaxBoxWidth = Math.max(mMaxBoxWidth, mBoxWidths[i]);
+            mMaxBoxHeight = Math.max(mMaxBoxHeight, mBoxHeights[i]);
+        }
+
+        mLabelCount = count;
+        mMeasuredTypeface = mXAxis.getTypeface();
+        mMeasuredTextSize = mXAxis.getTextSize();
+        mMeasuredAngle = angle;
+        mMeasured = true;
+
+        mPositioned = false;
     }
 
-    private void drawLabel(Canvas c, String formattedLabel, float x, float y, MPPointF anchor, float angleDegrees) {
-        Utils.drawXAxisValue(c, formattedLabel, x, y, mAxisLabelPaint, anchor, angleDegrees);
+    /**
+     * space needed outside of the web on each side of the chart
+     */
+    private float mExtentLeft = 0f;
+    private float mExtentTop = 0f;
+    private float mExtentRight = 0f;
+    private float mExtentBottom = 0f;
+
+    /**
+     * Calculates how much space the labels need outside of the web on each
+     * side, from the measured size of every label and the direction of its
+     * spoke. If the chart can be rotated, every label may end up on every
+     * side, so the largest label width is needed left and right and the
+     * largest label height on top and bottom.
+     *
+     * @param rotationEnabled
+     */
+    public void computeLabelExtents(boolean rotationEnabled) {
+
+        measureLabels();
+
+        float gap = mXAxis.getYOffset();
+
+        if (mLabelCount == 0) {
+
+            mExtentLeft = mExtentTop = mExtentRight = mExtentBottom = 0f;
+
+        } else if (rotationEnabled) {
+
+            mExtentLeft = mExtentRight = gap + mMaxBoxWidth;
+            mExtentTop = mExtentBottom = gap + mMaxBoxHeight;
+
+        } else {
+
+            mExtentLeft = mExtentTop = mExtentRight = mExtentBottom = 0f;
+
+            float sliceAngle = mChart.getSliceAngle();
+            float rotationAngle = mChart.getRotationAngle();
+
+            for (int i = 0; i < mLabelCount; i++) {
+
+                double angle = Math.toRadians(sliceAngle * i + rotationAngle);
+                float cos = (float) Math.cos(angle);
+                float sin = (float) Math.sin(angle);
+
+                float halfWidth = mBoxWidths[i] / 2f;
+                float halfHeight = mBoxHeights[i] / 2f;
+
+                // distance of the label center from the web, the web itself
+                // only comes closer to the border where the spoke is not
+                // perpendicular to it
+                float dist = gap + Math.abs(cos) * halfWidth + Math.abs(sin) * halfHeight;
+
+                if (cos > 0f)
+                    mExtentRight = Math.max(mExtentRight, dist * cos + halfWidth);
+                else if (cos < 0f)
+                    mExtentLeft = Math.max(mExtentLeft, -dist * cos + halfWidth);
+
+                if (sin > 0f)
+                    mExtentBottom = Math.max(mExtentBottom, dist * sin + halfHeight);
+                else if (sin < 0f)
+                    mExtentTop = Math.max(mExtentTop, -dist * sin + halfHeight);
+            }
+        }
     }
 
+    public float getLabelExtentLeft() {
+        return mExtentLeft;
+    }
+
+    public float getLabelExtentTop() {
+        return mExtentTop;
+    }
+
+    public float getLabelExtentRight() {
+        return mExtentRight;
+    }
+
+    public float getLabelExtentBottom() {
+        return mExtentBottom;
+    }
+
+    /**
+     * per label, the origin the text is drawn at, or the center of the label
+     * if it is rotated
+     */
+    private float[] mLabelX = new float[0];
+    private float[] mLabelY = new float[0];
+
+    /**
+     * per label, false if it overlaps an earlier label and is not drawn
+     */
+    private boolean[] mLabelVisible = new boolean[0];
+
+    private final LabelGrid mLabelGrid = new LabelGrid();
+
+    /**
+     * the version of the transformer, the radius and the level of detail the
+     * labels were positioned for
+     */
+    private boolean mPositioned = false;
+    private int mPositionedVersion;
+    private float mPositionedRadius;
+    private int mPositionedStep;
+
+    /**
+     * Positions the measured labels around the web, unless the projection
+     * did not change since they were last positioned. Every label is placed
+     * right outside of the web in the direction of its spoke, labels that
+     * overlap an earlier label are hidden.
+     *
+     * @param trans
+     * @param count the number of labels to position
+     */
+    private void positionLabels(RadarTransformer trans, int count) {
+
+        float radius = mChart.getYRange() * mChart.getFactor();
+        float gap = mXAxis.getYOffset();
+
+        // with the level of detail only as many labels as fit around the web
+        // are positioned
+        int step = mChart.isSpokeLodEnabled()
+                ? SpokeLod.getStep(count, radius + gap + mMaxBoxWidth / 2f, mMaxBoxWidth)
+                : 1;
+
+        if (mPositioned
+                && mPositionedVersion == trans.getVersion()
+                && mPositionedRadius == radius
+                && mPositionedStep == step
+                && mLabelX.length >= count)
+            return;
+
+        if (mLabelX.length < count) {
+            mLabelX = new float[count];
+            mLabelY = new float[count];
+            mLabelVisible = new boolean[count];
+        }
+
+        float[] cos = trans.getCos();
+        float[] sin = trans.getSin();
+        float cx = trans.getCenterX();
+        float cy = trans.getCenterY();
+
+        float angle = mMeasuredAngle;
+
+        mLabelGrid.reset(0f, 0f, mViewPortHandler.getChartWidth(), mViewPortHandler.getChartHeight(),
+                mMaxBoxWidth);
+
+        for (int i = 0; i < count; i++) {
+
+            float halfWidth = mBoxWidths[i] / 2f;
+            float halfHeight = mBoxHeights[i] / 2f;
+
+            float dist = radius + gap + Math.abs(cos[i]) * halfWidth + Math.abs(sin[i]) * halfHeight;
+
+            float x = cx + dist * cos[i];
+            float y = cy + dist * sin[i];
+
+            mLabelVisible[i] = i % step == 0
+                    && mLabelGrid.insert(x - halfWidth, y - halfHeight, x + halfWidth, y + halfHeight);
+
+            if (angle != 0f) {
+                mLabelX[i] = x;
+                mLabelY[i] = y;
+            } else {
+                mLabelX[i] = x - mTextWidths[i] / 2f - mTextLefts[i];
+                mLabelY[i] = y - mLineHeight / 2f - mAscent;
+            }
+        }
+
+        mPositionedVersion = trans.getVersion();
+        mPositionedRadius = radius;
+        mPositionedStep = step;
+        mPositioned = true;
+    }
 
     public void renderAxisLabels(Canvas c) {
 
         if (!mXAxis.isEnabled() || !mXAxis.isDrawLabelsEnabled())
             return;
 
-        final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
-        final MPPointF drawLabelAnchor = MPPointF.getInstance(0.5f, 0.25f);
+        measureLabels();
+
+        RadarTransformer trans = mChart.getTransformer();
+
+        int count = Math.min(mLabelCount, trans.getSpokeCount());
+
+        positionLabels(trans, count);
 
         mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
         mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
         mAxisLabelPaint.setColor(mXAxis.getTextColor());
 
-        float sliceangle = mChart.getSliceAngle();
+        // the positions are left-aligned origins of the text
+        mAxisLabelPaint.setTextAlign(Paint.Align.LEFT);
+
+        float angle = mMeasuredAngle;
 
-        // calculate the factor that is needed for transforming the value to
-        // pixels
-        float factor = mChart.getFactor();
+        for (int i = 0; i < count; i++) {
 
-        MPPointF center = mChart.getCenterOffsets();
-        MPPointF pOut = MPPointF.getInstance(0,0);
-        for (int i = 0; i < mChart.getData().getMaxEntryCountSet().getEntryCount(); i++) {
+            if (!mLabelVisible[i])
+                continue;
 
-            String label = mXAxis.getValueFormatter().getAxisLabel(i);
+            if (angle != 0f) {
 
-            float angle = (sliceangle * i + mChart.getRotationAngle()) % 360f;
+                int save = c.save();
 
-            Utils.getPosition(center, mChart.getYRange() * factor
-                    + mXAxis.mLabelRotatedWidth / 2f, angle, pOut);
+                c.translate(mLabelX[i], mLabelY[i]);
+                c.rotate(angle);
+                c.drawText(mLabels[i], -mTextWidths[i] / 2f - mTextLefts[i],
+                        -mLineHeight / 2f - mAscent, mAxisLabelPaint);
 
-            drawLabel(c, label, pOut.x, pOut.y - mXAxis.mLabelRotatedHeight / 2.f,
-                    drawLabelAnchor, labelRotationAngleDegrees);
+                c.restoreToCount(save);
+
+            } else {
+                c.drawText(mLabels[i], mLabelX[i], mLabelY[i], mAxisLabelPaint);
+            }
         }
 
-        MPPointF.recycleInstance(center);
-        MPPointF.recycleInstance(pOut);
-        MPPointF.recycleInstance(drawLabelAnchor);
+        mAxisLabelPaint.setTextAlign(Paint.Align.CENTER);
     }
 
 }
@@ -4,9 +4,11 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 
-import com.github.mikephil.charting.charts.RadarChart;
+import com.github.mikephil.charting.charts.RadarDataProvider;
 import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.utils.LabelAtlas;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RadarTransformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -14,9 +16,14 @@ public class YAxisRendererRadarChart extends AxisRenderer {
 
     private final YAxis mYAxis;
 
-    private final RadarChart mChart;
+    private final RadarDataProvider mChart;
 
-    public YAxisRendererRadarChart(ViewPortHandler viewPortHandler, YAxis yAxis, RadarChart chart) {
+    /**
+     * the labels are drawn from this atlas if it is set
+     */
+    private LabelAtlas mLabelAtlas;
+
+    public YAxisRendererRadarChart(ViewPortHandler viewPortHandler, YAxis yAxis, RadarDataProvider chart) {
         super(viewPortHandler, yAxis);
 
         this.mYAxis = yAxis;
@@ -153,6 +160,15 @@ public class YAxisRendererRadarChart extends AxisRenderer {
         mAxis.mAxisRange = Math.abs(mAxis.mAxisMaximum - mAxis.mAxisMinimum);
     }
 
+    /**
+     * Sets the atlas the labels are drawn from, null to draw them as text.
+     *
+     * @param atlas
+     */
+    public void setLabelAtlas(LabelAtlas atlas) {
+        mLabelAtlas = atlas;
+    }
+
     public void renderAxisLabels(Canvas c) {
 
         if (!mYAxis.isEnabled() || !mYAxis.isDrawLabelsEnabled())
@@ -163,9 +179,19 @@ public class YAxisRendererRadarChart extends AxisRenderer {
         mAxisLabelPaint.setColor(mYAxis.getTextColor());
 
         MPPointF center = mChart.getCenterOffsets();
-        MPPointF pOut = MPPointF.getInstance(0,0);
         float factor = mChart.getFactor();
 
+        // the labels are drawn along the first spoke
+        RadarTransformer trans = mChart.getTransformer();
+
+        if (trans.getSpokeCount() == 0) {
+            MPPointF.recycleInstance(center);
+            return;
+        }
+
+        float cos = trans.getCos()[0];
+        float sin = trans.getSin()[0];
+
         final int from = mYAxis.isDrawBottomYLabelEntryEnabled() ? 0 : 1;
         final int to = mYAxis.isDrawTopYLabelEntryEnabled()
                 ? mYAxis.mEntryCount
@@ -177,13 +203,16 @@ public class YAxisRendererRadarChart extends AxisRenderer {
 
             float r = (mYAxis.mEntries[j] - mYAxis.mAxisMinimum) * factor;
 
-            Utils.getPosition(center, r, mChart.getRotationAngle(), pOut);
+            float x = center.x + r * cos;
+            float y = center.y + r * sin;
 
             String label = mYAxis.getFormattedLabel(j);
 
-            c.drawText(label, pOut.x + xOffset, pOut.y-8, mAxisLabelPaint);
+            if (mLabelAtlas != null)
+                mLabelAtlas.drawText(c, label, x + xOffset, y-8, mAxisLabelPaint);
+            else
+                c.drawText(label, x + xOffset, y-8, mAxisLabelPaint);
         }
         MPPointF.recycleInstance(center);
-        MPPointF.recycleInstance(pOut);
     }
 }
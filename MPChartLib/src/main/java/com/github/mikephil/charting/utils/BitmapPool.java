@@ -0,0 +1,114 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pool of mutable ARGB_8888 bitmaps for offscreen rendering. Bitmaps that are
+ * no longer shown are released into the pool and handed out again for the
+ * next rendering of the same size, instead of allocating a new bitmap for
+ * every chart. The pool is thread safe.
+ */
+public class BitmapPool {
+
+    /**
+     * the maximum number of bitmaps kept in the pool
+     */
+    private final int mMaxSize;
+
+    private final List<Bitmap> mBitmaps;
+
+    /**
+     * @param maxSize the maximum number of bitmaps kept in the pool
+     */
+    public BitmapPool(int maxSize) {
+        mMaxSize = Math.max(1, maxSize);
+        mBitmaps = new ArrayList<>(mMaxSize);
+    }
+
+    /**
+     * Returns a cleared bitmap of the given size, taken from the pool if
+     * possible.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    public Bitmap obtain(int width, int height) {
+
+        Bitmap bitmap = null;
+
+        synchronized (this) {
+
+            for (int i = mBitmaps.size() - 1; i >= 0; i--) {
+
+                Bitmap b = mBitmaps.get(i);
+
+                if (b.getWidth() == width && b.getHeight() == height) {
+                    bitmap = mBitmaps.remove(i);
+                    break;
+                }
+            }
+        }
+
+        if (bitmap == null)
+            return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+
+        bitmap.eraseColor(Color.TRANSPARENT);
+        return bitmap;
+    }
+
+    /**
+     * Puts the given bitmap back into the pool. The bitmap must not be drawn
+     * afterwards. If the pool is full, the oldest bitmap is recycled.
+     *
+     * @param bitmap
+     */
+    public void release(Bitmap bitmap) {
+
+        if (bitmap == null || bitmap.isRecycled() || !bitmap.isMutable())
+            return;
+
+        Bitmap evicted = null;
+
+        synchronized (this) {
+
+            if (mBitmaps.size() >= mMaxSize)
+                evicted = mBitmaps.remove(0);
+
+            mBitmaps.add(bitmap);
+        }
+
+        if (evicted != null)
+            evicted.recycle();
+    }
+
+    /**
+     * Returns the number of bitmaps currently in the pool.
+     *
+     * @return
+     */
+    public synchronized int size() {
+        return mBitmaps.size();
+    }
+
+    /**
+     * Recycles all bitmaps in the pool.
+     */
+    public void clear() {
+
+        List<Bitmap> bitmaps;
+
+        synchronized (this) {
+            bitmaps = new ArrayList<>(mBitmaps);
+            mBitmaps.clear();
+        }
+
+        for (Bitmap b : bitmaps) {
+            b.recycle();
+        }
+    }
+}
@@ -0,0 +1,632 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+/**
+ * Canvas that counts the operations drawn on it by type, the changes of the
+ * paint state between draw operations and an estimate of the overdraw. All
+ * operations are forwarded to a target canvas if one is set, without a
+ * target nothing is drawn and only the statistics are collected, e.g. to
+ * assert in a test that the web is drawn by a single drawLines(...) call.
+ * <p/>
+ * Only the operations overridden here are counted and forwarded, these are
+ * all operations the renderers use. The covered area is estimated from the
+ * bounds of every operation, transformations and clips are ignored.
+ */
+public class DrawStatsCanvas extends Canvas {
+
+    /**
+     * The counted types of operations.
+     */
+    public enum Op {
+
+        /** drawLine(...) */
+        LINE,
+
+        /** drawLines(...), see getLineSegmentCount() for the number of lines */
+        LINES,
+
+        POINTS,
+        CIRCLE,
+        OVAL,
+        ARC,
+        RECT,
+        ROUND_RECT,
+        PATH,
+        TEXT,
+        BITMAP,
+
+        /** drawColor(...) and drawPaint(...) */
+        COLOR,
+
+        CLIP,
+        SAVE,
+
+        /** saveLayer(...), every layer is an offscreen buffer */
+        SAVE_LAYER,
+
+        RESTORE,
+
+        /** translate(...), rotate(...), scale(...) and concat(...) */
+        TRANSFORM
+    }
+
+    private static final Op[] OPS = Op.values();
+
+    /**
+     * canvas the operations are forwarded to, null if none
+     */
+    private Canvas mTarget;
+
+    /**
+     * size of the canvas without a target, for the overdraw
+     */
+    private int mWidth;
+    private int mHeight;
+
+    private final int[] mCounts = new int[OPS.length];
+
+    private int mDrawCount;
+    private int mLineSegmentCount;
+    private int mPaintChangeCount;
+
+    /**
+     * estimated area in pixels covered by all draw operations
+     */
+    private double mCoveredArea;
+
+    /**
+     * paint state of the last draw operation
+     */
+    private Paint mLastPaint;
+    private int mLastColor;
+    private float mLastStrokeWidth;
+    private float mLastTextSize;
+    private Paint.Style mLastStyle;
+    private Object mLastShader;
+    private Object mLastPathEffect;
+    private Object mLastTypeface;
+
+    private final RectF mBounds = new RectF();
+
+    /**
+     * Sets the canvas the operations are forwarded to, null to only collect
+     * statistics.
+     *
+     * @param target
+     */
+    public void setTarget(Canvas target) {
+        mTarget = target;
+    }
+
+    public Canvas getTarget() {
+        return mTarget;
+    }
+
+    /**
+     * Sets the size of the canvas, used for the overdraw if there is no
+     * target.
+     *
+     * @param width
+     * @param height
+     */
+    public void setSize(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+    }
+
+    /**
+     * Resets all statistics, e.g. at the start of a frame.
+     */
+    public void reset() {
+
+        for (int i = 0; i < mCounts.length; i++) {
+            mCounts[i] = 0;
+        }
+
+        mDrawCount = 0;
+        mLineSegmentCount = 0;
+        mPaintChangeCount = 0;
+        mCoveredArea = 0.0;
+        mLastPaint = null;
+    }
+
+    /**
+     * Returns the number of operations of the given type.
+     *
+     * @param op
+     * @return
+     */
+    public int getCount(Op op) {
+        return mCounts[op.ordinal()];
+    }
+
+    /**
+     * Returns the number of draw operations, i.e. all operations except
+     * clips, saves, restores and transformations.
+     *
+     * @return
+     */
+    public int getDrawCount() {
+        return mDrawCount;
+    }
+
+    /**
+     * Returns the number of lines drawn by drawLine(...) and drawLines(...).
+     *
+     * @return
+     */
+    public int getLineSegmentCount() {
+        return mLineSegmentCount;
+    }
+
+    /**
+     * Returns the number of draw operations whose paint differs from the
+     * paint of the previous draw operation (another instance, or a changed
+     * color, stroke width, style, text size, shader, path effect or
+     * typeface).
+     *
+     * @return
+     */
+    public int getPaintChangeCount() {
+        return mPaintChangeCount;
+    }
+
+    /**
+     * Returns the estimated area in pixels covered by all draw operations.
+     *
+     * @return
+     */
+    public double getCoveredArea() {
+        return mCoveredArea;
+    }
+
+    /**
+     * Returns the estimated number of times every pixel of the canvas was
+     * drawn, 0 if the size of the canvas is unknown.
+     *
+     * @return
+     */
+    public float getOverdraw() {
+
+        double area = (double) getWidth() * getHeight();
+
+        return area > 0.0 ? (float) (mCoveredArea / area) : 0f;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("draws ").append(mDrawCount)
+                .append(", line segments ").append(mLineSegmentCount)
+                .append(", paint changes ").append(mPaintChangeCount)
+                .append(", overdraw ").append(getOverdraw());
+
+        for (Op op : OPS) {
+            if (mCounts[op.ordinal()] > 0)
+                sb.append(", ").append(op.name().toLowerCase()).append(' ').append(mCounts[op.ordinal()]);
+        }
+
+        return sb.toString();
+    }
+
+    private void count(Op op) {
+        mCounts[op.ordinal()]++;
+    }
+
+    /**
+     * Counts a draw operation.
+     *
+     * @param op
+     * @param paint       the paint of the operation, may be null
+     * @param coveredArea the estimated area covered by the operation
+     */
+    private void countDraw(Op op, Paint paint, double coveredArea) {
+
+        mCounts[op.ordinal()]++;
+        mDrawCount++;
+        mCoveredArea += coveredArea;
+
+        if (paint == null)
+            return;
+
+        if (paint != mLastPaint
+                || paint.getColor() != mLastColor
+                || paint.getStrokeWidth() != mLastStrokeWidth
+                || paint.getTextSize() != mLastTextSize
+                || paint.getStyle() != mLastStyle
+                || paint.getShader() != mLastShader
+                || paint.getPathEffect() != mLastPathEffect
+                || paint.getTypeface() != mLastTypeface) {
+
+            mPaintChangeCount++;
+
+            mLastPaint = paint;
+            mLastColor = paint.getColor();
+            mLastStrokeWidth = paint.getStrokeWidth();
+            mLastTextSize = paint.getTextSize();
+            mLastStyle = paint.getStyle();
+            mLastShader = paint.getShader();
+            mLastPathEffect = paint.getPathEffect();
+            mLastTypeface = paint.getTypeface();
+        }
+    }
+
+    /**
+     * Returns the area covered by a line of the given length.
+     */
+    private static double lineArea(float length, Paint paint) {
+        return length * Math.max(1f, paint.getStrokeWidth());
+    }
+
+    /**
+     * Returns the area covered by a shape with the given area and outline.
+     */
+    private static double shapeArea(double area, double outline, Paint paint) {
+
+        if (paint.getStyle() == Paint.Style.STROKE)
+            return outline * Math.max(1f, paint.getStrokeWidth());
+        else
+            return area;
+    }
+
+    private static double rectArea(float left, float top, float right, float bottom, Paint paint) {
+
+        float width = Math.abs(right - left);
+        float height = Math.abs(bottom - top);
+
+        return shapeArea(width * height, 2.0 * (width + height), paint);
+    }
+
+    private double fullArea() {
+        return (double) getWidth() * getHeight();
+    }
+
+    // ----------------------------------------------------------------------
+    // state
+
+    @Override
+    public int getWidth() {
+        return mTarget != null ? mTarget.getWidth() : mWidth;
+    }
+
+    @Override
+    public int getHeight() {
+        return mTarget != null ? mTarget.getHeight() : mHeight;
+    }
+
+    @Override
+    public boolean isHardwareAccelerated() {
+        return mTarget != null && mTarget.isHardwareAccelerated();
+    }
+
+    @Override
+    public int save() {
+        count(Op.SAVE);
+        return mTarget != null ? mTarget.save() : super.save();
+    }
+
+    @Override
+    public int saveLayer(RectF bounds, Paint paint) {
+        count(Op.SAVE_LAYER);
+        return mTarget != null ? mTarget.saveLayer(bounds, paint) : super.saveLayer(bounds, paint);
+    }
+
+    @Override
+    public int saveLayerAlpha(RectF bounds, int alpha) {
+        count(Op.SAVE_LAYER);
+        return mTarget != null ? mTarget.saveLayerAlpha(bounds, alpha) : super.saveLayerAlpha(bounds, alpha);
+    }
+
+    @Override
+    public void restore() {
+        count(Op.RESTORE);
+
+        if (mTarget != null)
+            mTarget.restore();
+        else
+            super.restore();
+    }
+
+    @Override
+    public void restoreToCount(int saveCount) {
+        count(Op.RESTORE);
+
+        if (mTarget != null)
+            mTarget.restoreToCount(saveCount);
+        else
+            super.restoreToCount(saveCount);
+    }
+
+    @Override
+    public int getSaveCount() {
+        return mTarget != null ? mTarget.getSaveCount() : super.getSaveCount();
+    }
+
+    @Override
+    public void translate(float dx, float dy) {
+        count(Op.TRANSFORM);
+
+        if (mTarget != null)
+            mTarget.translate(dx, dy);
+        else
+            super.translate(dx, dy);
+    }
+
+    @Override
+    public void rotate(float degrees) {
+        count(Op.TRANSFORM);
+
+        if (mTarget != null)
+            mTarget.rotate(degrees);
+        else
+            super.rotate(degrees);
+    }
+
+    @Override
+    public void scale(float sx, float sy) {
+        count(Op.TRANSFORM);
+
+        if (mTarget != null)
+            mTarget.scale(sx, sy);
+        else
+            super.scale(sx, sy);
+    }
+
+    @Override
+    public void concat(Matrix matrix) {
+        count(Op.TRANSFORM);
+
+        if (mTarget != null)
+            mTarget.concat(matrix);
+        else
+            super.concat(matrix);
+    }
+
+    @Override
+    public boolean clipRect(RectF rect) {
+        count(Op.CLIP);
+        return mTarget != null ? mTarget.clipRect(rect) : super.clipRect(rect);
+    }
+
+    @Override
+    public boolean clipRect(Rect rect) {
+        count(Op.CLIP);
+        return mTarget != null ? mTarget.clipRect(rect) : super.clipRect(rect);
+    }
+
+    @Override
+    public boolean clipRect(float left, float top, float right, float bottom) {
+        count(Op.CLIP);
+        return mTarget != null ? mTarget.clipRect(left, top, right, bottom)
+                : super.clipRect(left, top, right, bottom);
+    }
+
+    @Override
+    public boolean clipPath(Path path) {
+        count(Op.CLIP);
+        return mTarget != null ? mTarget.clipPath(path) : super.clipPath(path);
+    }
+
+    // ----------------------------------------------------------------------
+    // draw operations, not forwarded to super without a target as the base
+    // implementations may call other draw methods that would count again
+
+    @Override
+    public void drawColor(int color) {
+        countDraw(Op.COLOR, null, fullArea());
+
+        if (mTarget != null)
+            mTarget.drawColor(color);
+    }
+
+    @Override
+    public void drawColor(int color, PorterDuff.Mode mode) {
+        countDraw(Op.COLOR, null, fullArea());
+
+        if (mTarget != null)
+            mTarget.drawColor(color, mode);
+    }
+
+    @Override
+    public void drawPaint(Paint paint) {
+        countDraw(Op.COLOR, paint, fullArea());
+
+        if (mTarget != null)
+            mTarget.drawPaint(paint);
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+        mLineSegmentCount++;
+        countDraw(Op.LINE, paint, lineArea((float) Math.hypot(stopX - startX, stopY - startY), paint));
+
+        if (mTarget != null)
+            mTarget.drawLine(startX, startY, stopX, stopY, paint);
+    }
+
+    @Override
+    public void drawLines(float[] pts, Paint paint) {
+        drawLines(pts, 0, pts.length, paint);
+    }
+
+    @Override
+    public void drawLines(float[] pts, int offset, int count, Paint paint) {
+
+        float length = 0f;
+
+        for (int i = offset; i + 3 < offset + count; i += 4) {
+            length += (float) Math.hypot(pts[i + 2] - pts[i], pts[i + 3] - pts[i + 1]);
+        }
+
+        mLineSegmentCount += count / 4;
+        countDraw(Op.LINES, paint, lineArea(length, paint));
+
+        if (mTarget != null)
+            mTarget.drawLines(pts, offset, count, paint);
+    }
+
+    @Override
+    public void drawPoints(float[] pts, Paint paint) {
+        drawPoints(pts, 0, pts.length, paint);
+    }
+
+    @Override
+    public void drawPoints(float[] pts, int offset, int count, Paint paint) {
+
+        float size = Math.max(1f, paint.getStrokeWidth());
+
+        countDraw(Op.POINTS, paint, count / 2 * size * size);
+
+        if (mTarget != null)
+            mTarget.drawPoints(pts, offset, count, paint);
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, Paint paint) {
+        countDraw(Op.CIRCLE, paint, shapeArea(Math.PI * radius * radius, 2.0 * Math.PI * radius, paint));
+
+        if (mTarget != null)
+            mTarget.drawCircle(cx, cy, radius, paint);
+    }
+
+    @Override
+    public void drawOval(RectF oval, Paint paint) {
+
+        double a = oval.width() / 2.0;
+        double b = oval.height() / 2.0;
+
+        countDraw(Op.OVAL, paint, shapeArea(Math.PI * a * b, Math.PI * (a + b), paint));
+
+        if (mTarget != null)
+            mTarget.drawOval(oval, paint);
+    }
+
+    @Override
+    public void drawArc(RectF oval, float startAngle, float sweepAngle, boolean useCenter, Paint paint) {
+
+        double a = oval.width() / 2.0;
+        double b = oval.height() / 2.0;
+        double fraction = Math.min(1.0, Math.abs(sweepAngle) / 360.0);
+
+        countDraw(Op.ARC, paint, shapeArea(Math.PI * a * b, Math.PI * (a + b), paint) * fraction);
+
+        if (mTarget != null)
+            mTarget.drawArc(oval, startAngle, sweepAngle, useCenter, paint);
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+        countDraw(Op.RECT, paint, rectArea(left, top, right, bottom, paint));
+
+        if (mTarget != null)
+            mTarget.drawRect(left, top, right, bottom, paint);
+    }
+
+    @Override
+    public void drawRect(RectF rect, Paint paint) {
+        countDraw(Op.RECT, paint, rectArea(rect.left, rect.top, rect.right, rect.bottom, paint));
+
+        if (mTarget != null)
+            mTarget.drawRect(rect, paint);
+    }
+
+    @Override
+    public void drawRect(Rect r, Paint paint) {
+        countDraw(Op.RECT, paint, rectArea(r.left, r.top, r.right, r.bottom, paint));
+
+        if (mTarget != null)
+            mTarget.drawRect(r, paint);
+    }
+
+    @Override
+    public void drawRoundRect(RectF rect, float rx, float ry, Paint paint) {
+        countDraw(Op.ROUND_RECT, paint, rectArea(rect.left, rect.top, rect.right, rect.bottom, paint));
+
+        if (mTarget != null)
+            mTarget.drawRoundRect(rect, rx, ry, paint);
+    }
+
+    @Override
+    public void drawPath(Path path, Paint paint) {
+
+        path.computeBounds(mBounds, false);
+
+        countDraw(Op.PATH, paint, rectArea(mBounds.left, mBounds.top, mBounds.right, mBounds.bottom, paint));
+
+        if (mTarget != null)
+            mTarget.drawPath(path, paint);
+    }
+
+    @Override
+    public void drawText(String text, float x, float y, Paint paint) {
+        countDraw(Op.TEXT, paint, paint.measureText(text) * paint.getTextSize());
+
+        if (mTarget != null)
+            mTarget.drawText(text, x, y, paint);
+    }
+
+    @Override
+    public void drawText(String text, int start, int end, float x, float y, Paint paint) {
+        countDraw(Op.TEXT, paint, paint.measureText(text, start, end) * paint.getTextSize());
+
+        if (mTarget != null)
+            mTarget.drawText(text, start, end, x, y, paint);
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+        countDraw(Op.TEXT, paint, paint.measureText(text, index, count) * paint.getTextSize());
+
+        if (mTarget != null)
+            mTarget.drawText(text, index, count, x, y, paint);
+    }
+
+    @Override
+    public void drawText(CharSequence text, int start, int end, float x, float y, Paint paint) {
+        countDraw(Op.TEXT, paint, paint.measureText(text, start, end) * paint.getTextSize());
+
+        if (mTarget != null)
+            mTarget.drawText(text, start, end, x, y, paint);
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+        countDraw(Op.BITMAP, paint, (double) bitmap.getWidth() * bitmap.getHeight());
+
+        if (mTarget != null)
+            mTarget.drawBitmap(bitmap, left, top, paint);
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Rect src, RectF dst, Paint paint) {
+        countDraw(Op.BITMAP, paint, (double) dst.width() * dst.height());
+
+        if (mTarget != null)
+            mTarget.drawBitmap(bitmap, src, dst, paint);
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Rect src, Rect dst, Paint paint) {
+        countDraw(Op.BITMAP, paint, (double) dst.width() * dst.height());
+
+        if (mTarget != null)
+            mTarget.drawBitmap(bitmap, src, dst, paint);
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Matrix matrix, Paint paint) {
+        countDraw(Op.BITMAP, paint, (double) bitmap.getWidth() * bitmap.getHeight());
+
+        if (mTarget != null)
+            mTarget.drawBitmap(bitmap, matrix, paint);
+    }
+}
@@ -0,0 +1,175 @@
+package com.github.mikephil.charting.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+/**
+ * Calls a callback on the next frame on the main thread, like a Choreographer
+ * frame callback. The Choreographer only exists on API level 16 and above,
+ * below the frames are approximated by a Handler of the main thread that
+ * posts every 16 ms, with System.nanoTime() as the frame time.
+ * <p/>
+ * post() and remove() can be called on any thread. Only the main thread
+ * touches the Choreographer, getting it on a thread without a Looper throws.
+ * remove() on another thread only stops the callback from being called, the
+ * posted frame is dropped when it arrives.
+ */
+public class FrameTicker {
+
+    /**
+     * Called on the main thread on the frame after post().
+     */
+    public interface Callback {
+
+        /**
+         * @param frameTimeNanos the time the frame started, in the time base
+         *                       of System.nanoTime()
+         */
+        void doFrame(long frameTimeNanos);
+    }
+
+    /**
+     * interval of the frames without a Choreographer
+     */
+    private static final long FALLBACK_FRAME_MILLIS = 16L;
+
+    private final Callback mCallback;
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * the Choreographer callback, null below API level 16
+     */
+    private final ChoreographerFrame mChoreographerFrame;
+
+    /**
+     * true if the callback is called on the next frame
+     */
+    private volatile boolean mPosted = false;
+
+    /**
+     * true while a frame is posted to the Choreographer or the Handler, only
+     * accessed on the main thread
+     */
+    private boolean mQueued = false;
+
+    private final Runnable mFallbackFrame = new Runnable() {
+        @Override
+        public void run() {
+            onFrame(System.nanoTime());
+        }
+    };
+
+    /**
+     * queues the frame on the main thread after post() on another thread
+     */
+    private final Runnable mQueueFrame = new Runnable() {
+        @Override
+        public void run() {
+            queue();
+        }
+    };
+
+    /**
+     * @param callback
+     */
+    public FrameTicker(Callback callback) {
+        mCallback = callback;
+        mChoreographerFrame = Utils.getSDKInt() >= 16 ? new ChoreographerFrame(this) : null;
+    }
+
+    /**
+     * Calls the callback on the next frame. Does nothing if it is already
+     * posted.
+     */
+    public void post() {
+
+        mPosted = true;
+
+        if (isMainThread())
+            queue();
+        else
+            mHandler.post(mQueueFrame);
+    }
+
+    /**
+     * Stops the callback from being called on the next frame.
+     */
+    public void remove() {
+
+        mPosted = false;
+
+        if (!isMainThread() || !mQueued)
+            return;
+
+        mQueued = false;
+
+        if (mChoreographerFrame != null)
+            mChoreographerFrame.remove();
+        else
+            mHandler.removeCallbacks(mFallbackFrame);
+    }
+
+    /**
+     * Returns true if the callback is called on the next frame.
+     *
+     * @return
+     */
+    public boolean isPosted() {
+        return mPosted;
+    }
+
+    private void queue() {
+
+        if (!mPosted || mQueued)
+            return;
+
+        mQueued = true;
+
+        if (mChoreographerFrame != null)
+            mChoreographerFrame.post();
+        else
+            mHandler.postDelayed(mFallbackFrame, FALLBACK_FRAME_MILLIS);
+    }
+
+    private void onFrame(long frameTimeNanos) {
+
+        mQueued = false;
+
+        if (!mPosted)
+            return;
+
+        mPosted = false;
+        mCallback.doFrame(frameTimeNanos);
+    }
+
+    private static boolean isMainThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    /**
+     * Only loaded on API level 16 and above.
+     */
+    private static class ChoreographerFrame implements Choreographer.FrameCallback {
+
+        private final FrameTicker mTicker;
+
+        private ChoreographerFrame(FrameTicker ticker) {
+            mTicker = ticker;
+        }
+
+        private void post() {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        private void remove() {
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            mTicker.onFrame(frameTimeNanos);
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Typeface;
+
+import java.util.HashMap;
+
+/**
+ * Atlas of rasterized labels. Every distinct text (with its typeface and text
+ * size) is drawn once into a slot of a shared alpha bitmap, afterwards it is
+ * drawn by copying the slot with drawBitmap(...), which saves the shaping and
+ * rasterizing of the glyphs on every frame. The slots are tinted with the
+ * color of the paint they are drawn with, so the same text in different
+ * colors shares a slot. If all slots are taken, the least recently drawn
+ * label is evicted, as long as it was not drawn in the current or the
+ * previous frame. Texts that do not fit into a slot, or that would evict a
+ * label that is still in use, are drawn with drawText(...). These misses are
+ * remembered, so that a text is only measured once and the slots are only
+ * searched once per frame. Paints with a shader, a path effect or a mask
+ * filter are not rasterized, the effect would be applied to the slot instead
+ * of the glyphs. Call nextFrame() at the start of every frame.
+ */
+public class LabelAtlas {
+
+    /**
+     * frame of a miss that is not retried, because the text does not fit into
+     * a slot
+     */
+    private static final long OVERSIZED = Long.MAX_VALUE;
+
+    /**
+     * A text rasterized with the properties of a paint that change the shape
+     * of the glyphs.
+     */
+    private static final class Key {
+
+        String text;
+        Typeface typeface;
+        float textSize;
+        float textSkewX;
+        float textScaleX;
+        float strokeWidth;
+        int flags;
+        Paint.Style style;
+
+        /**
+         * the frame the text could not be rasterized in, OVERSIZED if it never
+         * can, only used by the keys of misses
+         */
+        long missFrame;
+
+        void set(String text, Paint paint) {
+            this.text = text;
+            typeface = paint.getTypeface();
+            textSize = paint.getTextSize();
+            textSkewX = paint.getTextSkewX();
+            textScaleX = paint.getTextScaleX();
+            strokeWidth = paint.getStrokeWidth();
+            flags = paint.getFlags();
+            style = paint.getStyle();
+        }
+
+        void clear() {
+            text = null;
+            typeface = null;
+        }
+
+        Key copy() {
+
+            Key key = new Key();
+            key.text = text;
+            key.typeface = typeface;
+            key.textSize = textSize;
+            key.textSkewX = textSkewX;
+            key.textScaleX = textScaleX;
+            key.strokeWidth = strokeWidth;
+            key.flags = flags;
+            key.style = style;
+
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key other = (Key) o;
+
+            return typeface == other.typeface
+                    && textSize == other.textSize
+                    && textSkewX == other.textSkewX
+                    && textScaleX == other.textScaleX
+                    && strokeWidth == other.strokeWidth
+                    && flags == other.flags
+                    && style == other.style
+                    && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = text.hashCode();
+            h = 31 * h + System.identityHashCode(typeface);
+            h = 31 * h + Float.floatToIntBits(textSize);
+            h = 31 * h + flags;
+            return h;
+        }
+    }
+
+    private final int mColumns;
+    private final int mRows;
+
+    private final int mSlotWidth;
+    private final int mSlotHeight;
+
+    private Bitmap mBitmap;
+    private Canvas mCanvas;
+
+    /**
+     * the slot of every rasterized label
+     */
+    private final HashMap<Key, Integer> mSlots = new HashMap<>();
+
+    /**
+     * texts that could not be rasterized, see Key.missFrame
+     */
+    private final HashMap<Key, Key> mMisses = new HashMap<>();
+
+    /**
+     * reused to look up labels without allocating a key
+     */
+    private final Key mProbe = new Key();
+
+    /**
+     * per slot, the label it holds (or null), the width and the ascent of the
+     * text and the frame it was last drawn in
+     */
+    private final Key[] mSlotKeys;
+    private final float[] mSlotWidths;
+    private final float[] mSlotAscents;
+    private final long[] mSlotLastUse;
+
+    private long mFrame = 0L;
+
+    /**
+     * the last frame in which no slot was free, no slot can be freed before
+     * the next frame
+     */
+    private long mFullFrame = -1L;
+
+    private final Paint mRasterPaint = new Paint();
+    private final Paint.FontMetrics mFontMetrics = new Paint.FontMetrics();
+
+    private final Rect mSrc = new Rect();
+    private final RectF mDst = new RectF();
+
+    /**
+     * @param columns    the number of slots per row
+     * @param rows       the number of rows of slots
+     * @param slotWidth  the width of a slot in pixels, longer texts are not
+     *                   rasterized
+     * @param slotHeight the height of a slot in pixels, larger texts are not
+     *                   rasterized
+     */
+    public LabelAtlas(int columns, int rows, int slotWidth, int slotHeight) {
+
+        mColumns = Math.max(1, columns);
+        mRows = Math.max(1, rows);
+        mSlotWidth = Math.max(1, slotWidth);
+        mSlotHeight = Math.max(1, slotHeight);
+
+        int slotCount = mColumns * mRows;
+
+        mSlotKeys = new Key[slotCount];
+        mSlotWidths = new float[slotCount];
+        mSlotAscents = new float[slotCount];
+        mSlotLastUse = new long[slotCount];
+
+        mRasterPaint.setColor(Color.BLACK);
+        mRasterPaint.setTextAlign(Paint.Align.LEFT);
+    }
+
+    /**
+     * Draws the given text like Canvas.drawText(...), from the atlas if it
+     * fits into a slot.
+     *
+     * @param c
+     * @param text
+     * @param x     the x-position of the text, depending on the text align of
+     *              the paint
+     * @param y     the baseline of the text
+     * @param paint
+     */
+    public void drawText(Canvas c, String text, float x, float y, Paint paint) {
+
+        int slot = getSlot(text, paint);
+
+        if (slot < 0) {
+            c.drawText(text, x, y, paint);
+            return;
+        }
+
+        mSlotLastUse[slot] = mFrame;
+
+        float width = mSlotWidths[slot];
+
+        Paint.Align align = paint.getTextAlign();
+
+        if (align == Paint.Align.CENTER)
+            x -= width / 2f;
+        else if (align == Paint.Align.RIGHT)
+            x -= width;
+
+        int left = (slot % mColumns) * mSlotWidth;
+        int top = (slot / mColumns) * mSlotHeight;
+
+        mSrc.set(left, top, left + mSlotWidth, top + mSlotHeight);
+
+        // whole pixels, so that the slot is copied without filtering
+        float dstLeft = Math.round(x);
+        float dstTop = Math.round(y + mSlotAscents[slot]);
+
+        mDst.set(dstLeft, dstTop, dstLeft + mSlotWidth, dstTop + mSlotHeight);
+
+        c.drawBitmap(mBitmap, mSrc, mDst, paint);
+    }
+
+    /**
+     * Returns the slot of the given text, rasterizes it if needed. Returns -1
+     * if the text is drawn without the atlas.
+     */
+    private int getSlot(String text, Paint paint) {
+
+        if (paint.getShader() != null || paint.getPathEffect() != null
+                || paint.getMaskFilter() != null)
+            return -1;
+
+        Key probe = mProbe;
+        probe.set(text, paint);
+
+        Integer cached = mSlots.get(probe);
+
+        if (cached != null) {
+            probe.clear();
+            return cached;
+        }
+
+        Key miss = mMisses.get(probe);
+
+        if (miss != null && (miss.missFrame == OVERSIZED || miss.missFrame == mFrame)) {
+            probe.clear();
+            return -1;
+        }
+
+        int slot = mFullFrame == mFrame ? -1 : findFreeSlot();
+
+        if (slot < 0) {
+            mFullFrame = mFrame;
+            addMiss(miss, mFrame);
+            return -1;
+        }
+
+        // everything but the color, which tints the slot when it is drawn
+        mRasterPaint.set(paint);
+        mRasterPaint.setColor(Color.BLACK);
+        mRasterPaint.setTextAlign(Paint.Align.LEFT);
+        mRasterPaint.setColorFilter(null);
+        mRasterPaint.setXfermode(null);
+
+        float width = mRasterPaint.measureText(text);
+        mRasterPaint.getFontMetrics(mFontMetrics);
+
+        if (width > mSlotWidth || mFontMetrics.descent - mFontMetrics.ascent > mSlotHeight) {
+            addMiss(miss, OVERSIZED);
+            return -1;
+        }
+
+        if (mBitmap == null) {
+            mBitmap = Bitmap.createBitmap(mColumns * mSlotWidth, mRows * mSlotHeight, Bitmap.Config.ALPHA_8);
+            mCanvas = new Canvas(mBitmap);
+        }
+
+        if (mSlotKeys[slot] != null)
+            mSlots.remove(mSlotKeys[slot]);
+
+        Key key = probe.copy();
+        probe.clear();
+
+        mSlotKeys[slot] = key;
+        mSlotWidths[slot] = width;
+        mSlotAscents[slot] = mFontMetrics.ascent;
+        mSlots.put(key, slot);
+
+        int left = (slot % mColumns) * mSlotWidth;
+        int top = (slot / mColumns) * mSlotHeight;
+
+        int save = mCanvas.save();
+
+        mCanvas.clipRect(left, top, left + mSlotWidth, top + mSlotHeight);
+        mCanvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+        mCanvas.drawText(text, left, top - mFontMetrics.ascent, mRasterPaint);
+
+        mCanvas.restoreToCount(save);
+
+        return slot;
+    }
+
+    /**
+     * Remembers that the text of the probe could not be rasterized in the
+     * given frame. Reuses the key of an earlier miss of the text if there is
+     * one, so that a text that misses on every frame does not allocate.
+     */
+    private void addMiss(Key miss, long frame) {
+
+        if (miss == null) {
+
+            // texts that changed are never looked up again, start over
+            // instead of growing without bounds
+            if (mMisses.size() >= mSlotKeys.length * 4)
+                mMisses.clear();
+
+            miss = mProbe.copy();
+            mMisses.put(miss, miss);
+        }
+
+        miss.missFrame = frame;
+        mProbe.clear();
+    }
+
+    /**
+     * Returns an empty slot, or the least recently drawn one if all slots are
+     * taken. Returns -1 if every label was drawn in the current or the
+     * previous frame, i.e. if more distinct labels are drawn than fit into the
+     * atlas. Evicting would then rasterize labels on every frame, the labels
+     * that do not fit are drawn as text instead.
+     */
+    private int findFreeSlot() {
+
+        int lru = 0;
+
+        for (int i = 0; i < mSlotKeys.length; i++) {
+
+            if (mSlotKeys[i] == null)
+                return i;
+
+            if (mSlotLastUse[i] < mSlotLastUse[lru])
+                lru = i;
+        }
+
+        if (mSlotLastUse[lru] >= mFrame - 1)
+            return -1;
+
+        return lru;
+    }
+
+    /**
+     * Starts a new frame, labels that are not drawn anymore can be evicted
+     * after a frame.
+     */
+    public void nextFrame() {
+        mFrame++;
+    }
+
+    /**
+     * Returns the number of labels held by the atlas.
+     *
+     * @return
+     */
+    public int size() {
+        return mSlots.size();
+    }
+
+    /**
+     * Removes all labels and frees the bitmap, it is allocated again when the
+     * next label is drawn.
+     */
+    public void clear() {
+
+        mSlots.clear();
+        mMisses.clear();
+        mFullFrame = -1L;
+
+        for (int i = 0; i < mSlotKeys.length; i++) {
+            mSlotKeys[i] = null;
+            mSlotLastUse[i] = 0L;
+        }
+
+        if (mBitmap != null) {
+            mBitmap.recycle();
+            mBitmap = null;
+            mCanvas = null;
+        }
+    }
+}
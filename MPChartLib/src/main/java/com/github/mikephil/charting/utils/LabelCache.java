@@ -0,0 +1,108 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+
+/**
+ * Caches formatted labels by index (e.g. by spoke), so that labels are not
+ * formatted again on every frame. A label is formatted again if its value or
+ * the formatter instance change. Formatters are expected to return the same
+ * label for the same value, call clear() if a formatter is modified (e.g. the
+ * number of digits of the default formatter).
+ */
+public class LabelCache {
+
+    private ValueFormatter mFormatter;
+
+    /**
+     * the raw bits of the values the labels were formatted for
+     */
+    private int[] mValueBits = new int[0];
+
+    private String[] mLabels = new String[0];
+
+    /**
+     * Returns the axis label of the given value at the given index.
+     *
+     * @param formatter
+     * @param index
+     * @param value
+     * @return
+     */
+    public String getAxisLabel(ValueFormatter formatter, int index, float value) {
+
+        int bits = Float.floatToIntBits(value);
+
+        if (isCached(formatter, index, bits))
+            return mLabels[index];
+
+        String label = formatter.getAxisLabel(value);
+        mValueBits[index] = bits;
+        mLabels[index] = label;
+
+        return label;
+    }
+
+    /**
+     * Returns the value label of the given entry at the given index.
+     *
+     * @param formatter
+     * @param index
+     * @param entry
+     * @return
+     */
+    public String getRadarLabel(ValueFormatter formatter, int index, RadarEntry entry) {
+
+        int bits = Float.floatToIntBits(entry.getY());
+
+        if (isCached(formatter, index, bits))
+            return mLabels[index];
+
+        String label = formatter.getRadarLabel(entry);
+        mValueBits[index] = bits;
+        mLabels[index] = label;
+
+        return label;
+    }
+
+    /**
+     * Removes all cached labels.
+     */
+    public void clear() {
+
+        mFormatter = null;
+
+        for (int i = 0; i < mLabels.length; i++) {
+            mLabels[i] = null;
+        }
+    }
+
+    /**
+     * Returns true if the label at the given index is cached, prepares the
+     * cache for storing it otherwise.
+     */
+    private boolean isCached(ValueFormatter formatter, int index, int bits) {
+
+        if (formatter != mFormatter) {
+            clear();
+            mFormatter = formatter;
+        }
+
+        if (index >= mLabels.length) {
+
+            int size = Math.max(index + 1, mLabels.length * 2);
+
+            int[] valueBits = new int[size];
+            System.arraycopy(mValueBits, 0, valueBits, 0, mValueBits.length);
+            mValueBits = valueBits;
+
+            String[] labels = new String[size];
+            System.arraycopy(mLabels, 0, labels, 0, mLabels.length);
+            mLabels = labels;
+
+            return false;
+        }
+
+        return mLabels[index] != null && mValueBits[index] == bits;
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Uniform grid of label bounding boxes used to place labels without overlap.
+ * Every box is registered in the cells it covers, so testing a new box only
+ * compares it against the boxes in its own cells instead of all placed boxes.
+ * Boxes outside of the bounds of the grid are clamped into its border cells.
+ * The buffers are reused across resets, placing the same number of labels
+ * again does not allocate.
+ */
+public class LabelGrid {
+
+    /**
+     * upper bound for the number of columns and rows, the cells are enlarged
+     * if the bounds would need more
+     */
+    private static final int MAX_CELLS_PER_SIDE = 64;
+
+    private float mLeft = 0f;
+    private float mTop = 0f;
+
+    private float mCellSize = 1f;
+
+    private int mColumns = 1;
+    private int mRows = 1;
+
+    /**
+     * indices of the boxes per cell, the number of used entries is held in
+     * mCellCounts
+     */
+    private int[][] mCells = new int[1][4];
+    private int[] mCellCounts = new int[1];
+
+    /**
+     * left, top, right and bottom of every placed box
+     */
+    private float[] mBoxes = new float[64];
+
+    private int mBoxCount = 0;
+
+    /**
+     * Removes all boxes and sets the area covered by the grid.
+     *
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     * @param cellSize the preferred width and height of a cell, e.g. the
+     *                 typical size of a label
+     */
+    public void reset(float left, float top, float right, float bottom, float cellSize) {
+
+        float width = Math.max(1f, right - left);
+        float height = Math.max(1f, bottom - top);
+
+        cellSize = Math.max(cellSize, Math.max(width, height) / MAX_CELLS_PER_SIDE);
+        cellSize = Math.max(1f, cellSize);
+
+        mLeft = left;
+        mTop = top;
+        mCellSize = cellSize;
+        mColumns = Math.max(1, (int) Math.ceil(width / cellSize));
+        mRows = Math.max(1, (int) Math.ceil(height / cellSize));
+
+        int cellCount = mColumns * mRows;
+
+        if (mCells.length < cellCount) {
+
+            int[][] cells = new int[cellCount][];
+            System.arraycopy(mCells, 0, cells, 0, mCells.length);
+
+            for (int i = mCells.length; i < cellCount; i++) {
+                cells[i] = new int[4];
+            }
+
+            mCells = cells;
+            mCellCounts = new int[cellCount];
+        }
+
+        for (int i = 0; i < cellCount; i++) {
+            mCellCounts[i] = 0;
+        }
+
+        mBoxCount = 0;
+    }
+
+    /**
+     * Places the given box if it does not overlap any placed box. Returns
+     * false if it overlaps and was not placed.
+     *
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     * @return
+     */
+    public boolean insert(float left, float top, float right, float bottom) {
+
+        int firstColumn = column(left);
+        int lastColumn = column(right);
+        int firstRow = row(top);
+        int lastRow = row(bottom);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+
+                int cell = row * mColumns + column;
+                int[] boxes = mCells[cell];
+
+                for (int i = 0; i < mCellCounts[cell]; i++) {
+
+                    int b = boxes[i] * 4;
+
+                    if (left < mBoxes[b + 2] && right > mBoxes[b]
+                            && top < mBoxes[b + 3] && bottom > mBoxes[b + 1])
+                        return false;
+                }
+            }
+        }
+
+        int index = mBoxCount++;
+
+        if (mBoxes.length < mBoxCount * 4) {
+            float[] grown = new float[mBoxes.length * 2];
+            System.arraycopy(mBoxes, 0, grown, 0, mBoxes.length);
+            mBoxes = grown;
+        }
+
+        mBoxes[index * 4] = left;
+        mBoxes[index * 4 + 1] = top;
+        mBoxes[index * 4 + 2] = right;
+        mBoxes[index * 4 + 3] = bottom;
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+
+                int cell = row * mColumns + column;
+                int count = mCellCounts[cell];
+
+                if (mCells[cell].length == count) {
+                    int[] grown = new int[count * 2];
+                    System.arraycopy(mCells[cell], 0, grown, 0, count);
+                    mCells[cell] = grown;
+                }
+
+                mCells[cell][count] = index;
+                mCellCounts[cell] = count + 1;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of placed boxes.
+     *
+     * @return
+     */
+    public int getBoxCount() {
+        return mBoxCount;
+    }
+
+    private int column(float x) {
+        int column = (int) Math.floor((x - mLeft) / mCellSize);
+        return Math.max(0, Math.min(mColumns - 1, column));
+    }
+
+    private int row(float y) {
+        int row = (int) Math.floor((y - mTop) / mCellSize);
+        return Math.max(0, Math.min(mRows - 1, row));
+    }
+}
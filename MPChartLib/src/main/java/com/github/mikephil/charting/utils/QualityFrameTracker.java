@@ -0,0 +1,165 @@
+package com.github.mikephil.charting.utils;
+
+import android.view.View;
+
+import com.github.mikephil.charting.listener.OnQualityChangeListener;
+import com.github.mikephil.charting.utils.QualityGovernor.Quality;
+
+/**
+ * Feeds a QualityGovernor with the frame times of a view. The time of a frame
+ * is the interval between the frames of a FrameTicker (the Choreographer
+ * frames on API level 16 and above) before and after it, so it covers the whole frame (input, animation, layout, drawing and
+ * everything else on the main thread) and not only the onDraw(...) of the
+ * view. Only frames the view was drawn in are passed to the governor: the
+ * first onDraw(...) posts a frame that re-posts itself as long as
+ * the view keeps drawing and stops when a frame passes without it.
+ * <p/>
+ * While the quality is reduced, the full quality is restored once the view
+ * has not been drawn for the idle delay of the governor. The idle check is
+ * posted once and re-armed from the time of the last frame, frames do not
+ * repost it.
+ */
+public class QualityFrameTracker {
+
+    private final View mView;
+
+    private final QualityGovernor mGovernor;
+
+    /**
+     * called when the governor changed the quality
+     */
+    private final OnQualityChangeListener mListener;
+
+    /**
+     * true if the view was drawn since the last frame callback
+     */
+    private boolean mDrawn = false;
+
+    private boolean mFrameCallbackPosted = false;
+
+    /**
+     * time of the last frame callback in nanoseconds, 0 if there was none
+     * since the view started drawing
+     */
+    private long mLastFrameTimeNanos = 0L;
+
+    /**
+     * System.nanoTime() of the last frame the view was drawn in
+     */
+    private long mLastDrawNanos = 0L;
+
+    private boolean mIdleCheckPosted = false;
+
+    private final FrameTicker mFrameTicker = new FrameTicker(new FrameTicker.Callback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            onFrame(frameTimeNanos);
+        }
+    });
+
+    private final Runnable mIdleCheck = new Runnable() {
+        @Override
+        public void run() {
+            checkIdle();
+        }
+    };
+
+    /**
+     * @param view     the view whose frames are tracked
+     * @param governor
+     * @param listener called on the main thread after the governor changed
+     *                 the quality
+     */
+    public QualityFrameTracker(View view, QualityGovernor governor, OnQualityChangeListener listener) {
+        mView = view;
+        mGovernor = governor;
+        mListener = listener;
+    }
+
+    public QualityGovernor getGovernor() {
+        return mGovernor;
+    }
+
+    /**
+     * Call from onDraw(...) of the view.
+     */
+    public void onDraw() {
+
+        mDrawn = true;
+        mLastDrawNanos = System.nanoTime();
+
+        if (!mFrameCallbackPosted) {
+            mFrameCallbackPosted = true;
+            mLastFrameTimeNanos = 0L;
+            mFrameTicker.post();
+        }
+    }
+
+    private void onFrame(long frameTimeNanos) {
+
+        if (!mDrawn) {
+            // the view stopped drawing, the next frame starts a new interval
+            mFrameCallbackPosted = false;
+            return;
+        }
+
+        mDrawn = false;
+
+        if (mLastFrameTimeNanos != 0L) {
+
+            long frameNanos = frameTimeNanos - mLastFrameTimeNanos;
+            Quality previous = mGovernor.getQuality();
+
+            if (mGovernor.onFrame(frameNanos))
+                mListener.onQualityChanged(previous, mGovernor.getQuality(), frameNanos);
+
+            if (mGovernor.getQuality() != Quality.FULL && !mIdleCheckPosted) {
+                mIdleCheckPosted = true;
+                mView.postDelayed(mIdleCheck, mGovernor.getIdleDelay());
+            }
+        }
+
+        mLastFrameTimeNanos = frameTimeNanos;
+        mFrameTicker.post();
+    }
+
+    /**
+     * Restores the full quality if the view was not drawn for the idle delay,
+     * otherwise checks again when the delay has passed since the last frame.
+     */
+    private void checkIdle() {
+
+        mIdleCheckPosted = false;
+
+        if (mGovernor.getQuality() == Quality.FULL)
+            return;
+
+        long idleMillis = (System.nanoTime() - mLastDrawNanos) / 1000000L;
+        long delay = mGovernor.getIdleDelay();
+
+        if (idleMillis < delay) {
+            mIdleCheckPosted = true;
+            mView.postDelayed(mIdleCheck, delay - idleMillis);
+            return;
+        }
+
+        Quality previous = mGovernor.getQuality();
+
+        if (mGovernor.onIdle())
+            mListener.onQualityChanged(previous, mGovernor.getQuality(), 0L);
+    }
+
+    /**
+     * Stops tracking, e.g. when the view is detached. Tracking starts again
+     * with the next onDraw().
+     */
+    public void stop() {
+
+        mFrameTicker.remove();
+        mView.removeCallbacks(mIdleCheck);
+
+        mFrameCallbackPosted = false;
+        mIdleCheckPosted = false;
+        mDrawn = false;
+    }
+}
@@ -0,0 +1,238 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.listener.OnQualityChangeListener;
+
+/**
+ * Steps the rendering quality of a chart down while frames take longer than
+ * the frame budget, and back up when frames are fast again or the chart is
+ * idle. A step down needs several consecutive frames over the budget, a step
+ * up many consecutive frames well below it, so that the quality does not
+ * flicker between two steps. The frame times are the intervals between
+ * consecutive frames, see QualityFrameTracker. All methods must be called on
+ * the main thread.
+ */
+public class QualityGovernor {
+
+    /**
+     * The quality steps, every step includes the degradations of the steps
+     * before it.
+     */
+    public enum Quality {
+
+        /** everything is drawn */
+        FULL,
+
+        /** the web and the data are drawn without anti-aliasing */
+        NO_ANTI_ALIAS,
+
+        /** the value labels are not drawn */
+        NO_VALUES,
+
+        /** only every n-th web line is drawn */
+        THIN_WEB,
+
+        /** fills are painted directly instead of through a clip path */
+        DIRECT_FILL
+    }
+
+    private static final Quality[] QUALITIES = Quality.values();
+
+    /**
+     * frames that take longer are over budget
+     */
+    private long mFrameBudgetNanos = 25000000L;
+
+    /**
+     * consecutive frames over budget that step the quality down
+     */
+    private int mDegradeFrameCount = 3;
+
+    /**
+     * frames that take less than this fraction of the budget count towards
+     * stepping the quality up
+     */
+    private float mRecoverFraction = 0.75f;
+
+    /**
+     * consecutive fast frames that step the quality up
+     */
+    private int mRecoverFrameCount = 120;
+
+    /**
+     * time without frames after which the full quality is restored
+     */
+    private long mIdleDelayMillis = 500L;
+
+    /**
+     * the lowest quality the governor steps down to
+     */
+    private Quality mMinQuality = Quality.DIRECT_FILL;
+
+    private Quality mQuality = Quality.FULL;
+
+    private int mSlowFrames = 0;
+    private int mFastFrames = 0;
+
+    private OnQualityChangeListener mListener;
+
+    /**
+     * Records the duration of a frame. Returns true if the quality changed.
+     *
+     * @param frameNanos
+     * @return
+     */
+    public boolean onFrame(long frameNanos) {
+
+        if (frameNanos > mFrameBudgetNanos) {
+
+            mFastFrames = 0;
+
+            if (++mSlowFrames >= mDegradeFrameCount && mQuality.ordinal() < mMinQuality.ordinal()) {
+                mSlowFrames = 0;
+                return setQuality(QUALITIES[mQuality.ordinal() + 1], frameNanos);
+            }
+
+        } else {
+
+            mSlowFrames = 0;
+
+            if (frameNanos < mFrameBudgetNanos * mRecoverFraction) {
+
+                if (++mFastFrames >= mRecoverFrameCount && mQuality != Quality.FULL) {
+                    mFastFrames = 0;
+                    return setQuality(QUALITIES[mQuality.ordinal() - 1], frameNanos);
+                }
+
+            } else {
+                mFastFrames = 0;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Restores the full quality, call when no frames were drawn for the idle
+     * delay. Returns true if the quality changed.
+     *
+     * @return
+     */
+    public boolean onIdle() {
+
+        mSlowFrames = 0;
+        mFastFrames = 0;
+
+        return setQuality(Quality.FULL, 0L);
+    }
+
+    private boolean setQuality(Quality quality, long frameNanos) {
+
+        if (quality == mQuality)
+            return false;
+
+        Quality previous = mQuality;
+        mQuality = quality;
+
+        if (mListener != null)
+            mListener.onQualityChanged(previous, quality, frameNanos);
+
+        return true;
+    }
+
+    /**
+     * Returns the current quality.
+     *
+     * @return
+     */
+    public Quality getQuality() {
+        return mQuality;
+    }
+
+    /**
+     * Sets the frame budget in milliseconds, frames that take longer count as
+     * slow. Default: 25 ms, i.e. a 60 Hz frame that missed its vsync. Lower
+     * it on displays with a higher refresh rate, e.g. to 12.5 ms at 120 Hz.
+     *
+     * @param millis
+     */
+    public void setFrameBudget(float millis) {
+        mFrameBudgetNanos = (long) (millis * 1000000.0);
+    }
+
+    public float getFrameBudget() {
+        return mFrameBudgetNanos / 1000000f;
+    }
+
+    /**
+     * Sets the number of consecutive slow frames that step the quality down.
+     * Default: 3
+     *
+     * @param count
+     */
+    public void setDegradeFrameCount(int count) {
+        mDegradeFrameCount = Math.max(1, count);
+    }
+
+    public int getDegradeFrameCount() {
+        return mDegradeFrameCount;
+    }
+
+    /**
+     * Sets when the quality is stepped up again: after the given number of
+     * consecutive frames that take less than the given fraction of the frame
+     * budget. Default: 120 frames below 0.75 of the budget, which every frame
+     * that is on time at 60 Hz is
+     *
+     * @param fraction between 0 and 1
+     * @param count
+     */
+    public void setRecovery(float fraction, int count) {
+        mRecoverFraction = Math.max(0f, Math.min(1f, fraction));
+        mRecoverFrameCount = Math.max(1, count);
+    }
+
+    public float getRecoverFraction() {
+        return mRecoverFraction;
+    }
+
+    public int getRecoverFrameCount() {
+        return mRecoverFrameCount;
+    }
+
+    /**
+     * Sets the time in milliseconds without frames after which the full
+     * quality is restored. Default: 500 ms
+     *
+     * @param millis
+     */
+    public void setIdleDelay(long millis) {
+        mIdleDelayMillis = Math.max(0L, millis);
+    }
+
+    public long getIdleDelay() {
+        return mIdleDelayMillis;
+    }
+
+    /**
+     * Sets the lowest quality the governor steps down to, e.g. NO_VALUES to
+     * keep the web and the fills untouched. Default: DIRECT_FILL
+     *
+     * @param quality
+     */
+    public void setMinQuality(Quality quality) {
+        mMinQuality = quality;
+    }
+
+    public Quality getMinQuality() {
+        return mMinQuality;
+    }
+
+    /**
+     * Sets a listener that is called whenever the quality changes.
+     *
+     * @param l
+     */
+    public void setOnQualityChangeListener(OnQualityChangeListener l) {
+        mListener = l;
+    }
+}
@@ -0,0 +1,389 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Streaming quantile estimator with bounded memory. The first values are kept
+ * exactly, once the buffer is full they are folded into a fixed number of
+ * equally wide bins. Values outside the covered range double the bin width
+ * (merging neighbouring bins), so memory stays constant no matter how many
+ * values are added. Values can also be removed again, which allows updating
+ * the sketch incrementally when a single source of values changes.
+ */
+public class QuantileSketch {
+
+    /**
+     * the number of bins (and the size of the exact buffer)
+     */
+    private final int mBinCount;
+
+    /**
+     * values kept exactly as long as the sketch is not yet binned
+     */
+    private final float[] mExact;
+
+    /**
+     * the number of values in the exact buffer
+     */
+    private int mExactCount = 0;
+
+    /**
+     * bin counts, null as long as the exact buffer is used
+     */
+    private int[] mBins = null;
+
+    /**
+     * lower bound of the first bin
+     */
+    private double mLow;
+
+    /**
+     * width of a single bin
+     */
+    private double mBinWidth;
+
+    /**
+     * the total number of values this sketch represents
+     */
+    private int mCount = 0;
+
+    private float mMin = Float.MAX_VALUE;
+    private float mMax = -Float.MAX_VALUE;
+
+    /**
+     * flag that indicates that min / max need to be re-derived from the bins
+     */
+    private boolean mMinMaxDirty = false;
+
+    /**
+     * buffer for sorting the exact values
+     */
+    private float[] mSortBuffer;
+
+    /**
+     * Constructor with the default resolution of 256 bins.
+     */
+    public QuantileSketch() {
+        this(256);
+    }
+
+    /**
+     * @param binCount the number of bins, determines memory usage and resolution
+     */
+    public QuantileSketch(int binCount) {
+
+        if (binCount < 2)
+            throw new IllegalArgumentException("QuantileSketch needs at least 2 bins.");
+
+        mBinCount = binCount;
+        mExact = new float[binCount];
+    }
+
+    /**
+     * Adds the given value to the sketch. NaN values are ignored.
+     *
+     * @param value
+     */
+    public void add(float value) {
+
+        if (Float.isNaN(value) || Float.isInfinite(value))
+            return;
+
+        mCount++;
+
+        if (value < mMin)
+            mMin = value;
+        if (value > mMax)
+            mMax = value;
+
+        if (mBins == null) {
+
+            if (mExactCount < mBinCount) {
+                mExact[mExactCount++] = value;
+                return;
+            }
+
+            convertToBins();
+        }
+
+        ensureRange(value);
+        mBins[binIndex(value)]++;
+    }
+
+    /**
+     * Removes a value that has previously been added to the sketch.
+     *
+     * @param value
+     */
+    public void remove(float value) {
+
+        if (Float.isNaN(value) || Float.isInfinite(value) || mCount == 0)
+            return;
+
+        if (mBins == null) {
+
+            for (int i = 0; i < mExactCount; i++) {
+                if (mExact[i] == value) {
+                    mExact[i] = mExact[--mExactCount];
+                    mCount--;
+                    recalcExactMinMax();
+                    return;
+                }
+            }
+            return;
+        }
+
+        int index = binIndex(value);
+
+        if (mBins[index] == 0)
+            return;
+
+        mBins[index]--;
+        mCount--;
+
+        if (value <= mMin || value >= mMax)
+            mMinMaxDirty = true;
+    }
+
+    /**
+     * Removes all values from the sketch.
+     */
+    public void clear() {
+        mExactCount = 0;
+        mBins = null;
+        mCount = 0;
+        mMin = Float.MAX_VALUE;
+        mMax = -Float.MAX_VALUE;
+        mMinMaxDirty = false;
+    }
+
+    /**
+     * Returns the number of values this sketch represents.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns the smallest value in the sketch. Exact as long as no extreme
+     * value was removed after binning, bin resolution otherwise.
+     *
+     * @return
+     */
+    public float getMin() {
+        updateMinMax();
+        return mMin;
+    }
+
+    /**
+     * Returns the largest value in the sketch. Exact as long as no extreme
+     * value was removed after binning, bin resolution otherwise.
+     *
+     * @return
+     */
+    public float getMax() {
+        updateMinMax();
+        return mMax;
+    }
+
+    /**
+     * Returns the estimated value at the given quantile (0 - 1). Returns NaN if
+     * the sketch is empty.
+     *
+     * @param quantile
+     * @return
+     */
+    public float getQuantile(float quantile) {
+
+        if (mCount == 0)
+            return Float.NaN;
+
+        if (quantile <= 0f)
+            return getMin();
+        if (quantile >= 1f)
+            return getMax();
+
+        if (mBins == null)
+            return exactQuantile(quantile);
+
+        double rank = quantile * mCount;
+        int cumulative = 0;
+
+        for (int i = 0; i < mBinCount; i++) {
+
+            int count = mBins[i];
+
+            if (count > 0 && cumulative + count >= rank) {
+
+                // interpolate linearly inside the bin
+                double fraction = (rank - cumulative) / count;
+                float value = (float) (mLow + (i + fraction) * mBinWidth);
+
+                return Math.max(getMin(), Math.min(getMax(), value));
+            }
+
+            cumulative += count;
+        }
+
+        return getMax();
+    }
+
+    private float exactQuantile(float quantile) {
+
+        if (mSortBuffer == null)
+            mSortBuffer = new float[mBinCount];
+
+        System.arraycopy(mExact, 0, mSortBuffer, 0, mExactCount);
+        Arrays.sort(mSortBuffer, 0, mExactCount);
+
+        double pos = quantile * (mExactCount - 1);
+        int lower = (int) pos;
+        int upper = Math.min(lower + 1, mExactCount - 1);
+        double fraction = pos - lower;
+
+        return (float) (mSortBuffer[lower] + (mSortBuffer[upper] - mSortBuffer[lower]) * fraction);
+    }
+
+    /**
+     * Switches from the exact buffer to the binned representation.
+     */
+    private void convertToBins() {
+
+        mBins = new int[mBinCount];
+
+        double range = mMax - mMin;
+
+        if (range <= 0)
+            range = Math.max(Math.abs(mMax), 1f) * 1e-3;
+
+        mLow = mMin;
+        // leave a little headroom so that the max value does not fall on the upper edge
+        mBinWidth = range * 1.0001 / mBinCount;
+
+        for (int i = 0; i < mExactCount; i++) {
+            mBins[binIndex(mExact[i])]++;
+        }
+
+        mExactCount = 0;
+    }
+
+    /**
+     * Doubles the bin width until the given value is inside the covered range.
+     *
+     * @param value
+     */
+    private void ensureRange(float value) {
+
+        while (value < mLow) {
+            // grow downwards, keep the upper edge in place
+            double high = mLow + mBinWidth * mBinCount;
+            mergeBins(false);
+            mLow = high - mBinWidth * mBinCount;
+        }
+
+        while (value >= mLow + mBinWidth * mBinCount) {
+            // grow upwards, keep the lower edge in place
+            mergeBins(true);
+        }
+    }
+
+    /**
+     * Merges neighbouring bins pairwise and doubles the bin width.
+     *
+     * @param alignLow true if the merged bins are packed towards the lower edge
+     */
+    private void mergeBins(boolean alignLow) {
+
+        int half = mBinCount / 2;
+
+        if (alignLow) {
+
+            for (int i = 0; i < half; i++) {
+                mBins[i] = mBins[2 * i] + mBins[2 * i + 1];
+            }
+
+            // odd bin counts carry the last bin over
+            if (mBinCount % 2 != 0) {
+                mBins[half] = mBins[mBinCount - 1];
+                half++;
+            }
+
+            Arrays.fill(mBins, half, mBinCount, 0);
+        } else {
+
+            for (int i = 0; i < half; i++) {
+                int src = mBinCount - 1 - 2 * i;
+                mBins[mBinCount - 1 - i] = mBins[src] + mBins[src - 1];
+            }
+
+            int filled = half;
+
+            if (mBinCount % 2 != 0) {
+                mBins[mBinCount - 1 - half] = mBins[0];
+                filled++;
+            }
+
+            Arrays.fill(mBins, 0, mBinCount - filled, 0);
+        }
+
+        mBinWidth *= 2.0;
+    }
+
+    private int binIndex(float value) {
+
+        int index = (int) ((value - mLow) / mBinWidth);
+
+        if (index < 0)
+            return 0;
+        if (index >= mBinCount)
+            return mBinCount - 1;
+
+        return index;
+    }
+
+    private void recalcExactMinMax() {
+
+        mMin = Float.MAX_VALUE;
+        mMax = -Float.MAX_VALUE;
+
+        for (int i = 0; i < mExactCount; i++) {
+            if (mExact[i] < mMin)
+                mMin = mExact[i];
+            if (mExact[i] > mMax)
+                mMax = mExact[i];
+        }
+    }
+
+    /**
+     * Re-derives min / max from the bin edges after an extreme value was removed.
+     */
+    private void updateMinMax() {
+
+        if (!mMinMaxDirty)
+            return;
+
+        mMinMaxDirty = false;
+
+        if (mCount == 0) {
+            mMin = Float.MAX_VALUE;
+            mMax = -Float.MAX_VALUE;
+            return;
+        }
+
+        for (int i = 0; i < mBinCount; i++) {
+            if (mBins[i] > 0) {
+                mMin = Math.max(mMin, (float) (mLow + i * mBinWidth));
+                break;
+            }
+        }
+
+        for (int i = mBinCount - 1; i >= 0; i--) {
+            if (mBins[i] > 0) {
+                mMax = Math.min(mMax, (float) (mLow + (i + 1) * mBinWidth));
+                break;
+            }
+        }
+    }
+}
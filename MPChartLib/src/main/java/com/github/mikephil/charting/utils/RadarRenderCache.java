@@ -0,0 +1,511 @@
+package com.github.mikephil.charting.utils;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.util.LruCache;
+
+import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarEnvelope;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Process-wide LRU cache of rendered charts, shared by all RadarChart
+ * instances. Bitmaps are keyed by everything that is drawn: the data, the
+ * size and the style of the chart, so a chart that is bound to content it (or
+ * any other chart) has already drawn only draws a single bitmap. A key holds
+ * all of its inputs and a hit compares them, the hash of a key only selects
+ * the candidates. Objects that are not copied into the key, like formatters,
+ * typefaces and drawables, are compared by identity and must therefore be
+ * immutable: modifying a formatter in place does not change the key, set a new
+ * instance instead. The cache is bounded by a byte budget and releases its
+ * bitmaps when the system asks the app to trim memory.
+ * <p/>
+ * The data of a chart can be large, so it is not part of the key of every
+ * lookup. Charts build a data key only when their data changes and map it to
+ * a data id with getDataId(...), equal data gets the same id. The key of a
+ * lookup then only holds the id, a hit costs the same no matter how many
+ * values are drawn.
+ */
+public class RadarRenderCache implements ComponentCallbacks2 {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static RadarRenderCache mInstance;
+
+    /**
+     * the maximum number of data keys that are mapped to ids, data that was
+     * evicted gets a new id (and misses the bitmaps of its old id)
+     */
+    private static final int MAX_DATA_IDS = 256;
+
+    /**
+     * the budget in bytes
+     */
+    private int mMaxBytes;
+
+    private final LruCache<Key, Bitmap> mCache;
+
+    private boolean mRegistered = false;
+
+    /**
+     * the id of every data key, ids are never reused
+     */
+    private final LruCache<Key, Long> mDataIds = new LruCache<>(MAX_DATA_IDS);
+
+    private long mNextDataId = 1L;
+
+    private RadarRenderCache(int maxBytes) {
+
+        mMaxBytes = maxBytes;
+
+        mCache = new LruCache<Key, Bitmap>(maxBytes) {
+
+            @Override
+            protected int sizeOf(Key key, Bitmap bitmap) {
+                return bitmap.getByteCount();
+            }
+        };
+    }
+
+    /**
+     * Returns the shared cache. The default budget is 1/8 of the maximum heap
+     * size.
+     *
+     * @return
+     */
+    public static synchronized RadarRenderCache getInstance() {
+
+        if (mInstance == null)
+            mInstance = new RadarRenderCache((int) Math.min(Integer.MAX_VALUE,
+                    Runtime.getRuntime().maxMemory() / 8));
+
+        return mInstance;
+    }
+
+    /**
+     * Registers the cache for memory trim callbacks of the application. Calling
+     * this more than once has no effect.
+     *
+     * @param context
+     */
+    public synchronized void register(Context context) {
+
+        if (mRegistered || context == null)
+            return;
+
+        context.getApplicationContext().registerComponentCallbacks(this);
+        mRegistered = true;
+    }
+
+    /**
+     * Sets the maximum number of bytes the cached bitmaps may use. Bitmaps are
+     * evicted if the cache is larger than the new budget.
+     *
+     * @param maxBytes
+     */
+    public void setMaxBytes(int maxBytes) {
+        mMaxBytes = Math.max(1, maxBytes);
+        mCache.resize(mMaxBytes);
+    }
+
+    public int getMaxBytes() {
+        return mMaxBytes;
+    }
+
+    /**
+     * Returns the number of bytes currently used by cached bitmaps.
+     *
+     * @return
+     */
+    public int getSize() {
+        return mCache.size();
+    }
+
+    /**
+     * Returns the id of the given data key (see addData(...) and
+     * addEnvelope(...)), the same id for keys with the same inputs. Add the id
+     * to the key of a lookup instead of the data. This compares the whole data
+     * key, call it only when the data changed.
+     *
+     * @param dataKey
+     * @return
+     */
+    public synchronized long getDataId(Key dataKey) {
+
+        Long id = mDataIds.get(dataKey);
+
+        if (id == null) {
+            id = mNextDataId++;
+            mDataIds.put(dataKey.copy(), id);
+        }
+
+        return id;
+    }
+
+    /**
+     * Returns the bitmap cached for a key with the same inputs as the given
+     * key, or null.
+     *
+     * @param key
+     * @return
+     */
+    public Bitmap get(Key key) {
+        return mCache.get(key);
+    }
+
+    /**
+     * Caches the given bitmap. The cache stores a copy of the key, so the key
+     * can be reused afterwards. The bitmap must not be modified anymore.
+     *
+     * @param key
+     * @param bitmap
+     */
+    public void put(Key key, Bitmap bitmap) {
+        mCache.put(key.copy(), bitmap);
+    }
+
+    /**
+     * Returns true if a bitmap of the given size fits into the budget without
+     * evicting more than half of the cache.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    public boolean fits(int width, int height) {
+        return (long) width * height * 4 <= mMaxBytes / 2;
+    }
+
+    /**
+     * Removes all bitmaps from the cache.
+     */
+    public void clear() {
+        mCache.evictAll();
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+
+        if (level >= TRIM_MEMORY_MODERATE || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+            mCache.evictAll();
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            mCache.trimToSize(mMaxBytes / 2);
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        mCache.evictAll();
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+        // nothing to do
+    }
+
+    /**
+     * ###### ###### KEYS ###### ######
+     */
+
+    /**
+     * Adds everything in the given data object that is drawn to the key: all
+     * values, colors, labels and fill and value-text settings.
+     *
+     * @param key
+     * @param data
+     */
+    public static void addData(Key key, RadarData data) {
+
+        for (int i = 0; i < data.getDataSetCount(); i++) {
+
+            IRadarDataSet set = data.getDataSetByIndex(i);
+            int count = set.getEntryCount();
+
+            key.add(count);
+
+            for (int j = 0; j < count; j++) {
+                key.add(set.getYForIndex(j));
+            }
+
+            key.add(set.getColors().length);
+
+            for (int color : set.getColors()) {
+                key.add(color);
+            }
+
+            key.add(set.getValueTextColors().length);
+
+            for (int color : set.getValueTextColors()) {
+                key.add(color);
+            }
+
+            key.addValue(set.getLabel());
+            key.add(set.getFillColor());
+            key.add(set.getFillAlpha());
+            key.add(set.getValueTextSize());
+            key.addRef(set.getValueTypeface());
+            key.addRef(set.getFillDrawable());
+            key.addRef(set.getValueFormatter());
+            key.add((set.isDrawFilledEnabled() ? 1 : 0) | (set.isDrawValuesEnabled() ? 2 : 0)
+                    | (set.isVisible() ? 4 : 0));
+        }
+    }
+
+    /**
+     * Adds the bands and the median of the given envelope to the key.
+     *
+     * @param key
+     * @param envelope
+     */
+    public static void addEnvelope(Key key, RadarEnvelope envelope) {
+
+        int spokes = envelope.getSpokeCount();
+
+        key.add(spokes);
+        key.add(envelope.getBands().size());
+
+        for (int b = 0; b < envelope.getBands().size(); b++) {
+
+            RadarEnvelope.Band band = envelope.getBands().get(b);
+            float[] lower = envelope.getBandLower(b);
+            float[] upper = envelope.getBandUpper(b);
+
+            key.add(band.getColor());
+            key.add(band.getAlpha());
+
+            for (int j = 0; j < spokes; j++) {
+                key.add(lower[j]);
+                key.add(upper[j]);
+            }
+        }
+
+        key.add(envelope.isDrawMedianEnabled());
+
+        if (envelope.isDrawMedianEnabled()) {
+
+            float[] median = envelope.getMedian();
+
+            for (int j = 0; j < spokes; j++) {
+                key.add(median[j]);
+            }
+
+            key.add(envelope.getMedianColor());
+            key.add(envelope.getMedianLineWidth());
+        }
+    }
+
+    /**
+     * Key of a rendered chart. It records its inputs in three kinds: numbers,
+     * values that are compared with equals(...) and must be immutable (e.g.
+     * Strings or copies of other keys) and references that are compared by
+     * identity. Two keys are equal if all of their inputs are equal, the 64
+     * bit FNV-1a hash of the inputs is only used to find candidates. A key can
+     * be reset and refilled without allocating, e.g. to look up a chart on
+     * every frame. The copies stored by the cache hold the references weakly,
+     * so that the cache does not keep formatters (and the activities they may
+     * belong to) alive. A copy whose reference was collected never matches
+     * again and is evicted eventually.
+     */
+    public static final class Key {
+
+        /**
+         * stands in for a reference that was collected
+         */
+        private static final Object COLLECTED = new Object();
+
+        private int[] mInts;
+        private int mIntCount = 0;
+
+        private Object[] mValues;
+        private int mValueCount = 0;
+
+        /**
+         * the references, wrapped into WeakReferences if the key is a copy
+         */
+        private Object[] mRefs;
+        private int mRefCount = 0;
+
+        private boolean mWeak = false;
+
+        private long mHash = FNV_OFFSET;
+
+        public Key() {
+            mInts = new int[64];
+            mValues = new Object[8];
+            mRefs = new Object[8];
+        }
+
+        /**
+         * Removes all inputs.
+         */
+        public void reset() {
+
+            Arrays.fill(mValues, 0, mValueCount, null);
+            Arrays.fill(mRefs, 0, mRefCount, null);
+
+            mIntCount = 0;
+            mValueCount = 0;
+            mRefCount = 0;
+            mHash = FNV_OFFSET;
+        }
+
+        public void add(int value) {
+
+            if (mIntCount == mInts.length)
+                mInts = Arrays.copyOf(mInts, mIntCount * 2);
+
+            mInts[mIntCount++] = value;
+            mHash = mix(mHash, value);
+        }
+
+        public void add(long value) {
+            add((int) value);
+            add((int) (value >>> 32));
+        }
+
+        public void add(float value) {
+            add(Float.floatToIntBits(value));
+        }
+
+        public void add(boolean value) {
+            add(value ? 1 : 0);
+        }
+
+        /**
+         * Adds a value that is compared with equals(...). The value must not
+         * be modified while the key is in use.
+         *
+         * @param value
+         */
+        public void addValue(Object value) {
+
+            if (mValueCount == mValues.length)
+                mValues = Arrays.copyOf(mValues, mValueCount * 2);
+
+            mValues[mValueCount++] = value;
+            mHash = mix(mHash, value == null ? 0 : value.hashCode());
+        }
+
+        /**
+         * Adds a reference that is compared by identity.
+         *
+         * @param ref
+         */
+        public void addRef(Object ref) {
+
+            if (mRefCount == mRefs.length)
+                mRefs = Arrays.copyOf(mRefs, mRefCount * 2);
+
+            mRefs[mRefCount++] = ref;
+            mHash = mix(mHash, System.identityHashCode(ref));
+        }
+
+        /**
+         * Returns a copy of this key that holds its references weakly.
+         *
+         * @return
+         */
+        public Key copy() {
+
+            Key copy = new Key();
+
+            copy.mInts = Arrays.copyOf(mInts, mIntCount);
+            copy.mIntCount = mIntCount;
+            copy.mValues = Arrays.copyOf(mValues, mValueCount);
+            copy.mValueCount = mValueCount;
+            copy.mRefs = new Object[mRefCount];
+            copy.mRefCount = mRefCount;
+            copy.mWeak = true;
+            copy.mHash = mHash;
+
+            for (int i = 0; i < mRefCount; i++) {
+
+                Object ref = mRefs[i];
+
+                if (ref != null && !mWeak)
+                    ref = new WeakReference<>(ref);
+
+                copy.mRefs[i] = ref;
+            }
+
+            return copy;
+        }
+
+        private Object getRef(int index) {
+
+            Object ref = mRefs[index];
+
+            if (mWeak && ref != null) {
+                ref = ((WeakReference<?>) ref).get();
+
+                if (ref == null)
+                    ref = COLLECTED;
+            }
+
+            return ref;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o)
+                return true;
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key other = (Key) o;
+
+            if (mHash != other.mHash
+                    || mIntCount != other.mIntCount
+                    || mValueCount != other.mValueCount
+                    || mRefCount != other.mRefCount)
+                return false;
+
+            for (int i = 0; i < mIntCount; i++) {
+                if (mInts[i] != other.mInts[i])
+                    return false;
+            }
+
+            for (int i = 0; i < mRefCount; i++) {
+                if (getRef(i) != other.getRef(i) || getRef(i) == COLLECTED)
+                    return false;
+            }
+
+            for (int i = 0; i < mValueCount; i++) {
+
+                Object value = mValues[i];
+                Object otherValue = other.mValues[i];
+
+                if (value == null ? otherValue != null : !value.equals(otherValue))
+                    return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (mHash ^ (mHash >>> 32));
+        }
+    }
+
+    /**
+     * Mixes the given value into the hash (64 bit FNV-1a).
+     */
+    private static long mix(long h, int value) {
+
+        h = (h ^ (value & 0xff)) * FNV_PRIME;
+        h = (h ^ ((value >>> 8) & 0xff)) * FNV_PRIME;
+        h = (h ^ ((value >>> 16) & 0xff)) * FNV_PRIME;
+        h = (h ^ (value >>> 24)) * FNV_PRIME;
+
+        return h;
+    }
+}
@@ -0,0 +1,205 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Transforms radar values into pixels. Every spoke has its own linear scale
+ * (radius = value * scale + offset) and its own direction, both are
+ * precomputed into primitive arrays whenever the data, the ranges or the size
+ * of the chart change. Projecting a vertex then is a single multiply-add and
+ * two table lookups instead of per-vertex range and trigonometry calculations.
+ */
+public class RadarTransformer {
+
+    /**
+     * pixels per value unit per spoke
+     */
+    private float[] mScale = new float[0];
+
+    /**
+     * radius offset in pixels per spoke
+     */
+    private float[] mOffset = new float[0];
+
+    /**
+     * direction of each spoke
+     */
+    private float[] mCos = new float[0];
+    private float[] mSin = new float[0];
+
+    private int mSpokeCount = 0;
+
+    private float mCenterX = 0f;
+    private float mCenterY = 0f;
+
+    /**
+     * incremented whenever the scale, the offset, the direction or the center
+     * change
+     */
+    private int mVersion = 0;
+
+    /**
+     * Sets the number of spokes and their directions.
+     *
+     * @param spokeCount
+     * @param sliceAngle    the angle between two spokes in degrees
+     * @param rotationAngle the angle of the first spoke in degrees
+     */
+    public void setSpokes(int spokeCount, float sliceAngle, float rotationAngle) {
+
+        if (mScale.length < spokeCount) {
+            mScale = new float[spokeCount];
+            mOffset = new float[spokeCount];
+            mCos = new float[spokeCount];
+            mSin = new float[spokeCount];
+        }
+
+        mSpokeCount = spokeCount;
+        mVersion++;
+
+        for (int j = 0; j < spokeCount; j++) {
+            double angle = Math.toRadians(sliceAngle * j + rotationAngle);
+            mCos[j] = (float) Math.cos(angle);
+            mSin[j] = (float) Math.sin(angle);
+        }
+    }
+
+    /**
+     * Rotates the directions of all spokes by the given angle, without
+     * recalculating them from scratch. Used while the chart is rotated by a
+     * gesture, call setSpokes(...) afterwards to remove rounding errors.
+     *
+     * @param degrees
+     */
+    public void rotate(float degrees) {
+
+        double angle = Math.toRadians(degrees);
+
+        float c = (float) Math.cos(angle);
+        float s = (float) Math.sin(angle);
+
+        mVersion++;
+
+        for (int j = 0; j < mSpokeCount; j++) {
+
+            float cos = mCos[j];
+            float sin = mSin[j];
+
+            mCos[j] = cos * c - sin * s;
+            mSin[j] = sin * c + cos * s;
+        }
+    }
+
+    /**
+     * Sets the center of the chart in pixels.
+     *
+     * @param x
+     * @param y
+     */
+    public void setCenter(float x, float y) {
+        mCenterX = x;
+        mCenterY = y;
+        mVersion++;
+    }
+
+    /**
+     * Maps the given value range of a spoke onto the radius of the chart.
+     *
+     * @param spoke
+     * @param min    the value drawn at the center
+     * @param range  the range of values between the center and the outer web
+     * @param radius the radius of the web in pixels
+     */
+    public void setRange(int spoke, float min, float range, float radius) {
+
+        float scale = range > 0f ? radius / range : 0f;
+
+        mScale[spoke] = scale;
+        mOffset[spoke] = -min * scale;
+        mVersion++;
+    }
+
+    /**
+     * Returns the distance from the center in pixels of the given value on the
+     * given spoke.
+     *
+     * @param spoke
+     * @param value
+     * @return
+     */
+    public float getRadius(int spoke, float value) {
+        return value * mScale[spoke] + mOffset[spoke];
+    }
+
+    /**
+     * Calculates the pixel position of the given value on the given spoke.
+     *
+     * @param spoke
+     * @param value
+     * @param outputPoint
+     */
+    public void getPosition(int spoke, float value, MPPointF outputPoint) {
+
+        float r = value * mScale[spoke] + mOffset[spoke];
+
+        outputPoint.x = mCenterX + r * mCos[spoke];
+        outputPoint.y = mCenterY + r * mSin[spoke];
+    }
+
+    /**
+     * Returns the scale per spoke, do not modify.
+     *
+     * @return
+     */
+    public float[] getScale() {
+        return mScale;
+    }
+
+    /**
+     * Returns the offset per spoke, do not modify.
+     *
+     * @return
+     */
+    public float[] getOffset() {
+        return mOffset;
+    }
+
+    /**
+     * Returns the cosine of the angle per spoke, do not modify.
+     *
+     * @return
+     */
+    public float[] getCos() {
+        return mCos;
+    }
+
+    /**
+     * Returns the sine of the angle per spoke, do not modify.
+     *
+     * @return
+     */
+    public float[] getSin() {
+        return mSin;
+    }
+
+    /**
+     * Returns a number that changes whenever the projection changes, results
+     * derived from the projected positions are valid as long as it is the
+     * same.
+     *
+     * @return
+     */
+    public int getVersion() {
+        return mVersion;
+    }
+
+    public int getSpokeCount() {
+        return mSpokeCount;
+    }
+
+    public float getCenterX() {
+        return mCenterX;
+    }
+
+    public float getCenterY() {
+        return mCenterY;
+    }
+}
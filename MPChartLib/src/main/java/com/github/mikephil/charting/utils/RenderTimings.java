@@ -0,0 +1,157 @@
+package com.github.mikephil.charting.utils;
+
+import android.os.Trace;
+
+/**
+ * Records how long the phases of drawing and laying out a chart take. Every
+ * phase has the duration of its last run and a rolling histogram over its
+ * recent runs. Optionally every phase is also emitted as an android.os.Trace
+ * section, so it shows up in systrace / Perfetto. Only used when enabled on
+ * the chart, all methods must be called on the main thread.
+ */
+public class RenderTimings {
+
+    /**
+     * The recorded phases.
+     */
+    public enum Phase {
+
+        /** the whole onDraw(...) */
+        FRAME("RadarChart.onDraw"),
+
+        /** draw phases */
+        X_AXIS_LABELS("RadarChart.xAxisLabels"),
+        WEB("RadarChart.web"),
+        DATA("RadarChart.data"),
+        Y_AXIS_LABELS("RadarChart.yAxisLabels"),
+        VALUES("RadarChart.values"),
+        LEGEND("RadarChart.legend"),
+
+        /** layout phases */
+        CALC_MIN_MAX("RadarChart.calcMinMax"),
+        COMPUTE_AXIS("RadarChart.computeAxis"),
+        COMPUTE_LEGEND("RadarChart.computeLegend"),
+        CALCULATE_OFFSETS("RadarChart.calculateOffsets");
+
+        private final String mSectionName;
+
+        Phase(String sectionName) {
+            mSectionName = sectionName;
+        }
+
+        /**
+         * Returns the name of the trace section of the phase.
+         *
+         * @return
+         */
+        public String getSectionName() {
+            return mSectionName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final TimingHistogram[] mHistograms = new TimingHistogram[PHASES.length];
+
+    /**
+     * start time of the running phases
+     */
+    private final long[] mStart = new long[PHASES.length];
+
+    private boolean mTraceEnabled = false;
+
+    /**
+     * @param windowSize the number of runs the histograms cover per phase
+     */
+    public RenderTimings(int windowSize) {
+
+        for (int i = 0; i < mHistograms.length; i++) {
+            mHistograms[i] = new TimingHistogram(windowSize);
+        }
+    }
+
+    /**
+     * If enabled, every phase is emitted as an android.os.Trace section
+     * (API 18 and above). Default: false
+     *
+     * @param enabled
+     */
+    public void setTraceEnabled(boolean enabled) {
+        mTraceEnabled = enabled;
+    }
+
+    public boolean isTraceEnabled() {
+        return mTraceEnabled;
+    }
+
+    /**
+     * Marks the start of the given phase. Phases may be nested, but a phase
+     * must end before it begins again.
+     *
+     * @param phase
+     */
+    public void begin(Phase phase) {
+
+        if (mTraceEnabled && Utils.getSDKInt() >= 18)
+            Trace.beginSection(phase.getSectionName());
+
+        mStart[phase.ordinal()] = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of the given phase and records its duration.
+     *
+     * @param phase
+     */
+    public void end(Phase phase) {
+
+        long duration = System.nanoTime() - mStart[phase.ordinal()];
+
+        mHistograms[phase.ordinal()].record(duration);
+
+        if (mTraceEnabled && Utils.getSDKInt() >= 18)
+            Trace.endSection();
+    }
+
+    /**
+     * Returns the duration of the last run of the given phase in nanoseconds.
+     *
+     * @param phase
+     * @return
+     */
+    public long getLastNanos(Phase phase) {
+        return mHistograms[phase.ordinal()].getLast();
+    }
+
+    /**
+     * Returns the rolling histogram of the given phase.
+     *
+     * @param phase
+     * @return
+     */
+    public TimingHistogram getHistogram(Phase phase) {
+        return mHistograms[phase.ordinal()];
+    }
+
+    /**
+     * Removes all recorded timings.
+     */
+    public void reset() {
+
+        for (TimingHistogram histogram : mHistograms) {
+            histogram.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder("RenderTimings");
+
+        for (Phase phase : PHASES) {
+            sb.append("\n").append(phase).append(": ").append(getHistogram(phase));
+        }
+
+        return sb.toString();
+    }
+}
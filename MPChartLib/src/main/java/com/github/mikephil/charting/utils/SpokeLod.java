@@ -0,0 +1,53 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Level of detail for charts with more spokes than pixels along the web.
+ * Adjacent spokes are grouped into buckets of a fixed arc length, so the
+ * number of drawn vertices, web lines and labels depends on the size of the
+ * chart instead of the number of spokes.
+ */
+public final class SpokeLod {
+
+    /**
+     * arc length in pixels at the outer web covered by one bucket of spokes,
+     * a bucket keeps up to two vertices (its minimum and maximum)
+     */
+    public static final float BUCKET_WIDTH = 2f;
+
+    private SpokeLod() {
+    }
+
+    /**
+     * Returns the number of buckets the given number of spokes are grouped
+     * into at the given radius, at most the number of spokes.
+     *
+     * @param spokeCount
+     * @param radius     the radius of the web in pixels
+     * @return
+     */
+    public static int getBucketCount(int spokeCount, float radius) {
+
+        int buckets = (int) (2.0 * Math.PI * radius / BUCKET_WIDTH);
+
+        return Math.max(1, Math.min(spokeCount, buckets));
+    }
+
+    /**
+     * Returns the step between two drawn spokes (1 = every spoke), so that
+     * they are at least the given distance apart at the given radius.
+     *
+     * @param spokeCount
+     * @param radius     the radius in pixels the distance is measured at
+     * @param minSpacing the minimum distance in pixels
+     * @return
+     */
+    public static int getStep(int spokeCount, float radius, float minSpacing) {
+
+        if (spokeCount <= 0 || radius <= 0f)
+            return 1;
+
+        double spacing = 2.0 * Math.PI * radius / spokeCount;
+
+        return Math.max(1, (int) Math.ceil(minSpacing / spacing));
+    }
+}
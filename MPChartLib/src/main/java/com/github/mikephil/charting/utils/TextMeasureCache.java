@@ -0,0 +1,104 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import java.util.HashMap;
+
+/**
+ * Caches the widths of texts measured with a Paint, so that labels that are
+ * drawn again and again (e.g. in every cell of a grid or in every frame) are
+ * only measured once. The cache is cleared automatically when the text size
+ * or the typeface of the paint change.
+ */
+public class TextMeasureCache {
+
+    private final Paint mPaint;
+
+    /**
+     * the text size and typeface the cached values were measured with
+     */
+    private float mTextSize;
+    private Typeface mTypeface;
+
+    private final HashMap<String, Float> mWidths = new HashMap<>();
+
+    private float mLineHeight = Float.NaN;
+
+    /**
+     * the maximum number of cached widths, the cache is cleared if it is full
+     */
+    private final int mMaxSize;
+
+    /**
+     * @param paint   the paint the texts are measured with
+     * @param maxSize the maximum number of cached widths
+     */
+    public TextMeasureCache(Paint paint, int maxSize) {
+        mPaint = paint;
+        mMaxSize = Math.max(1, maxSize);
+        mTextSize = paint.getTextSize();
+        mTypeface = paint.getTypeface();
+    }
+
+    public Paint getPaint() {
+        return mPaint;
+    }
+
+    /**
+     * Returns the width of the given text drawn with the paint.
+     *
+     * @param text
+     * @return
+     */
+    public float getWidth(String text) {
+
+        validate();
+
+        Float width = mWidths.get(text);
+
+        if (width == null) {
+
+            if (mWidths.size() >= mMaxSize)
+                mWidths.clear();
+
+            width = mPaint.measureText(text);
+            mWidths.put(text, width);
+        }
+
+        return width;
+    }
+
+    /**
+     * Returns the line height of the paint.
+     *
+     * @return
+     */
+    public float getLineHeight() {
+
+        validate();
+
+        if (Float.isNaN(mLineHeight))
+            mLineHeight = Utils.getLineHeight(mPaint);
+
+        return mLineHeight;
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        mWidths.clear();
+        mLineHeight = Float.NaN;
+    }
+
+    private void validate() {
+
+        if (mPaint.getTextSize() != mTextSize || mPaint.getTypeface() != mTypeface) {
+
+            mTextSize = mPaint.getTextSize();
+            mTypeface = mPaint.getTypeface();
+            clear();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Rolling histogram of durations in nanoseconds over the last n samples.
+ * Samples are kept in a ring buffer and counted in logarithmic buckets with
+ * four linear sub-buckets per power of two, so percentiles are accurate to
+ * 25% and recording a sample is a few arithmetic operations without any
+ * allocations. Not thread safe, record and read on the same thread.
+ */
+public class TimingHistogram {
+
+    /**
+     * durations up to 2^40 ns (about 18 minutes) have their own bucket,
+     * longer ones are counted in the last bucket
+     */
+    private static final int BUCKET_COUNT = 160;
+
+    private final long[] mSamples;
+
+    private final int[] mBuckets = new int[BUCKET_COUNT];
+
+    /**
+     * the index the next sample is written to
+     */
+    private int mIndex = 0;
+
+    /**
+     * the number of samples in the window
+     */
+    private int mCount = 0;
+
+    /**
+     * the sum of all samples in the window
+     */
+    private long mSum = 0L;
+
+    /**
+     * the most recent sample
+     */
+    private long mLast = 0L;
+
+    /**
+     * @param windowSize the number of samples the histogram covers
+     */
+    public TimingHistogram(int windowSize) {
+        mSamples = new long[Math.max(1, windowSize)];
+    }
+
+    /**
+     * Records the given duration, the oldest sample leaves the window if it
+     * is full.
+     *
+     * @param nanos
+     */
+    public void record(long nanos) {
+
+        if (nanos < 0L)
+            nanos = 0L;
+
+        if (mCount == mSamples.length) {
+
+            long oldest = mSamples[mIndex];
+            mBuckets[getBucket(oldest)]--;
+            mSum -= oldest;
+
+        } else {
+            mCount++;
+        }
+
+        mSamples[mIndex] = nanos;
+        mBuckets[getBucket(nanos)]++;
+        mSum += nanos;
+        mLast = nanos;
+
+        mIndex = (mIndex + 1) % mSamples.length;
+    }
+
+    /**
+     * Returns the number of samples in the window.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns the most recent sample in nanoseconds.
+     *
+     * @return
+     */
+    public long getLast() {
+        return mLast;
+    }
+
+    /**
+     * Returns the mean of the samples in the window in nanoseconds.
+     *
+     * @return
+     */
+    public long getMean() {
+
+        if (mCount == 0)
+            return 0L;
+
+        return mSum / mCount;
+    }
+
+    /**
+     * Returns the largest sample in the window in nanoseconds.
+     *
+     * @return
+     */
+    public long getMax() {
+
+        long max = 0L;
+
+        for (int i = 0; i < mCount; i++) {
+            max = Math.max(max, mSamples[i]);
+        }
+
+        return max;
+    }
+
+    /**
+     * Returns the given percentile of the samples in the window in
+     * nanoseconds, e.g. 0.99f for the 99th percentile. The value is the upper
+     * bound of the bucket the percentile falls into.
+     *
+     * @param percentile between 0 and 1
+     * @return
+     */
+    public long getPercentile(float percentile) {
+
+        if (mCount == 0)
+            return 0L;
+
+        int rank = (int) Math.ceil(Math.max(0f, Math.min(1f, percentile)) * mCount);
+        rank = Math.max(1, rank);
+
+        int seen = 0;
+
+        for (int b = 0; b < BUCKET_COUNT; b++) {
+
+            seen += mBuckets[b];
+
+            if (seen >= rank)
+                return getUpperBound(b);
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public void reset() {
+
+        Arrays.fill(mBuckets, 0);
+
+        mIndex = 0;
+        mCount = 0;
+        mSum = 0L;
+        mLast = 0L;
+    }
+
+    private static int getBucket(long nanos) {
+
+        if (nanos < 4L)
+            return (int) nanos;
+
+        int log = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (log - 2)) & 3;
+
+        return Math.min(BUCKET_COUNT - 1, (log - 1) * 4 + sub);
+    }
+
+    private static long getUpperBound(int bucket) {
+
+        if (bucket < 4)
+            return bucket;
+
+        int log = bucket / 4 + 1;
+        int sub = bucket % 4;
+
+        return ((5L + sub) << (log - 2)) - 1L;
+    }
+
+    @Override
+    public String toString() {
+        return "TimingHistogram, count: " + mCount + ", mean: " + getMean()
+                + ", p50: " + getPercentile(0.5f) + ", p99: " + getPercentile(0.99f)
+                + ", max: " + getMax();
+    }
+}
@@ -31,6 +31,23 @@ public abstract class Utils {
     @SuppressWarnings("unused")
     public final static float FLOAT_EPSILON = Float.intBitsToFloat(1);
 
+    /**
+     * Buffers used by the measuring and drawing helpers. There is one set of
+     * buffers per thread, so that charts can be rendered on background threads
+     * (e.g. offscreen) while other charts are drawn on the main thread.
+     */
+    private static final class Buffers {
+        final Rect mRect = new Rect();
+        final Paint.FontMetrics mFontMetrics = new Paint.FontMetrics();
+    }
+
+    private static final ThreadLocal<Buffers> mBuffers = new ThreadLocal<Buffers>() {
+        @Override
+        protected Buffers initialValue() {
+            return new Buffers();
+        }
+    };
+
     /**
      * initialize method, called inside the Chart.init() method.
      *
@@ -98,7 +115,6 @@ public abstract class Utils {
         return (int) paint.measureText(demoText);
     }
 
-    private static final Rect mCalcTextHeightRect = new Rect();
     /**
      * calculates the approximate height of a text, depending on a demo text
      * avoid repeated calls (e.g. inside drawing methods)
@@ -109,16 +125,14 @@ public abstract class Utils {
      */
     public static int calcTextHeight(Paint paint, String demoText) {
 
-        Rect r = mCalcTextHeightRect;
+        Rect r = mBuffers.get().mRect;
         r.set(0,0,0,0);
         paint.getTextBounds(demoText, 0, demoText.length(), r);
         return r.height();
     }
 
-    private static final Paint.FontMetrics mFontMetrics = new Paint.FontMetrics();
-
     public static float getLineHeight(Paint paint) {
-        return getLineHeight(paint, mFontMetrics);
+        return getLineHeight(paint, mBuffers.get().mFontMetrics);
     }
 
     public static float getLineHeight(Paint paint, Paint.FontMetrics fontMetrics){
@@ -127,7 +141,7 @@ public abstract class Utils {
     }
 
     public static float getLineSpacing(Paint paint) {
-        return getLineSpacing(paint, mFontMetrics);
+        return getLineSpacing(paint, mBuffers.get().mFontMetrics);
     }
 
     public static float getLineSpacing(Paint paint, Paint.FontMetrics fontMetrics){
@@ -151,7 +165,6 @@ public abstract class Utils {
         return result;
     }
 
-    private static final Rect mCalcTextSizeRect = new Rect();
     /**
      * calculates the approximate size of a text, depending on a demo text
      * avoid repeated calls (e.g. inside drawing methods)
@@ -162,7 +175,7 @@ public abstract class Utils {
      */
     private static void calcTextSize(Paint paint, String demoText, FSize outputFSize) {
 
-        Rect r = mCalcTextSizeRect;
+        Rect r = mBuffers.get().mRect;
         r.set(0,0,0,0);
         paint.getTextBounds(demoText, 0, demoText.length(), r);
         outputFSize.width = r.width();
@@ -241,8 +254,6 @@ public abstract class Utils {
         outputPoint.y = (float) (center.y + dist * Math.sin(Math.toRadians(angle)));
     }
 
-    private static final Rect mDrawableBoundsCache = new Rect();
-
     public static void drawImage(Canvas canvas,
                                  Drawable drawable,
                                  int x, int y,
@@ -252,12 +263,14 @@ public abstract class Utils {
         drawOffset.x = x - (width / 2f);
         drawOffset.y = y - (height / 2f);
 
-        drawable.copyBounds(mDrawableBoundsCache);
+        Rect bounds = mBuffers.get().mRect;
+
+        drawable.copyBounds(bounds);
         drawable.setBounds(
-                mDrawableBoundsCache.left,
-                mDrawableBoundsCache.top,
-                mDrawableBoundsCache.left + width,
-                mDrawableBoundsCache.top + width);
+                bounds.left,
+                bounds.top,
+                bounds.left + width,
+                bounds.top + width);
 
         int saveId = canvas.save();
         // translate to the correct position and draw
@@ -266,9 +279,6 @@ public abstract class Utils {
         canvas.restoreToCount(saveId);
     }
 
-    private static final Rect mDrawTextRectBuffer = new Rect();
-    private static final Paint.FontMetrics mFontMetricsBuffer = new Paint.FontMetrics();
-
     public static void drawXAxisValue(Canvas c, String text, float x, float y,
                                       Paint paint,
                                       MPPointF anchor, float angleDegrees) {
@@ -276,16 +286,20 @@ public abstract class Utils {
         float drawOffsetX = 0.f;
         float drawOffsetY = 0.f;
 
-        final float lineHeight = paint.getFontMetrics(mFontMetricsBuffer);
-        paint.getTextBounds(text, 0, text.length(), mDrawTextRectBuffer);
+        final Buffers buffers = mBuffers.get();
+        final Rect textBounds = buffers.mRect;
+        final Paint.FontMetrics fontMetrics = buffers.mFontMetrics;
+
+        final float lineHeight = paint.getFontMetrics(fontMetrics);
+        paint.getTextBounds(text, 0, text.length(), textBounds);
 
         // Android sometimes has pre-padding
-        drawOffsetX -= mDrawTextRectBuffer.left;
+        drawOffsetX -= textBounds.left;
 
         // Android does not snap the bounds to line boundaries,
         //  and draws from bottom to top.
         // And we want to normalize it.
-        drawOffsetY += -mFontMetricsBuffer.ascent;
+        drawOffsetY += -fontMetrics.ascent;
 
         // To have a consistent point of reference, we always draw left-aligned
         Paint.Align originalTextAlign = paint.getTextAlign();
@@ -294,7 +308,7 @@ public abstract class Utils {
         if (angleDegrees != 0.f) {
 
             // Move the text drawing rect in a way that it always rotates around its center
-            drawOffsetX -= mDrawTextRectBuffer.width() * 0.5f;
+            drawOffsetX -= textBounds.width() * 0.5f;
             drawOffsetY -= lineHeight * 0.5f;
 
             float translateX = x;
@@ -303,7 +317,7 @@ public abstract class Utils {
             // Move the "outer" rect relative to the anchor, assuming its centered
             if (anchor.x != 0.5f || anchor.y != 0.5f) {
                 final FSize rotatedSize = getSizeOfRotatedRectangleByDegrees(
-                        mDrawTextRectBuffer.width(),
+                        textBounds.width(),
                         lineHeight,
                         angleDegrees);
 
@@ -322,7 +336,7 @@ public abstract class Utils {
         } else {
             if (anchor.x != 0.f || anchor.y != 0.f) {
 
-                drawOffsetX -= mDrawTextRectBuffer.width() * anchor.x;
+                drawOffsetX -= textBounds.width() * anchor.x;
                 drawOffsetY -= lineHeight * anchor.y;
             }
 
@@ -0,0 +1,139 @@
+package com.github.mikephil.charting.animation;
+
+import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarDataSet;
+import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.utils.AllocationMeter;
+import com.github.mikephil.charting.utils.RadarTransformer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RadarDataAnimatorTest {
+
+    private static final long FRAME_NANOS = 16666667L;
+
+    private static final int SPOKES = 120;
+    private static final int SETS = 10;
+
+    private int mUpdates = 0;
+
+    private final RadarDataAnimator mAnimator = new RadarDataAnimator(
+            new RadarDataAnimator.AnimatorUpdateListener() {
+                @Override
+                public void onAnimationUpdate(RadarDataAnimator animator) {
+                    mUpdates++;
+                }
+            });
+
+    @Test
+    public void framesDoNotAllocate() {
+
+        RadarTransformer trans = createTransformer();
+
+        mAnimator.captureFrom(createData(1L), trans);
+        mAnimator.start(createData(7L), trans, 60L * 60L * 1000L, Easing.EaseInOutQuad);
+
+        long time = 0L;
+
+        for (int i = 0; i < 200; i++) {
+            mAnimator.onFrame(time += FRAME_NANOS);
+        }
+
+        AllocationMeter meter = new AllocationMeter();
+
+        for (int i = 0; i < 200; i++) {
+            meter.start();
+            mAnimator.onFrame(time += FRAME_NANOS);
+            meter.stop();
+        }
+
+        assertTrue(mAnimator.isRunning());
+        assertEquals(400, mUpdates);
+
+        meter.assertNoAllocations("animation frames");
+    }
+
+    @Test
+    public void movesFromTheStartToTheTarget() {
+
+        RadarTransformer trans = createTransformer();
+        RadarData from = createData(1L);
+        RadarData to = createData(7L);
+
+        mAnimator.captureFrom(from, trans);
+        mAnimator.start(to, trans, 100L, Easing.EaseInOutQuad);
+
+        long time = 0L;
+
+        mAnimator.onFrame(time);
+
+        assertEquals(0f, mAnimator.getPhase(), 0f);
+        assertEquals(getY(from, trans, 5), mAnimator.getVertices(0)[11], 0.001f);
+
+        while (mAnimator.isRunning()) {
+            mAnimator.onFrame(time += FRAME_NANOS);
+        }
+
+        assertEquals(1f, mAnimator.getPhase(), 0f);
+        assertEquals(SPOKES, mAnimator.getVertexCount(0));
+        assertEquals(getY(to, trans, 5), mAnimator.getVertices(0)[11], 0.001f);
+    }
+
+    @Test
+    public void cancelWithoutAnimationDoesNothing() {
+
+        mAnimator.cancel();
+
+        assertFalse(mAnimator.isRunning());
+        assertEquals(0, mUpdates);
+    }
+
+    private static RadarTransformer createTransformer() {
+
+        RadarTransformer trans = new RadarTransformer();
+        trans.setSpokes(SPOKES, 360f / SPOKES, 270f);
+        trans.setCenter(540f, 540f);
+
+        for (int j = 0; j < SPOKES; j++) {
+            trans.setRange(j, 0f, 100f, 500f);
+        }
+
+        return trans;
+    }
+
+    private static float getY(RadarData data, RadarTransformer trans, int spoke) {
+
+        float r = trans.getRadius(spoke, data.getDataSetByIndex(0).getEntryForIndex(spoke).getY());
+
+        return trans.getCenterY() + r * trans.getSin()[spoke];
+    }
+
+    private static RadarData createData(long seed) {
+
+        Random random = new Random(seed);
+
+        List<IRadarDataSet> dataSets = new ArrayList<>();
+
+        for (int i = 0; i < SETS; i++) {
+
+            List<RadarEntry> entries = new ArrayList<>();
+
+            for (int j = 0; j < SPOKES; j++) {
+                entries.add(new RadarEntry(random.nextFloat() * 80f + 20f));
+            }
+
+            dataSets.add(new RadarDataSet(entries, "Set " + i));
+        }
+
+        return new RadarData(dataSets);
+    }
+}
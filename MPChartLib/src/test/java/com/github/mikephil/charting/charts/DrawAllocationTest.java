@@ -0,0 +1,260 @@
+package com.github.mikephil.charting.charts;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.animation.Easing;
+import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarDataSet;
+import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.utils.AllocationMeter;
+import com.github.mikephil.charting.utils.DrawStatsCanvas;
+import com.github.mikephil.charting.utils.DrawStatsCanvas.Op;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.GraphicsMode;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Asserts that steady-state frames of the chart do not allocate, i.e. frames
+ * after the first ones that set up buffers and caches, and that they draw
+ * what the configuration asks for. Every test covers one feature: the web,
+ * filled DataSets, value labels, culled value labels, labels drawn from the
+ * label atlas and the frames of a running animation. The axis labels and the
+ * legend are drawn in all of them.
+ * <p/>
+ * The frames are drawn with the native graphics of Robolectric into a bitmap,
+ * through a DrawStatsCanvas that counts the operations. The allocations are
+ * counted by an AllocationMeter, which fails if more than one in ten frames
+ * allocated, so that the rare allocations of the JVM itself on the test
+ * thread do not.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class DrawAllocationTest {
+
+    /**
+     * frames drawn before measuring, to fill the buffers and caches
+     */
+    private static final int WARMUP_FRAMES = 200;
+
+    private static final int MEASURED_FRAMES = 200;
+
+    private static final int SIZE = 1080;
+
+    private static final int[] SPOKE_COUNTS = {5, 24, 120};
+
+    private DrawStatsCanvas mCanvas;
+
+    @Before
+    public void setUp() {
+        mCanvas = new DrawStatsCanvas();
+        mCanvas.setTarget(new Canvas(Bitmap.createBitmap(SIZE, SIZE, Bitmap.Config.ARGB_8888)));
+    }
+
+    @Test
+    public void webDoesNotAllocate() {
+
+        for (int spokes : SPOKE_COUNTS) {
+
+            String name = "web spokes=" + spokes;
+
+            assertNoAllocations(name, createChart(spokes, 10, false, false));
+
+            // the spokes of the web in a single call and the circles of the
+            // inner web
+            assertEquals(name, 1, mCanvas.getCount(Op.LINES));
+            assertTrue(name, mCanvas.getLineSegmentCount() > 0);
+            assertTrue(name, mCanvas.getCount(Op.CIRCLE) > 0);
+        }
+    }
+
+    @Test
+    public void filledDataDoesNotAllocate() {
+
+        for (int spokes : SPOKE_COUNTS) {
+
+            String name = "filled spokes=" + spokes;
+
+            assertNoAllocations(name, createChart(spokes, 10, false, false));
+            int draws = getFillCount();
+
+            assertNoAllocations(name, createChart(spokes, 10, false, true));
+
+            // a fill per DataSet, a path or a color clipped to the path
+            assertEquals(name, draws + 10, getFillCount());
+        }
+    }
+
+    @Test
+    public void valuesDoNotAllocate() {
+
+        for (int spokes : SPOKE_COUNTS) {
+
+            String name = "values spokes=" + spokes;
+
+            assertNoAllocations(name, createChart(spokes, 10, false, false));
+            int labels = mCanvas.getCount(Op.TEXT);
+
+            assertNoAllocations(name, createChart(spokes, 10, true, false));
+
+            // a label per value on top of the axis labels and the legend
+            assertEquals(name, labels + spokes * 10, mCanvas.getCount(Op.TEXT));
+        }
+    }
+
+    @Test
+    public void culledValuesDoNotAllocate() {
+
+        RadarChart chart = createChart(120, 10, true, false);
+
+        assertNoAllocations("values", chart);
+        int labels = mCanvas.getCount(Op.TEXT);
+
+        chart.setValueLabelCullingEnabled(true);
+
+        assertNoAllocations("culled values", chart);
+
+        // 1200 labels in 1080 pixels overlap, the culled ones are skipped
+        assertTrue("culled values", mCanvas.getCount(Op.TEXT) < labels);
+    }
+
+    @Test
+    public void atlasValuesDoNotAllocate() {
+
+        for (int spokes : SPOKE_COUNTS) {
+
+            String name = "atlas values spokes=" + spokes;
+            RadarChart chart = createChart(spokes, 10, true, false);
+
+            assertNoAllocations(name, chart);
+            int labels = mCanvas.getCount(Op.TEXT);
+
+            chart.setLabelAtlasEnabled(true);
+
+            assertNoAllocations(name, chart);
+
+            // the value labels are copied from the atlas instead
+            assertTrue(name, mCanvas.getCount(Op.TEXT) < labels);
+            assertTrue(name, mCanvas.getCount(Op.BITMAP) > 0);
+        }
+    }
+
+    @Test
+    public void animationDoesNotAllocate() {
+
+        for (int spokes : SPOKE_COUNTS) {
+
+            String name = "animation spokes=" + spokes;
+            RadarChart chart = createChart(spokes, 10, true, true);
+
+            // runs for twice the frames drawn below
+            chart.animateY((WARMUP_FRAMES + MEASURED_FRAMES) * 16 * 2, Easing.Linear);
+
+            for (int i = 0; i < WARMUP_FRAMES; i++) {
+                drawFrame(chart, true, null);
+            }
+
+            double area = mCanvas.getCoveredArea();
+
+            AllocationMeter meter = new AllocationMeter();
+
+            for (int i = 0; i < MEASURED_FRAMES; i++) {
+                drawFrame(chart, true, meter);
+            }
+
+            meter.assertNoAllocations(name);
+
+            // the polygons keep growing out of the center
+            assertTrue(name, chart.isAnimating());
+            assertTrue(name, mCanvas.getCoveredArea() > area);
+        }
+    }
+
+    private int getFillCount() {
+        return mCanvas.getCount(Op.PATH) + mCanvas.getCount(Op.COLOR);
+    }
+
+    /**
+     * Warms up the given chart and asserts that the measured frames do not
+     * allocate. The canvas holds the statistics of the last frame afterwards.
+     */
+    private void assertNoAllocations(String name, RadarChart chart) {
+
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            drawFrame(chart, false, null);
+        }
+
+        AllocationMeter meter = new AllocationMeter();
+
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            drawFrame(chart, false, meter);
+        }
+
+        meter.assertNoAllocations(name);
+    }
+
+    /**
+     * Draws a frame and measures onDraw(...) with the given meter, if any. If
+     * animated is true, the main looper is advanced by a frame before, outside
+     * of the measurement.
+     */
+    private void drawFrame(RadarChart chart, boolean animated, AllocationMeter meter) {
+
+        if (animated)
+            ShadowLooper.idleMainLooper(16, TimeUnit.MILLISECONDS);
+
+        mCanvas.reset();
+
+        if (meter != null)
+            meter.start();
+
+        chart.onDraw(mCanvas);
+
+        if (meter != null)
+            meter.stop();
+    }
+
+    private static RadarChart createChart(int spokes, int sets, boolean values, boolean filled) {
+
+        Random random = new Random(42L);
+
+        List<IRadarDataSet> dataSets = new ArrayList<>();
+
+        for (int i = 0; i < sets; i++) {
+
+            List<RadarEntry> entries = new ArrayList<>();
+
+            for (int j = 0; j < spokes; j++) {
+                entries.add(new RadarEntry(random.nextFloat() * 80f + 20f));
+            }
+
+            RadarDataSet set = new RadarDataSet(entries, "Set " + i);
+            set.setDrawValues(values);
+            set.setDrawFilled(filled);
+
+            dataSets.add(set);
+        }
+
+        RadarChart chart = new RadarChart(RuntimeEnvironment.getApplication());
+        chart.setData(new RadarData(dataSets));
+        chart.onSizeChanged(SIZE, SIZE, 0, 0);
+
+        return chart;
+    }
+}
@@ -0,0 +1,178 @@
+package com.github.mikephil.charting.charts;
+
+import android.graphics.Bitmap;
+import android.os.Looper;
+
+import com.github.mikephil.charting.data.IRadarDataSet;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarDataSet;
+import com.github.mikephil.charting.data.RadarEntry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.GraphicsMode;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Binds and renders items on the worker thread of the prefetcher, which has
+ * no Looper, and hands the bitmaps to charts on the main thread.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class RadarChartPrefetcherTest {
+
+    private static final int SIZE = 400;
+
+    private static final long TIMEOUT_MILLIS = 10000L;
+
+    /**
+     * true if the binder throws
+     */
+    private volatile boolean mFail = false;
+
+    private volatile int mBindCount = 0;
+
+    private volatile boolean mBoundWithLooper = false;
+
+    private final RadarChartPrefetcher.Binder<RadarData> mBinder = new RadarChartPrefetcher.Binder<RadarData>() {
+        @Override
+        public void onBind(RadarChart chart, RadarData item) {
+
+            mBindCount++;
+            mBoundWithLooper |= Looper.myLooper() != null;
+
+            if (mFail)
+                throw new IllegalStateException("bind failed");
+
+            chart.setData(item);
+        }
+    };
+
+    @Test
+    public void rendersOnWorkerThread() {
+
+        RadarChartPrefetcher<RadarData> prefetcher = createPrefetcher();
+        RadarChart chart = new RadarChart(RuntimeEnvironment.getApplication());
+
+        prefetcher.prefetch(1L, createData(), SIZE, SIZE);
+
+        // the bitmap is only handed over on the main thread
+        assertFalse(prefetcher.attach(chart, 1L));
+
+        awaitBitmap(chart);
+
+        Bitmap bitmap = chart.getOffscreenBitmap();
+
+        assertEquals(SIZE, bitmap.getWidth());
+        assertEquals(SIZE, bitmap.getHeight());
+        assertEquals(1, mBindCount);
+        assertFalse(mBoundWithLooper);
+
+        prefetcher.detach(chart);
+
+        assertNull(chart.getOffscreenBitmap());
+        assertEquals(1, prefetcher.getBitmapPool().size());
+
+        prefetcher.shutdown();
+    }
+
+    @Test
+    public void failedRenderingReleasesBitmap() {
+
+        RadarChartPrefetcher<RadarData> prefetcher = createPrefetcher();
+        RadarChart chart = new RadarChart(RuntimeEnvironment.getApplication());
+
+        mFail = true;
+
+        prefetcher.prefetch(1L, createData(), SIZE, SIZE);
+        assertFalse(prefetcher.attach(chart, 1L));
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+        while (prefetcher.getBitmapPool().size() == 0) {
+            assertTrue("bitmap not released", System.currentTimeMillis() < deadline);
+            idle();
+        }
+
+        // the chart keeps drawing itself
+        assertNull(chart.getOffscreenBitmap());
+        assertEquals(1, mBindCount);
+
+        // the failed item can be requested again
+        mFail = false;
+
+        prefetcher.prefetch(1L, createData(), SIZE, SIZE);
+        assertFalse(prefetcher.attach(chart, 1L));
+
+        awaitBitmap(chart);
+
+        assertEquals(2, mBindCount);
+        assertEquals(0, prefetcher.getBitmapPool().size());
+
+        prefetcher.shutdown();
+    }
+
+    private RadarChartPrefetcher<RadarData> createPrefetcher() {
+        return new RadarChartPrefetcher<>(RuntimeEnvironment.getApplication(), mBinder, 4);
+    }
+
+    /**
+     * Runs the main looper until the given chart received a bitmap.
+     */
+    private static void awaitBitmap(RadarChart chart) {
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+        while (chart.getOffscreenBitmap() == null) {
+            assertTrue("no bitmap rendered", System.currentTimeMillis() < deadline);
+            idle();
+        }
+
+        assertNotNull(chart.getOffscreenBitmap());
+    }
+
+    private static void idle() {
+
+        ShadowLooper.idleMainLooper();
+
+        try {
+            Thread.sleep(10L);
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static RadarData createData() {
+
+        Random random = new Random(42L);
+
+        List<IRadarDataSet> dataSets = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+
+            List<RadarEntry> entries = new ArrayList<>();
+
+            for (int j = 0; j < 8; j++) {
+                entries.add(new RadarEntry(random.nextFloat() * 80f + 20f));
+            }
+
+            dataSets.add(new RadarDataSet(entries, "Set " + i));
+        }
+
+        return new RadarData(dataSets);
+    }
+}
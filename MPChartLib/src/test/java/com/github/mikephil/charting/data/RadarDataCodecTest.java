@@ -0,0 +1,113 @@
+package com.github.mikephil.charting.data;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class RadarDataCodecTest {
+
+    @Test
+    public void streamRoundTrip() throws IOException {
+
+        RadarData data = new RadarData(Arrays.<IRadarDataSet>asList(
+                createSet("A", 1f, 2f, 3f), createSet("B", 4f, 5f, 6f)));
+
+        RadarData read = RadarDataCodec.read(new DataInputStream(
+                new ByteArrayInputStream(encode(data))));
+
+        assertEquals(2, read.getDataSetCount());
+
+        for (int i = 0; i < 2; i++) {
+
+            IRadarDataSet expected = data.getDataSetByIndex(i);
+            IRadarDataSet set = read.getDataSetByIndex(i);
+
+            assertEquals(expected.getLabel(), set.getLabel());
+            assertEquals(3, set.getEntryCount());
+
+            for (int j = 0; j < 3; j++) {
+                assertEquals(expected.getYForIndex(j), set.getYForIndex(j), 0f);
+            }
+        }
+    }
+
+    @Test
+    public void streamRoundTripWithDifferentEntryCounts() throws IOException {
+
+        RadarData data = new RadarData(Arrays.<IRadarDataSet>asList(
+                createSet("A", 1f, 2f), createSet("B", 4f, 5f, 6f)));
+
+        RadarData read = RadarDataCodec.read(new DataInputStream(
+                new ByteArrayInputStream(encode(data))));
+
+        assertEquals(2, read.getDataSetByIndex(0).getEntryCount());
+        assertEquals(3, read.getDataSetByIndex(1).getEntryCount());
+        assertEquals(6f, read.getDataSetByIndex(1).getYForIndex(2), 0f);
+    }
+
+    /**
+     * A truncated stream with huge counts in its header must fail with an
+     * IOException instead of allocating memory for the counts.
+     */
+    @Test(expected = IOException.class)
+    public void truncatedStreamWithHugeCountsThrows() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(0x52444331);
+        out.writeInt(1);
+        out.writeInt(Integer.MAX_VALUE / 4);
+        out.writeInt(4);
+        out.writeInt(-1);
+        out.writeInt(4);
+        out.writeFloat(1f);
+
+        RadarDataCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedStreamWithHugeEntryCountThrows() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(0x52444331);
+        out.writeInt(1);
+        out.writeInt(1);
+        out.writeInt(-1);
+        out.writeInt(-1);
+        out.writeInt(Integer.MAX_VALUE);
+        out.writeFloat(1f);
+
+        RadarDataCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private static byte[] encode(RadarData data) throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RadarDataCodec.write(data, new DataOutputStream(bytes));
+
+        return bytes.toByteArray();
+    }
+
+    private static RadarDataSet createSet(String label, float... values) {
+
+        List<RadarEntry> entries = new ArrayList<>();
+
+        for (float value : values) {
+            entries.add(new RadarEntry(value));
+        }
+
+        return new RadarDataSet(entries, label);
+    }
+}
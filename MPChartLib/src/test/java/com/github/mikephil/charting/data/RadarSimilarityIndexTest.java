@@ -0,0 +1,89 @@
+package com.github.mikephil.charting.data;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RadarSimilarityIndexTest {
+
+    private static final int SPOKES = 8;
+
+    @Test
+    public void removeRebuildsAmortized() {
+
+        RadarSimilarityIndex index = createIndex(10000);
+
+        int rebuilds = index.getRebuildCount();
+
+        for (int id = 0; id < 9000; id++) {
+            index.remove(id);
+        }
+
+        assertEquals(1000, index.size());
+
+        // a rebuild per quarter of the remaining profiles: 9 rebuilds for
+        // shrinking from 10000 to 1000 profiles, not one per remove
+        int removeRebuilds = index.getRebuildCount() - rebuilds;
+        assertTrue("rebuilds: " + removeRebuilds, removeRebuilds <= 10);
+    }
+
+    @Test
+    public void queryMatchesLinearScanAfterRemoves() {
+
+        RadarSimilarityIndex index = createIndex(2000);
+        Random random = new Random(7L);
+
+        for (int id = 0; id < 2000; id += 3) {
+            index.remove(id);
+        }
+
+        float[] query = new float[SPOKES];
+        int[] ids = new int[10];
+        int[] expectedIds = new int[10];
+        float[] distances = new float[10];
+        float[] expectedDistances = new float[10];
+
+        for (int i = 0; i < 50; i++) {
+
+            for (int j = 0; j < SPOKES; j++) {
+                query[j] = random.nextFloat() * 100f;
+            }
+
+            assertEquals(10, index.query(query, 10, ids, distances));
+            assertEquals(10, index.linearScan(query, 10, expectedIds, expectedDistances));
+
+            assertArrayEquals(expectedDistances, distances, 0f);
+
+            for (int id : ids) {
+                assertTrue("removed id " + id + " found", id % 3 != 0);
+            }
+        }
+    }
+
+    private static RadarSimilarityIndex createIndex(int size) {
+
+        float[] min = new float[SPOKES];
+        float[] max = new float[SPOKES];
+        Arrays.fill(max, 100f);
+
+        RadarSimilarityIndex index = new RadarSimilarityIndex(SPOKES, min, max);
+        Random random = new Random(42L);
+        float[] values = new float[SPOKES];
+
+        for (int i = 0; i < size; i++) {
+
+            for (int j = 0; j < SPOKES; j++) {
+                values[j] = random.nextFloat() * 100f;
+            }
+
+            index.insert(values);
+        }
+
+        return index;
+    }
+}
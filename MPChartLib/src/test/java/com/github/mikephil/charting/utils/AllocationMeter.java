@@ -0,0 +1,103 @@
+package com.github.mikephil.charting.utils;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Counts the bytes allocated by the current thread between start() and
+ * stop(), with the ThreadMXBean of the JVM. Only the code between start() and
+ * stop() is measured, so that the setup of every run (e.g. advancing the main
+ * looper) can be left out.
+ */
+public class AllocationMeter {
+
+    private final com.sun.management.ThreadMXBean mThreadBean;
+
+    private final long mThreadId = Thread.currentThread().getId();
+
+    /**
+     * bytes allocated by reading the counter twice
+     */
+    private final long mOverhead;
+
+    private long mStart;
+    private long mBytes;
+    private int mRuns;
+
+    /**
+     * the number of runs that allocated anything
+     */
+    private int mAllocatingRuns;
+
+    public AllocationMeter() {
+
+        mThreadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        mThreadBean.setThreadAllocatedMemoryEnabled(true);
+
+        long overhead = Long.MAX_VALUE;
+
+        for (int i = 0; i < 100; i++) {
+            long start = mThreadBean.getThreadAllocatedBytes(mThreadId);
+            overhead = Math.min(overhead, mThreadBean.getThreadAllocatedBytes(mThreadId) - start);
+        }
+
+        mOverhead = overhead;
+    }
+
+    /**
+     * Clears the bytes and runs counted so far.
+     */
+    public void reset() {
+        mBytes = 0L;
+        mRuns = 0;
+        mAllocatingRuns = 0;
+    }
+
+    public void start() {
+        mStart = mThreadBean.getThreadAllocatedBytes(mThreadId);
+    }
+
+    public void stop() {
+
+        long bytes = mThreadBean.getThreadAllocatedBytes(mThreadId) - mStart - mOverhead;
+
+        if (bytes > 0L) {
+            mBytes += bytes;
+            mAllocatingRuns++;
+        }
+
+        mRuns++;
+    }
+
+    /**
+     * Returns the bytes allocated by all runs since the last reset().
+     *
+     * @return
+     */
+    public long getBytes() {
+        return mBytes;
+    }
+
+    /**
+     * Returns the number of runs since the last reset() that allocated.
+     *
+     * @return
+     */
+    public int getAllocatingRuns() {
+        return mAllocatingRuns;
+    }
+
+    /**
+     * Asserts that at most one in ten runs since the last reset() allocated.
+     * Code that allocates in every run, or in every few runs, fails. The JVM
+     * itself allocates a few hundred bytes on the measured thread now and
+     * then while it compiles the measured code, those single runs do not.
+     *
+     * @param name
+     */
+    public void assertNoAllocations(String name) {
+        assertTrue(name + ": " + mAllocatingRuns + " of " + mRuns + " runs allocated "
+                + mBytes + " bytes", mAllocatingRuns <= mRuns / 10);
+    }
+}